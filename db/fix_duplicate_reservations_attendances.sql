@@ -0,0 +1,89 @@
+-- fusiona las reservaciones y asistencias repetidas de un participante en una
+-- misma actividad, requisito para los indices unicos de la migracion V9
+--
+-- se ejecuta manualmente, una sola vez y antes de aplicar V9. Conviene
+-- revisar primero los repetidos con las consultas de la seccion 1 y respaldar
+-- ambas tablas
+--
+-- si V9 ya fallo por los repetidos, despues de las secciones 1 a 3 se
+-- eliminan con la seccion 4 los indices que alcanzo a crear, se ejecuta
+-- flyway repair para quitar la migracion fallida del historial y se vuelve a
+-- migrar
+
+-- 1. revision de los repetidos
+
+SELECT `activity_id`, `participant_id`, COUNT(*) AS `total`
+FROM `reservation`
+GROUP BY `activity_id`, `participant_id`
+HAVING COUNT(*) > 1;
+
+SELECT `activity_id`, `participant_id`, COUNT(*) AS `total`,
+       MIN(`entry_time`) AS `first_entry`, MAX(`exit_time`) AS `last_exit`
+FROM `attendance`
+GROUP BY `activity_id`, `participant_id`
+HAVING COUNT(*) > 1;
+
+START TRANSACTION;
+
+-- 2. reservaciones: se conserva la mas antigua y, si alguna de las repetidas
+-- registro la asistencia al taller, se conserva la primera marca
+
+UPDATE `reservation` r
+  JOIN (
+    SELECT `activity_id`, `participant_id`, MIN(`attended_date_time`) AS `attended_date_time`
+    FROM `reservation`
+    GROUP BY `activity_id`, `participant_id`
+    HAVING COUNT(*) > 1
+  ) merged
+    ON merged.`activity_id` = r.`activity_id`
+   AND merged.`participant_id` = r.`participant_id`
+SET r.`attended_date_time` = merged.`attended_date_time`;
+
+DELETE r FROM `reservation` r
+  JOIN `reservation` older
+    ON older.`activity_id` = r.`activity_id`
+   AND older.`participant_id` = r.`participant_id`
+   AND (older.`created_at` < r.`created_at`
+        OR (older.`created_at` = r.`created_at` AND older.`id` < r.`id`));
+
+-- 3. asistencias: se conserva la mas antigua con la primera entrada y la
+-- ultima salida registradas entre todas las repetidas
+
+UPDATE `attendance` a
+  JOIN (
+    SELECT `activity_id`, `participant_id`,
+           MIN(`entry_time`) AS `entry_time`, MAX(`exit_time`) AS `exit_time`
+    FROM `attendance`
+    GROUP BY `activity_id`, `participant_id`
+    HAVING COUNT(*) > 1
+  ) merged
+    ON merged.`activity_id` = a.`activity_id`
+   AND merged.`participant_id` = a.`participant_id`
+SET a.`entry_time` = merged.`entry_time`,
+    a.`exit_time` = merged.`exit_time`;
+
+DELETE a FROM `attendance` a
+  JOIN `attendance` older
+    ON older.`participant_id` = a.`participant_id`
+   AND older.`activity_id` = a.`activity_id`
+   AND (older.`created_at` < a.`created_at`
+        OR (older.`created_at` = a.`created_at` AND older.`id` < a.`id`));
+
+COMMIT;
+
+-- 4. solo si V9 fallo: indices de V9 que alcanzaron a crearse. Se elimina
+-- unicamente cada indice que aparezca en el resultado, ya que MySQL no admite
+-- DROP INDEX IF EXISTS
+
+SELECT DISTINCT `TABLE_NAME`, `INDEX_NAME`
+FROM `information_schema`.`STATISTICS`
+WHERE `TABLE_SCHEMA` = DATABASE()
+  AND `INDEX_NAME` IN ('UK_reservation_activity_participant', 'IDX_reservation_participant_activity',
+                       'UK_attendance_participant_activity', 'IDX_activity_classroom_schedule');
+
+-- DROP INDEX `UK_reservation_activity_participant` ON `reservation`;
+-- DROP INDEX `IDX_reservation_participant_activity` ON `reservation`;
+-- DROP INDEX `UK_attendance_participant_activity` ON `attendance`;
+-- DROP INDEX `IDX_activity_classroom_schedule` ON `activity`;
+
+-- luego: mvn flyway:repair y mvn flyway:migrate (o reiniciar la aplicacion)
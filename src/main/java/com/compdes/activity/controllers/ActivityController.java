@@ -4,20 +4,27 @@ import com.compdes.activity.models.dto.request.UpdateCapacityActivityDTO;
 import org.springframework.web.bind.annotation.*;
 
 import com.compdes.activity.mappers.ActivityMapper;
+import com.compdes.activity.models.dto.internal.ActivityCatalogueSnapshotDTO;
 import com.compdes.activity.models.dto.request.CreateActivityDTO;
 import com.compdes.activity.models.dto.request.UpdateActivityDTO;
 import com.compdes.activity.models.dto.response.ActivityDTO;
+import com.compdes.activity.services.ActivityCatalogueService;
 import com.compdes.activity.services.ActivityService;
 import com.compdes.common.exceptions.NotFoundException;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 
-import java.util.List;
-
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 @RestController
@@ -26,14 +33,34 @@ import org.springframework.security.access.prepost.PreAuthorize;
 public class ActivityController {
     private final ActivityService activityService;
     private final ActivityMapper activityMapper;
+    private final ActivityCatalogueService activityCatalogueService;
 
-    @Operation(summary = "Obtiene todas las actividades", responses = {
-            @ApiResponse(responseCode = "200", description = "Lista de actividades obtenida exitosamente"),
+    @Operation(summary = "Obtiene todas las actividades", description = "Devuelve el catálogo precalculado. "
+            + "Responde `304` si el `If-None-Match` coincide con el `ETag` actual y envía el contenido comprimido si el cliente acepta gzip.", responses = {
+            @ApiResponse(responseCode = "200", description = "Lista de actividades obtenida exitosamente",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = ActivityDTO.class)))),
+            @ApiResponse(responseCode = "304", description = "El catálogo no cambió desde la última consulta"),
     })
     @GetMapping("/all")
-    @ResponseStatus(HttpStatus.OK)
-    public List<ActivityDTO> getAllActivities() {
-        return activityMapper.toActivityDTOList(activityService.getAllActivities());
+    public ResponseEntity<byte[]> getAllActivities(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ActivityCatalogueSnapshotDTO catalogue = activityCatalogueService.getSnapshot();
+        boolean notModified = matchesEtag(ifNoneMatch, catalogue.getEtag());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(catalogue.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (notModified) {
+            return response.build();
+        }
+        if (acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(catalogue.getGzipJson());
+        }
+        return response.contentType(MediaType.APPLICATION_JSON).body(catalogue.getJson());
     }
 
     @Operation(summary = "Crear nueva actividad", responses = {
@@ -97,4 +124,24 @@ public class ActivityController {
         activityService.updateCapacityActivity(id, updateCapacityActivityDTO);
     }
 
+    /**
+     * Verifica si alguno de los ETag enviados por el cliente coincide con el
+     * actual, ignorando el prefijo de ETag debil
+     */
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String current = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,38 @@
+package com.compdes.activity.events.listeners;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.compdes.activity.services.ActivityCatalogueService;
+import com.compdes.reservations.events.ReservationSeatsChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Listener que mantiene actualizados los cupos reservados que muestra el
+ * catálogo público de actividades.
+ * 
+ * Escucha {@link ReservationSeatsChangedEvent} una vez confirmada la
+ * transacción que lo publicó, por lo que las reservaciones revertidas no
+ * invalidan el catálogo.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityCatalogueListener {
+
+    private final ActivityCatalogueService activityCatalogueService;
+
+    /**
+     * Marca el catálogo como desactualizado al cambiar los cupos de un taller.
+     * 
+     * @param event evento con el taller y la variación de cupos
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationSeatsChanged(ReservationSeatsChangedEvent event) {
+        activityCatalogueService.invalidateSeats();
+    }
+}
@@ -7,12 +7,15 @@ import com.compdes.activity.models.entities.Activity;
 import java.util.List;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface ActivityMapper {
 
     public ActivityDTO toActivityDTO(Activity activity);
 
+    // el contador de reservaciones lo mantiene ReservationService, nunca el cliente
+    @Mapping(target = "reservedCount", ignore = true)
     public Activity toActivity(CreateActivityDTO createActivityDTO);
 
     public List<ActivityDTO> toActivityDTOList(List<Activity> activities);
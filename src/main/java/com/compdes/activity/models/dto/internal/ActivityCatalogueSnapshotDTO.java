@@ -0,0 +1,39 @@
+package com.compdes.activity.models.dto.internal;
+
+import lombok.Value;
+
+/**
+ * DTO interno con el catálogo público de actividades ya serializado.
+ *
+ * Contiene el JSON del listado y su versión comprimida con gzip, junto con el
+ * ETag calculado a partir del contenido, de modo que cada petición solo copia
+ * bytes ya preparados.
+ *
+ * Este objeto se utiliza exclusivamente entre capas del sistema y no está
+ * diseñado para ser expuesto directamente en la API pública.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class ActivityCatalogueSnapshotDTO {
+
+    /**
+     * Número de la reconstrucción que generó el catálogo.
+     */
+    long version;
+
+    /**
+     * ETag débil del contenido, común a la versión comprimida y sin comprimir.
+     */
+    String etag;
+
+    byte[] json;
+    byte[] gzipJson;
+
+    /**
+     * Instante de construcción según {@link System#nanoTime()}.
+     */
+    long builtAtNanos;
+}
@@ -17,4 +17,5 @@ public class ActivityDTO {
     private LocalDateTime endScheduledDate;
     private ResponseClassroomDTO classroom;
     private Integer capacity;
+    private Integer reservedCount;
 }
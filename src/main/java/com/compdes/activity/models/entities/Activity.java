@@ -36,4 +36,11 @@ public class Activity extends Auditor {
     private Classroom classroom;
 
     private int capacity;
+
+    /**
+     * Cupos reservados. Solo se modifica mediante las sentencias condicionales
+     * de {@code ActivityRepository}, por lo que Hibernate nunca lo escribe.
+     */
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int reservedCount;
 }
@@ -0,0 +1,18 @@
+package com.compdes.activity.models.report;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección con el horario y el salón de una actividad, usada para cargar el
+ * índice de horarios sin leer las entidades completas.
+ */
+public interface ActivityScheduleRow {
+
+    String getId();
+
+    String getClassroomId();
+
+    LocalDateTime getInitScheduledDate();
+
+    LocalDateTime getEndScheduledDate();
+}
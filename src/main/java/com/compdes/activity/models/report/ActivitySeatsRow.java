@@ -0,0 +1,14 @@
+package com.compdes.activity.models.report;
+
+/**
+ * Proyección con los cupos reservados de una actividad y la capacidad de su
+ * salón, usada para publicar la disponibilidad sin cargar la entidad.
+ */
+public interface ActivitySeatsRow {
+
+    String getId();
+
+    Integer getReservedCount();
+
+    Integer getCapacity();
+}
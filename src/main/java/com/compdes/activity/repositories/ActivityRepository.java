@@ -1,11 +1,18 @@
 package com.compdes.activity.repositories;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.compdes.activity.models.entities.Activity;
+import com.compdes.activity.models.report.ActivityScheduleRow;
+import com.compdes.activity.models.report.ActivitySeatsRow;
 
 @Repository
 public interface ActivityRepository extends JpaRepository<Activity,String> {
@@ -21,4 +28,94 @@ public interface ActivityRepository extends JpaRepository<Activity,String> {
             LocalDateTime initScheduledDate,
             LocalDateTime endScheduledDate
     );
+
+    /**
+     * Ocupa un cupo de la actividad solo si aún hay espacio en su salón.
+     * 
+     * La comparación y el incremento ocurren en una sola sentencia que bloquea
+     * la fila de la actividad hasta el fin de la transacción, por lo que las
+     * reservaciones concurrentes se serializan y nunca superan la capacidad.
+     * 
+     * @param activityId ID de la actividad
+     * @return 1 si se ocupó el cupo, 0 si la actividad está llena
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE activity a
+            JOIN classroom c ON c.id = a.classroom_id
+            SET a.reserved_count = a.reserved_count + 1
+            WHERE a.id = :activityId
+              AND a.reserved_count < c.capacity
+            """, nativeQuery = true)
+    int incrementReservedCountIfAvailable(@Param("activityId") String activityId);
+
+    /**
+     * Libera un cupo de la actividad.
+     * 
+     * @param activityId ID de la actividad
+     * @return cantidad de filas actualizadas
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE activity SET reserved_count = reserved_count - 1
+            WHERE id = :activityId AND reserved_count > 0
+            """, nativeQuery = true)
+    int decrementReservedCount(@Param("activityId") String activityId);
+
+    /**
+     * Bloquea la fila de la actividad y obtiene los cupos que le quedan según
+     * la capacidad de su salón.
+     * 
+     * Debe invocarse dentro de una transacción; el bloqueo se mantiene hasta su
+     * fin.
+     * 
+     * @param activityId ID de la actividad
+     * @return cupos disponibles, o {@code null} si la actividad no existe
+     */
+    @Query(value = """
+            SELECT c.capacity - a.reserved_count
+            FROM activity a
+            JOIN classroom c ON c.id = a.classroom_id
+            WHERE a.id = :activityId
+            FOR UPDATE
+            """, nativeQuery = true)
+    Integer lockAvailableSeats(@Param("activityId") String activityId);
+
+    /**
+     * Suma cupos reservados a la actividad. Solo debe usarse después de
+     * {@link #lockAvailableSeats(String)}, dentro de la misma transacción.
+     * 
+     * @param activityId ID de la actividad
+     * @param seats      cupos ocupados
+     * @return cantidad de filas actualizadas
+     */
+    @Modifying
+    @Query(value = "UPDATE activity SET reserved_count = reserved_count + :seats WHERE id = :activityId", nativeQuery = true)
+    int addReservedCount(@Param("activityId") String activityId, @Param("seats") int seats);
+
+    /**
+     * Obtiene el salón y el horario de todas las actividades.
+     * 
+     * @return una fila por actividad
+     */
+    @Query("""
+            SELECT a.id AS id, a.classroom.id AS classroomId,
+                   a.initScheduledDate AS initScheduledDate, a.endScheduledDate AS endScheduledDate
+            FROM Activity a
+            """)
+    List<ActivityScheduleRow> findAllSchedules();
+
+    /**
+     * Obtiene los cupos reservados y la capacidad del salón de las actividades
+     * indicadas.
+     * 
+     * @param ids IDs de las actividades
+     * @return una fila por actividad encontrada
+     */
+    @Query("""
+            SELECT a.id AS id, a.reservedCount AS reservedCount, a.classroom.capacity AS capacity
+            FROM Activity a
+            WHERE a.id IN :ids
+            """)
+    List<ActivitySeatsRow> findSeatsByIdIn(@Param("ids") Collection<String> ids);
 }
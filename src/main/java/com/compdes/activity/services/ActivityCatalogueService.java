@@ -0,0 +1,178 @@
+package com.compdes.activity.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import com.compdes.activity.mappers.ActivityMapper;
+import com.compdes.activity.models.dto.internal.ActivityCatalogueSnapshotDTO;
+import com.compdes.activity.models.dto.response.ActivityDTO;
+import com.compdes.activity.repositories.ActivityRepository;
+import com.compdes.common.utils.TransactionCallbacks;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que mantiene el catálogo público de actividades precalculado.
+ *
+ * El listado se consulta, se mapea a {@link ActivityDTO}, se serializa y se
+ * comprime una sola vez; las peticiones reciben esos bytes directamente. El
+ * catálogo se reconstruye en la siguiente petición después de que se confirma
+ * un cambio:
+ * <ul>
+ * <li>Cambios de actividades o salones: el siguiente acceso reconstruye de
+ * inmediato.</li>
+ * <li>Cambios de cupos reservados: se reconstruye como máximo una vez cada
+ * {@code activity.catalogue.seats-refresh-interval-ms}, para que la apertura
+ * de un taller concurrido no provoque una reconstrucción por reservación.</li>
+ * </ul>
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Service
+@Slf4j
+public class ActivityCatalogueService {
+
+    private final ActivityRepository activityRepository;
+    private final ActivityMapper activityMapper;
+    private final ObjectMapper objectMapper;
+    private final long seatsRefreshIntervalNanos;
+
+    private volatile ActivityCatalogueSnapshotDTO snapshot;
+
+    /**
+     * Indica que el catálogo tiene cambios de cupos pendientes de publicar.
+     */
+    private volatile boolean seatsChanged = false;
+
+    /**
+     * Indica que el catálogo tiene cambios que deben publicarse de inmediato.
+     */
+    private volatile boolean contentChanged = false;
+
+    private long version = 0;
+
+    public ActivityCatalogueService(ActivityRepository activityRepository, ActivityMapper activityMapper,
+            ObjectMapper objectMapper,
+            @Value("${activity.catalogue.seats-refresh-interval-ms:2000}") long seatsRefreshIntervalMs) {
+        this.activityRepository = activityRepository;
+        this.activityMapper = activityMapper;
+        this.objectMapper = objectMapper;
+        this.seatsRefreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(seatsRefreshIntervalMs);
+    }
+
+    /**
+     * Obtiene el catálogo actual, reconstruyéndolo si hay cambios pendientes.
+     *
+     * Si varias peticiones encuentran el catálogo desactualizado, solo una lo
+     * reconstruye y las demás reciben el resultado.
+     *
+     * @return el catálogo serializado
+     */
+    public ActivityCatalogueSnapshotDTO getSnapshot() {
+        ActivityCatalogueSnapshotDTO current = snapshot;
+        if (current != null && !needsRebuild(current)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && !needsRebuild(current)) {
+                return current;
+            }
+            try {
+                return rebuild();
+            } catch (RuntimeException e) {
+                if (current == null) {
+                    throw e;
+                }
+                // se sigue sirviendo el catalogo anterior hasta el proximo intento
+                log.error("No se pudo reconstruir el catálogo de actividades", e);
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Marca el catálogo para reconstruirse al confirmar la transacción actual.
+     * Debe invocarse en cada cambio de actividades o de los salones que
+     * muestran.
+     */
+    public void invalidate() {
+        TransactionCallbacks.runAfterCommit(() -> contentChanged = true);
+    }
+
+    /**
+     * Marca el catálogo como desactualizado por un cambio de cupos reservados.
+     * Debe invocarse cuando la transacción ya fue confirmada.
+     */
+    public void invalidateSeats() {
+        seatsChanged = true;
+    }
+
+    private boolean needsRebuild(ActivityCatalogueSnapshotDTO current) {
+        return contentChanged
+                || (seatsChanged && System.nanoTime() - current.getBuiltAtNanos() >= seatsRefreshIntervalNanos);
+    }
+
+    /**
+     * Consulta, serializa y comprime el listado de actividades.
+     *
+     * Las marcas se limpian antes de consultar, así un cambio confirmado
+     * durante la reconstrucción vuelve a marcar el catálogo.
+     *
+     * @return el nuevo catálogo
+     */
+    private ActivityCatalogueSnapshotDTO rebuild() {
+        boolean previousContentChanged = contentChanged;
+        boolean previousSeatsChanged = seatsChanged;
+        contentChanged = false;
+        seatsChanged = false;
+        try {
+            List<ActivityDTO> activities = activityMapper.toActivityDTOList(activityRepository.findAll());
+            byte[] json = objectMapper.writeValueAsBytes(activities);
+            String etag = "W/\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+            ActivityCatalogueSnapshotDTO rebuilt = new ActivityCatalogueSnapshotDTO(++version, etag, json,
+                    gzip(json), System.nanoTime());
+            snapshot = rebuilt;
+            log.debug("Catálogo de actividades reconstruido: versión {}, {} actividades, {} bytes ({} con gzip)",
+                    rebuilt.getVersion(), activities.size(), json.length, rebuilt.getGzipJson().length);
+            return rebuilt;
+        } catch (JsonProcessingException e) {
+            restoreFlags(previousContentChanged, previousSeatsChanged);
+            throw new IllegalStateException("No se pudo serializar el catálogo de actividades", e);
+        } catch (RuntimeException e) {
+            restoreFlags(previousContentChanged, previousSeatsChanged);
+            throw e;
+        }
+    }
+
+    private void restoreFlags(boolean previousContentChanged, boolean previousSeatsChanged) {
+        if (previousContentChanged) {
+            contentChanged = true;
+        }
+        if (previousSeatsChanged) {
+            seatsChanged = true;
+        }
+    }
+
+    private byte[] gzip(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(content.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+}
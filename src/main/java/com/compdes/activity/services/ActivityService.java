@@ -13,6 +13,7 @@ import com.compdes.common.exceptions.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
@@ -24,6 +25,8 @@ public class ActivityService {
     private final ActivityRepository activityRepository;
     private final ClassroomService classroomService;
     private final ActivityMapper activityMapper;
+    private final ScheduleIndexService scheduleIndexService;
+    private final ActivityCatalogueService activityCatalogueService;
 
     /**
      * Obtiene todas las actividades
@@ -46,17 +49,21 @@ public class ActivityService {
         if (createActivityDTO.getInitScheduledDate().isAfter(createActivityDTO.getEndScheduledDate())) {
             throw new IllegalStateException("La fecha de inicio debe ser anterior a la fecha de fin.");
         }
-        if (activityRepository.existsByClassroomIdAndInitScheduledDateLessThanEqualAndEndScheduledDateGreaterThanEqual(
+        if (isClassroomBooked(
                 createActivityDTO.getClassroomId(),
                 createActivityDTO.getInitScheduledDate(),
-                createActivityDTO.getEndScheduledDate())) {
+                createActivityDTO.getEndScheduledDate(),
+                null)) {
             throw new IllegalStateException(
                     "Ya existe una actividad programada en este horario para el aula especificada.");
         }
         Activity activity = activityMapper.toActivity(createActivityDTO);
         Classroom classroom = classroomService.getClassroomById(createActivityDTO.getClassroomId());
         activity.setClassroom(classroom);
-        return activityRepository.save(activity);
+        Activity savedActivity = activityRepository.save(activity);
+        scheduleIndexService.activitySaved(savedActivity);
+        activityCatalogueService.invalidate();
+        return savedActivity;
     }
 
     /**
@@ -75,12 +82,11 @@ public class ActivityService {
         if (updateActivityDTO.getInitScheduledDate().isAfter(updateActivityDTO.getEndScheduledDate())) {
             throw new IllegalStateException("La fecha de inicio debe ser anterior a la fecha de fin.");
         }
-        if (activityRepository
-                .existsByIdNotAndClassroomIdAndInitScheduledDateLessThanEqualAndEndScheduledDateGreaterThanEqual(
-                        existingActivity.getId(),
-                        existingActivity.getClassroom().getId(),
-                        updateActivityDTO.getInitScheduledDate(),
-                        updateActivityDTO.getEndScheduledDate())) {
+        if (isClassroomBooked(
+                existingActivity.getClassroom().getId(),
+                updateActivityDTO.getInitScheduledDate(),
+                updateActivityDTO.getEndScheduledDate(),
+                existingActivity.getId())) {
             throw new IllegalStateException(
                     "Ya existe una actividad programada en este horario para el aula especificada."
                             + " Por favor, verifica las fechas y horarios de la actividad.");
@@ -94,7 +100,10 @@ public class ActivityService {
         existingActivity.setEndScheduledDate(updateActivityDTO.getEndScheduledDate());
         existingActivity.setClassroom(classroom);
 
-        return activityRepository.save(existingActivity);
+        Activity savedActivity = activityRepository.save(existingActivity);
+        scheduleIndexService.activitySaved(savedActivity);
+        activityCatalogueService.invalidate();
+        return savedActivity;
     }
 
     /**
@@ -106,6 +115,8 @@ public class ActivityService {
         Activity existingActivity = activityRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Actividad no encontrada por medio del ID: " + id));
         activityRepository.delete(existingActivity);
+        scheduleIndexService.activityDeleted(id);
+        activityCatalogueService.invalidate();
     }
 
     /**
@@ -127,6 +138,27 @@ public class ActivityService {
             throw new IllegalStateException("La capacidad debe ser un numero positivo");
         }
         activity.setCapacity(updateCapacityActivityDTO.getCapacity());
-        return activityRepository.save(activity);
+        Activity savedActivity = activityRepository.save(activity);
+        activityCatalogueService.invalidate();
+        return savedActivity;
+    }
+
+    /**
+     * Verifica si el salon ya tiene una actividad que cubre el horario, usando
+     * el indice de horarios cuando esta cargado
+     */
+    private boolean isClassroomBooked(String classroomId, LocalDateTime start, LocalDateTime end,
+            String excludeActivityId) {
+        if (scheduleIndexService.isReady()) {
+            return scheduleIndexService.isClassroomBooked(classroomId, start, end, excludeActivityId);
+        }
+        if (excludeActivityId == null) {
+            return activityRepository
+                    .existsByClassroomIdAndInitScheduledDateLessThanEqualAndEndScheduledDateGreaterThanEqual(
+                            classroomId, start, end);
+        }
+        return activityRepository
+                .existsByIdNotAndClassroomIdAndInitScheduledDateLessThanEqualAndEndScheduledDateGreaterThanEqual(
+                        excludeActivityId, classroomId, start, end);
     }
 }
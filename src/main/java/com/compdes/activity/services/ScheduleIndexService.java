@@ -0,0 +1,276 @@
+package com.compdes.activity.services;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.compdes.activity.models.entities.Activity;
+import com.compdes.activity.models.report.ActivityScheduleRow;
+import com.compdes.activity.repositories.ActivityRepository;
+import com.compdes.common.utils.IntervalIndex;
+import com.compdes.common.utils.TransactionCallbacks;
+import com.compdes.reservations.models.report.ReservationAgendaRow;
+import com.compdes.reservations.repositories.ReservationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice en memoria de los horarios de cada salón y de la agenda de talleres
+ * de cada participante.
+ *
+ * Permite resolver sin consultar la base de datos si un salón ya está ocupado
+ * en un rango o si un participante ya tiene un taller reservado que se traslapa
+ * con otro. Se carga completo al iniciar la aplicación y se actualiza después
+ * de confirmar cada transacción que crea, modifica o elimina actividades o
+ * reservaciones, por lo que un rollback nunca deja datos en el índice.
+ *
+ * Mientras no esté cargado (o si se deshabilita con
+ * {@code schedule.interval-index.enabled=false}), los servicios consultan la
+ * base de datos como antes. El índice es local a cada instancia: en
+ * despliegues con varias instancias debe deshabilitarse, ya que las escrituras
+ * de las demás no se reflejan en él.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Service
+@Slf4j
+public class ScheduleIndexService implements SmartInitializingSingleton {
+
+    private final ActivityRepository activityRepository;
+    private final ReservationRepository reservationRepository;
+    private final boolean enabled;
+
+    /**
+     * Actividades de cada salón, indexadas por el ID del salón.
+     */
+    private final IntervalIndex<String> classroomSchedules = new IntervalIndex<>();
+
+    /**
+     * Talleres reservados por cada participante, indexados por el ID del
+     * participante.
+     */
+    private final IntervalIndex<String> participantAgendas = new IntervalIndex<>();
+
+    private final Map<String, ActivitySlot> slotsByActivity = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> participantsByActivity = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    public ScheduleIndexService(ActivityRepository activityRepository, ReservationRepository reservationRepository,
+            @Value("${schedule.interval-index.enabled:true}") boolean enabled) {
+        this.activityRepository = activityRepository;
+        this.reservationRepository = reservationRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Carga el índice antes de que la aplicación empiece a recibir peticiones.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /**
+     * Reconstruye el índice completo desde la base de datos.
+     *
+     * Si la carga falla, el índice queda deshabilitado y los servicios siguen
+     * consultando la base de datos.
+     */
+    public synchronized void reload() {
+        ready = false;
+        classroomSchedules.clear();
+        participantAgendas.clear();
+        slotsByActivity.clear();
+        participantsByActivity.clear();
+
+        try {
+            List<ActivityScheduleRow> activities = activityRepository.findAllSchedules();
+            for (ActivityScheduleRow row : activities) {
+                indexActivity(row.getId(), row.getClassroomId(), row.getInitScheduledDate(),
+                        row.getEndScheduledDate());
+            }
+            List<ReservationAgendaRow> reservations = reservationRepository.findAllAgendaEntries();
+            for (ReservationAgendaRow row : reservations) {
+                indexReservation(row.getActivityId(), row.getParticipantId());
+            }
+            ready = true;
+            log.info("Índice de horarios cargado: {} actividades y {} reservaciones", activities.size(),
+                    reservations.size());
+        } catch (RuntimeException e) {
+            log.error("No se pudo cargar el índice de horarios, se consultará la base de datos", e);
+        }
+    }
+
+    /**
+     * Indica si el índice está cargado y puede usarse en lugar de la base de
+     * datos.
+     *
+     * @return true si el índice está listo
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Verifica si alguna actividad del salón cubre por completo el rango
+     * indicado, con los mismos criterios que
+     * {@code ActivityRepository.existsByClassroomIdAndInitScheduledDateLessThanEqualAndEndScheduledDateGreaterThanEqual}.
+     *
+     * @param classroomId       ID del salón
+     * @param start             inicio del rango
+     * @param end               fin del rango
+     * @param excludeActivityId actividad a ignorar, o {@code null}
+     * @return true si el salón ya está ocupado en ese rango
+     */
+    public boolean isClassroomBooked(String classroomId, LocalDateTime start, LocalDateTime end,
+            String excludeActivityId) {
+        return classroomSchedules.covers(classroomId, start, end, excludeActivityId);
+    }
+
+    /**
+     * Verifica si el salón tiene alguna actividad que se traslape con el rango.
+     *
+     * @param classroomId ID del salón
+     * @param start       inicio del rango
+     * @param end         fin del rango
+     * @return true si el salón no está disponible en ese rango
+     */
+    public boolean hasClassroomOverlap(String classroomId, LocalDateTime start, LocalDateTime end) {
+        return classroomSchedules.overlaps(classroomId, start, end, null);
+    }
+
+    /**
+     * Verifica si el participante tiene reservado algún taller que se traslape
+     * con el rango.
+     *
+     * @param participantId ID del participante
+     * @param start         inicio del rango
+     * @param end           fin del rango
+     * @return true si existe al menos un traslape
+     */
+    public boolean hasParticipantOverlap(String participantId, LocalDateTime start, LocalDateTime end) {
+        return participantAgendas.overlaps(participantId, start, end, null);
+    }
+
+    /**
+     * Registra el horario de una actividad creada o modificada al confirmar la
+     * transacción actual.
+     *
+     * @param activity actividad guardada
+     */
+    public void activitySaved(Activity activity) {
+        String activityId = activity.getId();
+        String classroomId = activity.getClassroom().getId();
+        LocalDateTime start = activity.getInitScheduledDate();
+        LocalDateTime end = activity.getEndScheduledDate();
+        afterCommit(() -> indexActivity(activityId, classroomId, start, end));
+    }
+
+    /**
+     * Elimina una actividad del índice al confirmar la transacción actual.
+     *
+     * @param activityId ID de la actividad eliminada
+     */
+    public void activityDeleted(String activityId) {
+        afterCommit(() -> removeActivity(activityId));
+    }
+
+    /**
+     * Agrega talleres reservados a la agenda de los participantes al confirmar
+     * la transacción actual.
+     *
+     * @param activityId     ID del taller
+     * @param participantIds IDs de los participantes que lo reservaron
+     */
+    public void reservationsCreated(String activityId, Collection<String> participantIds) {
+        List<String> participants = List.copyOf(participantIds);
+        afterCommit(() -> {
+            for (String participantId : participants) {
+                indexReservation(activityId, participantId);
+            }
+        });
+    }
+
+    /**
+     * Quita un taller de la agenda del participante al confirmar la transacción
+     * actual.
+     *
+     * @param activityId    ID del taller
+     * @param participantId ID del participante
+     */
+    public void reservationCancelled(String activityId, String participantId) {
+        afterCommit(() -> removeReservation(activityId, participantId));
+    }
+
+    private synchronized void indexActivity(String activityId, String classroomId, LocalDateTime start,
+            LocalDateTime end) {
+        ActivitySlot previous = slotsByActivity.put(activityId, new ActivitySlot(classroomId, start, end));
+        if (previous != null && !previous.classroomId().equals(classroomId)) {
+            classroomSchedules.remove(previous.classroomId(), activityId);
+        }
+        classroomSchedules.put(classroomId, activityId, start, end);
+
+        // si cambia el horario se actualiza la agenda de quienes ya reservaron
+        for (String participantId : participantsByActivity.getOrDefault(activityId, Set.of())) {
+            participantAgendas.put(participantId, activityId, start, end);
+        }
+    }
+
+    private synchronized void removeActivity(String activityId) {
+        ActivitySlot previous = slotsByActivity.remove(activityId);
+        if (previous != null) {
+            classroomSchedules.remove(previous.classroomId(), activityId);
+        }
+        Set<String> participants = participantsByActivity.remove(activityId);
+        if (participants != null) {
+            for (String participantId : participants) {
+                participantAgendas.remove(participantId, activityId);
+            }
+        }
+    }
+
+    private synchronized void indexReservation(String activityId, String participantId) {
+        participantsByActivity.computeIfAbsent(activityId, id -> ConcurrentHashMap.newKeySet()).add(participantId);
+        ActivitySlot slot = slotsByActivity.get(activityId);
+        if (slot != null) {
+            participantAgendas.put(participantId, activityId, slot.start(), slot.end());
+        }
+    }
+
+    private synchronized void removeReservation(String activityId, String participantId) {
+        Set<String> participants = participantsByActivity.get(activityId);
+        if (participants != null) {
+            participants.remove(participantId);
+        }
+        participantAgendas.remove(participantId, activityId);
+    }
+
+    /**
+     * Aplica la actualización del índice al confirmar la transacción actual.
+     *
+     * @param action actualización del índice
+     */
+    private void afterCommit(Runnable action) {
+        if (enabled) {
+            TransactionCallbacks.runAfterCommit(action);
+        }
+    }
+
+    /**
+     * Salón y horario de una actividad.
+     */
+    private record ActivitySlot(String classroomId, LocalDateTime start, LocalDateTime end) {
+    }
+}
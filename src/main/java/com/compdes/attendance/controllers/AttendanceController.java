@@ -1,12 +1,17 @@
 package com.compdes.attendance.controllers;
 
 import com.compdes.attendance.mappers.AttendanceMapper;
+import com.compdes.attendance.models.dto.request.AttendanceScanBatchDTO;
 import com.compdes.attendance.models.dto.request.CUAttendanceDTO;
 import com.compdes.attendance.models.dto.response.AttendaceDTO;
+import com.compdes.attendance.models.dto.response.AttendanceScanResponseDTO;
+import com.compdes.attendance.models.dto.response.AttendanceScanResultDTO;
+import com.compdes.attendance.services.AttendanceScanIngestionService;
 import com.compdes.attendance.services.AttendanceService;
 import com.compdes.common.exceptions.NotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,6 +24,7 @@ import java.util.List;
 @AllArgsConstructor
 public class AttendanceController {
     private final AttendanceService attendanceService;
+    private final AttendanceScanIngestionService attendanceScanIngestionService;
     private final AttendanceMapper attendanceMapper;
 
     @Operation(summary = "Obtiene todas las asistencias", responses = {
@@ -70,18 +76,35 @@ public class AttendanceController {
     @PostMapping("/create")
     @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("hasRole('ADMIN')")
-    public AttendaceDTO createAttendance(@RequestBody CUAttendanceDTO createAttendanceDTO) throws NotFoundException {
-        return attendanceMapper.toAttendaceDTO(attendanceService.createAttendance(createAttendanceDTO));
+    public AttendanceScanResponseDTO createAttendance(@RequestBody CUAttendanceDTO createAttendanceDTO)
+            throws NotFoundException {
+        return attendanceService.createAttendance(createAttendanceDTO);
+    }
+
+    @Operation(summary = "Registra en lote escaneos de entrada y salida", description = "Pensado para los lectores de la puerta: "
+            + "reciben los escaneos acumulados (incluso sin conexión) y los envían juntos. Cada escaneo se identifica con una "
+            + "clave de idempotencia, por lo que el lote puede reenviarse completo sin duplicar asistencias.", responses = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado, con el resultado de cada escaneo"),
+            @ApiResponse(responseCode = "400", description = "Lote vacío, demasiado grande o con escaneos incompletos"),
+            @ApiResponse(responseCode = "409", description = "Otro lote registró al mismo tiempo las mismas asistencias, se debe reenviar"),
+    })
+    @PostMapping("/scans/batch")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<AttendanceScanResultDTO> ingestScans(@RequestBody @Valid AttendanceScanBatchDTO scanBatchDTO) {
+        return attendanceScanIngestionService.ingestScans(scanBatchDTO.getScans());
     }
 
     @Operation(summary = "Cierra la asistencia a una actividad", responses = {
             @ApiResponse(responseCode = "200", description = "Asistencia actualizada exitosamente"),
-            @ApiResponse(responseCode = "404", description = "Asistencia no encontrada"),
+            @ApiResponse(responseCode = "404", description = "Participante o actividad no encontrada"),
+            @ApiResponse(responseCode = "409", description = "Participante sin asistencia registrada para la actividad"),
     })
     @PatchMapping("/exit")
     @ResponseStatus(HttpStatus.OK)
-    public AttendaceDTO exitAttendance(@RequestBody CUAttendanceDTO exitAttendanceDTO) throws NotFoundException {
-        return attendanceMapper.toAttendaceDTO(attendanceService.markAttendanceExit(exitAttendanceDTO));
+    public AttendanceScanResponseDTO exitAttendance(@RequestBody CUAttendanceDTO exitAttendanceDTO)
+            throws NotFoundException {
+        return attendanceService.markAttendanceExit(exitAttendanceDTO);
     }
 
 }
@@ -0,0 +1,27 @@
+package com.compdes.attendance.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Enum que define el resultado de procesar un escaneo de asistencia recibido
+ * en lote.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@AllArgsConstructor
+@Getter
+public enum AttendanceScanStatusEnum {
+
+    APPLIED("Escaneo registrado"),
+    ALREADY_APPLIED("Escaneo procesado anteriormente"),
+    REJECTED("Escaneo rechazado");
+
+    /**
+     * Nombre descriptivo del estado para mostrar en interfaces de usuario.
+     */
+    private final String statusLabel;
+
+}
@@ -0,0 +1,27 @@
+package com.compdes.attendance.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Enum que define los tipos de escaneo que envían los lectores de códigos QR
+ * en la puerta de una actividad.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@AllArgsConstructor
+@Getter
+public enum AttendanceScanTypeEnum {
+
+    ENTRY("Entrada"),
+    EXIT("Salida");
+
+    /**
+     * Nombre descriptivo del tipo de escaneo para mostrar en interfaces de
+     * usuario.
+     */
+    private final String typeLabel;
+
+}
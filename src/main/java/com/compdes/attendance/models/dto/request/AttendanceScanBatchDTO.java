@@ -0,0 +1,29 @@
+package com.compdes.attendance.models.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO utilizado para enviar en lote los escaneos acumulados por un lector de
+ * códigos QR, por ejemplo los registrados mientras no tuvo conexión.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Getter
+@AllArgsConstructor
+public class AttendanceScanBatchDTO {
+
+    @NotEmpty(message = "Se debe proporcionar al menos un escaneo")
+    @Size(max = 1000, message = "No se pueden enviar más de 1000 escaneos en una sola solicitud")
+    @Schema(description = "Escaneos registrados por el lector", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<@Valid @NotNull(message = "Los escaneos no pueden ser nulos") AttendanceScanDTO> scans;
+}
@@ -0,0 +1,51 @@
+package com.compdes.attendance.models.dto.request;
+
+import java.time.LocalDateTime;
+
+import com.compdes.attendance.enums.AttendanceScanTypeEnum;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO que representa un escaneo de código QR registrado por un lector en la
+ * puerta de una actividad.
+ *
+ * La clave de idempotencia la genera el lector una sola vez por escaneo y debe
+ * reenviarse sin cambios si el lote se reintenta.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Getter
+@AllArgsConstructor
+public class AttendanceScanDTO {
+
+    @NotBlank(message = "Se debe proporcionar la clave de idempotencia del escaneo")
+    @Size(max = 64, message = "La clave de idempotencia no puede superar los 64 caracteres")
+    @Schema(description = "Clave única del escaneo generada por el lector",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private String idempotencyKey;
+
+    @NotBlank(message = "Se debe proporcionar el código QR del participante")
+    @Schema(description = "ID del código QR escaneado", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String qrCode;
+
+    @NotBlank(message = "Se debe proporcionar el ID de la actividad")
+    @Schema(description = "ID de la actividad", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String activityId;
+
+    @NotNull(message = "Se debe indicar si el escaneo es de entrada o de salida")
+    @Schema(description = "Tipo de escaneo", requiredMode = Schema.RequiredMode.REQUIRED)
+    private AttendanceScanTypeEnum type;
+
+    @NotNull(message = "Se debe proporcionar la fecha y hora del escaneo")
+    @Schema(description = "Fecha y hora en que el lector registró el escaneo",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalDateTime scannedAt;
+}
@@ -0,0 +1,28 @@
+package com.compdes.attendance.models.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+/**
+ * DTO de respuesta de un escaneo individual de entrada o salida.
+ *
+ * Contiene solo lo que el lector muestra al confirmar el escaneo: la
+ * asistencia afectada, el participante identificado por su código QR y los
+ * horarios registrados. Se construye sin cargar el perfil del participante;
+ * la asistencia completa se consulta con los endpoints de lectura.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class AttendanceScanResponseDTO {
+
+    String attendanceId;
+    String participantId;
+    String participantName;
+    String activityId;
+    LocalDateTime entryTime;
+    LocalDateTime exitTime;
+}
@@ -0,0 +1,25 @@
+package com.compdes.attendance.models.dto.response;
+
+import com.compdes.attendance.enums.AttendanceScanStatusEnum;
+
+import lombok.Value;
+
+/**
+ * DTO de respuesta con el resultado de un escaneo recibido en lote.
+ *
+ * {@code attendanceId} indica la asistencia afectada cuando el escaneo fue
+ * registrado o ya se había procesado; {@code error} solo se informa cuando el
+ * escaneo fue rechazado.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class AttendanceScanResultDTO {
+
+    String idempotencyKey;
+    AttendanceScanStatusEnum status;
+    String attendanceId;
+    String error;
+}
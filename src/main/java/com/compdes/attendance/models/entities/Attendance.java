@@ -35,4 +35,25 @@ public class Attendance extends Auditor {
 
     @Column(nullable = true)
     private LocalDateTime exitTime;
+
+    /**
+     * Clave de idempotencia del escaneo que registró la entrada, si se
+     * registró por lote.
+     */
+    @Column(nullable = true, length = 64, unique = true)
+    private String entryScanKey;
+
+    /**
+     * Clave de idempotencia del último escaneo que registró la salida, si se
+     * registró por lote.
+     */
+    @Column(nullable = true, length = 64, unique = true)
+    private String exitScanKey;
+
+    public Attendance(Activity activity, Participant participant, LocalDateTime entryTime, LocalDateTime exitTime) {
+        this.activity = activity;
+        this.participant = participant;
+        this.entryTime = entryTime;
+        this.exitTime = exitTime;
+    }
 }
@@ -0,0 +1,16 @@
+package com.compdes.attendance.models.report;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección con el ID y los horarios de una asistencia, usada para responder
+ * un escaneo sin cargar la asistencia ni sus relaciones.
+ */
+public interface AttendanceTimesRow {
+
+    String getId();
+
+    LocalDateTime getEntryTime();
+
+    LocalDateTime getExitTime();
+}
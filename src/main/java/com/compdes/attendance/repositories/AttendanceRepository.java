@@ -2,11 +2,16 @@ package com.compdes.attendance.repositories;
 
 import com.compdes.attendance.models.entities.Attendance;
 import com.compdes.attendance.models.report.ActivityAttendanceAggregate;
+import com.compdes.attendance.models.report.AttendanceTimesRow;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +21,47 @@ public interface AttendanceRepository extends JpaRepository<Attendance, String>
 
     boolean existsByParticipantIdAndActivityId(String participantId, String activityId);
 
+    /**
+     * Obtiene el ID y los horarios de la asistencia de un participante a una
+     * actividad, sin cargar sus relaciones.
+     *
+     * @param participantId ID del participante
+     * @param activityId    ID de la actividad
+     * @return la asistencia, o vacío si no existe
+     */
+    @Query("""
+            SELECT a.id AS id, a.entryTime AS entryTime, a.exitTime AS exitTime
+            FROM Attendance a
+            WHERE a.participant.id = :participantId
+              AND a.activity.id = :activityId
+            """)
+    Optional<AttendanceTimesRow> findTimesByParticipantIdAndActivityId(@Param("participantId") String participantId,
+            @Param("activityId") String activityId);
+
     List<Attendance> findAllByActivityId(String activityId);
 
     List<Attendance> findAllByParticipantId(String participantId);
 
+    /**
+     * Registra la salida de un participante de una actividad con una sola
+     * sentencia, sin cargar la asistencia ni sus relaciones.
+     *
+     * @param participantId ID del participante
+     * @param activityId    ID de la actividad
+     * @param exitTime      hora de salida
+     * @param updatedAt     instante de la modificación
+     * @return cantidad de asistencias actualizadas (0 si no existe)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Attendance a
+            SET a.exitTime = :exitTime, a.updatedAt = :updatedAt
+            WHERE a.participant.id = :participantId
+              AND a.activity.id = :activityId
+            """)
+    int updateExitTime(@Param("participantId") String participantId, @Param("activityId") String activityId,
+            @Param("exitTime") LocalDateTime exitTime, @Param("updatedAt") Instant updatedAt);
+
     @Query("""
             select
                 a.name as activityName,
@@ -0,0 +1,369 @@
+package com.compdes.attendance.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.compdes.attendance.enums.AttendanceScanStatusEnum;
+import com.compdes.attendance.enums.AttendanceScanTypeEnum;
+import com.compdes.attendance.models.dto.request.AttendanceScanDTO;
+import com.compdes.attendance.models.dto.response.AttendanceScanResultDTO;
+import com.compdes.common.utils.EntityIds;
+import com.compdes.common.utils.JdbcTimestamps;
+import com.compdes.participants.enums.ParticipantErrorMessages;
+import com.compdes.participants.models.dto.internal.ScannedParticipantDTO;
+import com.compdes.participants.services.ParticipantService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio encargado de registrar en lote los escaneos de asistencia enviados
+ * por los lectores de códigos QR.
+ *
+ * Registrar un escaneo con {@link AttendanceService#createAttendance} implica
+ * buscar al participante, la actividad y la asistencia existente antes de
+ * guardar. Este servicio procesa un lote completo con un número fijo de
+ * consultas: resuelve todos los códigos QR, actividades y asistencias
+ * involucradas de una vez, aplica los escaneos en memoria en orden
+ * cronológico y guarda el resultado mediante lotes JDBC.
+ *
+ * Cada escaneo trae una clave de idempotencia que se guarda en la asistencia
+ * que registró, por lo que un lector puede reenviar un lote completo (por
+ * ejemplo, tras perder la conexión) sin duplicar asistencias.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttendanceScanIngestionService {
+
+    private static final String FIND_APPLIED_KEYS_SQL = """
+            SELECT id, entry_scan_key, exit_scan_key FROM attendance
+            WHERE entry_scan_key IN (:keys) OR exit_scan_key IN (:keys)
+            """;
+
+    private static final String FIND_ACTIVITIES_SQL = "SELECT id FROM activity WHERE id IN (:ids)";
+
+    /**
+     * Bloquea las asistencias existentes de los participantes y actividades del
+     * lote. Puede devolver combinaciones que no están en el lote, que se
+     * ignoran.
+     */
+    private static final String LOCK_ATTENDANCES_SQL = """
+            SELECT id, participant_id, activity_id, entry_time, exit_time FROM attendance
+            WHERE participant_id IN (:participantIds)
+              AND activity_id IN (:activityIds)
+            FOR UPDATE
+            """;
+
+    private static final String INSERT_ATTENDANCE_SQL = """
+            INSERT INTO attendance (id, created_at, updated_at, activity_id, participant_id,
+                entry_time, exit_time, entry_scan_key, exit_scan_key)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_EXIT_SQL = "UPDATE attendance SET exit_time = ?, exit_scan_key = ?, updated_at = ? WHERE id = ?";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ParticipantService participantService;
+
+    /**
+     * Registra un lote de escaneos de entrada y salida.
+     *
+     * Reglas aplicadas a cada escaneo, en orden de {@code scannedAt}:
+     * <ul>
+     * <li>Una clave ya procesada, en este lote o en uno anterior, no se vuelve a
+     * aplicar y se informa como {@code ALREADY_APPLIED}.</li>
+     * <li>Una entrada crea la asistencia; se rechaza si el participante ya tiene
+     * una para la actividad.</li>
+     * <li>Una salida registra la hora más reciente recibida; se rechaza si el
+     * participante no tiene asistencia para la actividad o si es anterior a la
+     * entrada registrada.</li>
+     * </ul>
+     *
+     * @param scans escaneos en el orden recibido
+     * @return el resultado de cada escaneo, en el mismo orden
+     * @throws IllegalStateException si otro lote registró al mismo tiempo la
+     *                               entrada de alguno de los participantes, o si
+     *                               ambos se bloquearon mutuamente y la base de
+     *                               datos abortó este; el lote completo se
+     *                               revierte y puede reenviarse
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public List<AttendanceScanResultDTO> ingestScans(List<AttendanceScanDTO> scans) {
+        // si una clave se repite en el lote solo se aplica la primera aparicion
+        Map<String, AttendanceScanDTO> uniqueScans = new LinkedHashMap<>();
+        for (AttendanceScanDTO scan : scans) {
+            uniqueScans.putIfAbsent(scan.getIdempotencyKey(), scan);
+        }
+
+        Map<String, AttendanceScanResultDTO> results = new HashMap<>();
+        findAppliedKeys(uniqueScans.keySet(), results);
+
+        List<AttendanceScanDTO> pending = new ArrayList<>();
+        for (AttendanceScanDTO scan : uniqueScans.values()) {
+            if (!results.containsKey(scan.getIdempotencyKey())) {
+                pending.add(scan);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            try {
+                applyScans(pending, results);
+            } catch (DuplicateKeyException | PessimisticLockingFailureException e) {
+                // insercion repetida, interbloqueo o tiempo de espera del bloqueo agotado
+                log.warn("Lote de escaneos en conflicto con otro registro de asistencia", e);
+                throw new IllegalStateException(
+                        "Otro lector registró al mismo tiempo asistencias de los mismos participantes, reenvía el lote.");
+            }
+        }
+
+        List<AttendanceScanResultDTO> ordered = new ArrayList<>(scans.size());
+        for (AttendanceScanDTO scan : scans) {
+            ordered.add(results.get(scan.getIdempotencyKey()));
+        }
+        return ordered;
+    }
+
+    /**
+     * Marca como ya procesadas las claves guardadas en alguna asistencia.
+     *
+     * @param keys    claves del lote
+     * @param results resultados por clave
+     */
+    private void findAppliedKeys(Set<String> keys, Map<String, AttendanceScanResultDTO> results) {
+        namedParameterJdbcTemplate.query(FIND_APPLIED_KEYS_SQL, Map.of("keys", keys), rs -> {
+            String attendanceId = rs.getString("id");
+            for (String key : new String[] { rs.getString("entry_scan_key"), rs.getString("exit_scan_key") }) {
+                if (key != null && keys.contains(key)) {
+                    results.put(key, alreadyApplied(key, attendanceId));
+                }
+            }
+        });
+    }
+
+    /**
+     * Resuelve los escaneos pendientes, los aplica en memoria y guarda los
+     * cambios.
+     *
+     * @param pending escaneos que no han sido procesados
+     * @param results resultados por clave
+     */
+    private void applyScans(List<AttendanceScanDTO> pending, Map<String, AttendanceScanResultDTO> results) {
+        Set<String> qrCodeIds = new HashSet<>();
+        Set<String> requestedActivityIds = new HashSet<>();
+        for (AttendanceScanDTO scan : pending) {
+            qrCodeIds.add(scan.getQrCode());
+            requestedActivityIds.add(scan.getActivityId());
+        }
+
+        Map<String, ScannedParticipantDTO> participantsByQr = participantService
+                .getScannedParticipantsByQrCodeIds(qrCodeIds);
+        Set<String> existingActivityIds = new HashSet<>(namedParameterJdbcTemplate.queryForList(FIND_ACTIVITIES_SQL,
+                Map.of("ids", requestedActivityIds), String.class));
+
+        List<ResolvedScan> resolved = new ArrayList<>(pending.size());
+        Set<String> participantIds = new HashSet<>();
+        Set<String> activityIds = new HashSet<>();
+        for (AttendanceScanDTO scan : pending) {
+            ScannedParticipantDTO participant = participantsByQr.get(scan.getQrCode());
+            if (participant == null) {
+                results.put(scan.getIdempotencyKey(),
+                        rejected(scan, ParticipantErrorMessages.NOT_FOUND_BY_QR.getMessage()));
+            } else if (!participant.isApproved()) {
+                results.put(scan.getIdempotencyKey(),
+                        rejected(scan, ParticipantErrorMessages.NOT_APPROVED_BY_QR.getMessage()));
+            } else if (!existingActivityIds.contains(scan.getActivityId())) {
+                results.put(scan.getIdempotencyKey(),
+                        rejected(scan, "Actividad no encontrada por medio del ID: " + scan.getActivityId()));
+            } else {
+                resolved.add(new ResolvedScan(scan, participant.getParticipantId()));
+                participantIds.add(participant.getParticipantId());
+                activityIds.add(scan.getActivityId());
+            }
+        }
+        if (resolved.isEmpty()) {
+            return;
+        }
+
+        Map<String, AttendanceState> attendances = lockAttendances(participantIds, activityIds);
+
+        // las entradas van antes que las salidas registradas en el mismo instante
+        resolved.sort(Comparator.comparing((ResolvedScan resolvedScan) -> resolvedScan.scan().getScannedAt())
+                .thenComparing(resolvedScan -> resolvedScan.scan().getType()));
+
+        for (ResolvedScan resolvedScan : resolved) {
+            AttendanceScanDTO scan = resolvedScan.scan();
+            String pairKey = pairKey(resolvedScan.participantId(), scan.getActivityId());
+            AttendanceState attendance = attendances.get(pairKey);
+
+            if (scan.getType() == AttendanceScanTypeEnum.ENTRY) {
+                if (attendance != null) {
+                    results.put(scan.getIdempotencyKey(), rejected(scan,
+                            "El participante ya tiene una asistencia registrada para esta actividad."));
+                    continue;
+                }
+                attendance = AttendanceState.created(resolvedScan.participantId(), scan);
+                attendances.put(pairKey, attendance);
+            } else {
+                if (attendance == null) {
+                    results.put(scan.getIdempotencyKey(), rejected(scan,
+                            "El participante no tiene una asistencia registrada para esta actividad."));
+                    continue;
+                }
+                if (attendance.entryTime != null && scan.getScannedAt().isBefore(attendance.entryTime)) {
+                    results.put(scan.getIdempotencyKey(), rejected(scan,
+                            "La salida no puede ser anterior a la entrada registrada para esta actividad."));
+                    continue;
+                }
+                // una salida anterior a la registrada ya esta cubierta por esta
+                attendance.registerExit(scan);
+            }
+            results.put(scan.getIdempotencyKey(), new AttendanceScanResultDTO(scan.getIdempotencyKey(),
+                    AttendanceScanStatusEnum.APPLIED, attendance.id, null));
+        }
+
+        save(attendances.values());
+    }
+
+    /**
+     * Bloquea las asistencias existentes de los participantes y actividades
+     * indicados.
+     *
+     * @param participantIds IDs de los participantes
+     * @param activityIds    IDs de las actividades
+     * @return asistencias indexadas por participante y actividad
+     */
+    private Map<String, AttendanceState> lockAttendances(Set<String> participantIds, Set<String> activityIds) {
+        Map<String, AttendanceState> attendances = new HashMap<>();
+        namedParameterJdbcTemplate.query(LOCK_ATTENDANCES_SQL,
+                Map.of("participantIds", participantIds, "activityIds", activityIds), rs -> {
+                    AttendanceState attendance = AttendanceState.existing(rs.getString("id"),
+                            rs.getObject("entry_time", LocalDateTime.class),
+                            rs.getObject("exit_time", LocalDateTime.class));
+                    attendances.put(pairKey(rs.getString("participant_id"), rs.getString("activity_id")),
+                            attendance);
+                });
+        return attendances;
+    }
+
+    /**
+     * Inserta las asistencias nuevas y actualiza la salida de las existentes
+     * mediante lotes JDBC.
+     *
+     * @param attendances asistencias del lote
+     * @throws DuplicateKeyException si otra transacción insertó la misma
+     *                               asistencia
+     */
+    private void save(Iterable<AttendanceState> attendances) {
+        Timestamp now = JdbcTimestamps.nowUtc();
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        for (AttendanceState attendance : attendances) {
+            if (attendance.created) {
+                inserts.add(new Object[] { attendance.id, now, now, attendance.activityId, attendance.participantId,
+                        Timestamp.valueOf(attendance.entryTime), toTimestamp(attendance.exitTime),
+                        attendance.entryScanKey, attendance.exitScanKey });
+            } else if (attendance.exitChanged) {
+                updates.add(new Object[] { toTimestamp(attendance.exitTime), attendance.exitScanKey, now,
+                        attendance.id });
+            }
+        }
+
+        JdbcOperations jdbc = namedParameterJdbcTemplate.getJdbcOperations();
+        if (!inserts.isEmpty()) {
+            jdbc.batchUpdate(INSERT_ATTENDANCE_SQL, inserts);
+        }
+        if (!updates.isEmpty()) {
+            jdbc.batchUpdate(UPDATE_EXIT_SQL, updates);
+        }
+        log.debug("Lote de escaneos: {} asistencias creadas y {} salidas actualizadas", inserts.size(),
+                updates.size());
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    private static String pairKey(String participantId, String activityId) {
+        return participantId + ":" + activityId;
+    }
+
+    private static AttendanceScanResultDTO alreadyApplied(String key, String attendanceId) {
+        return new AttendanceScanResultDTO(key, AttendanceScanStatusEnum.ALREADY_APPLIED, attendanceId, null);
+    }
+
+    private static AttendanceScanResultDTO rejected(AttendanceScanDTO scan, String error) {
+        return new AttendanceScanResultDTO(scan.getIdempotencyKey(), AttendanceScanStatusEnum.REJECTED, null, error);
+    }
+
+    /**
+     * Escaneo cuyo código QR ya se resolvió a un participante.
+     */
+    private record ResolvedScan(AttendanceScanDTO scan, String participantId) {
+    }
+
+    /**
+     * Estado en memoria de una asistencia afectada por el lote.
+     */
+    private static class AttendanceState {
+
+        private final String id;
+        private final boolean created;
+        private String participantId;
+        private String activityId;
+        private LocalDateTime entryTime;
+        private String entryScanKey;
+        private LocalDateTime exitTime;
+        private String exitScanKey;
+        private boolean exitChanged;
+
+        private AttendanceState(String id, boolean created) {
+            this.id = id;
+            this.created = created;
+        }
+
+        private static AttendanceState existing(String id, LocalDateTime entryTime, LocalDateTime exitTime) {
+            AttendanceState attendance = new AttendanceState(id, false);
+            attendance.entryTime = entryTime;
+            attendance.exitTime = exitTime;
+            return attendance;
+        }
+
+        private static AttendanceState created(String participantId, AttendanceScanDTO entry) {
+            // el id se genera igual que en la entidad
+            AttendanceState attendance = new AttendanceState(EntityIds.newId(), true);
+            attendance.participantId = participantId;
+            attendance.activityId = entry.getActivityId();
+            attendance.entryTime = entry.getScannedAt();
+            attendance.entryScanKey = entry.getIdempotencyKey();
+            return attendance;
+        }
+
+        private void registerExit(AttendanceScanDTO exit) {
+            if (exitTime == null || exit.getScannedAt().isAfter(exitTime)) {
+                exitTime = exit.getScannedAt();
+                exitScanKey = exit.getIdempotencyKey();
+                exitChanged = true;
+            }
+        }
+    }
+}
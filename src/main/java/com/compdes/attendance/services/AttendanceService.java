@@ -1,5 +1,6 @@
 package com.compdes.attendance.services;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -9,10 +10,12 @@ import com.compdes.activity.models.entities.Activity;
 import com.compdes.activity.services.ActivityService;
 import com.compdes.attendance.mappers.AttendanceMapper;
 import com.compdes.attendance.models.dto.request.CUAttendanceDTO;
+import com.compdes.attendance.models.dto.response.AttendanceScanResponseDTO;
 import com.compdes.attendance.models.entities.Attendance;
+import com.compdes.attendance.models.report.AttendanceTimesRow;
 import com.compdes.attendance.repositories.AttendanceRepository;
 import com.compdes.common.exceptions.NotFoundException;
-import com.compdes.participants.models.entities.Participant;
+import com.compdes.participants.models.dto.internal.ScannedParticipantDTO;
 import com.compdes.participants.services.ParticipantService;
 
 import jakarta.transaction.Transactional;
@@ -57,51 +60,69 @@ public class AttendanceService {
      * Crea una nueva asistencia para un participante en una actividad.
      *
      * @param createAttendanceDTO DTO con los datos necesarios para crear la asistencia.
-     * @return Attendance
+     * @return la asistencia creada, con los datos del participante resueltos desde su código QR
      * @throws NotFoundException si no se encuentra el participante o la actividad.
-     * @throws IllegalStateException si el participante ya tiene una asistencia registrada para la actividad.
+     * @throws IllegalStateException si el participante ya tiene una asistencia registrada para la actividad
+     *                               o su inscripción no está aprobada.
      */
-    public Attendance createAttendance(CUAttendanceDTO createAttendanceDTO) throws NotFoundException {
-        Participant participant = participantService.getParticipantByQrCodeId(createAttendanceDTO.getQrCode());
+    public AttendanceScanResponseDTO createAttendance(CUAttendanceDTO createAttendanceDTO) throws NotFoundException {
+        // el qr se resuelve en memoria y el participante se asigna por referencia,
+        // sin consultarlo para la insercion
+        ScannedParticipantDTO participant = participantService.getScannedParticipantByQrCodeId(createAttendanceDTO.getQrCode());
         Activity activity = activityService.getActivityById(createAttendanceDTO.getActivityId());
         if (attendanceRepository.existsByParticipantIdAndActivityId(
-                participant.getId(),
+                participant.getParticipantId(),
                 activity.getId()
         )) {
             throw new IllegalStateException("El participante ya tiene una asistencia registrada para esta actividad.");
         }
         Attendance attendance = new Attendance(
                 activity,
-                participant,
+                participantService.getParticipantReference(participant.getParticipantId()),
                 LocalDateTime.now(),
                 null
         );
-        return attendanceRepository.save(attendance);
+        attendance = attendanceRepository.save(attendance);
+        return toScanResponse(participant, activity.getId(), attendance.getId(), attendance.getEntryTime(),
+                attendance.getExitTime());
     }
 
     /**
      * Marca la salida de un participante de una actividad.
      *
      * @param CUAttendanceDTO DTO con los datos necesarios para marcar la salida.
-     * @return Attendance
+     * @return la asistencia actualizada, con los datos del participante resueltos desde su código QR
      * @throws NotFoundException si no se encuentra el participante o la actividad.
-     * @throws IllegalStateException si el participante no tiene una asistencia registrada para la actividad.
+     * @throws IllegalStateException si el participante no tiene una asistencia registrada para la actividad
+     *                               o su inscripción no está aprobada.
      */
-    public Attendance markAttendanceExit(CUAttendanceDTO CUAttendanceDTO) throws NotFoundException {
-        Participant participant = this.participantService.getParticipantByQrCodeId(CUAttendanceDTO.getQrCode());
-        Activity activity = this.activityService.getActivityById(CUAttendanceDTO.getActivityId());
-        if (!attendanceRepository.existsByParticipantIdAndActivityId(
-                participant.getId(),
-                activity.getId()
-        )) {
+    public AttendanceScanResponseDTO markAttendanceExit(CUAttendanceDTO CUAttendanceDTO) throws NotFoundException {
+        ScannedParticipantDTO participant = this.participantService.getScannedParticipantByQrCodeId(CUAttendanceDTO.getQrCode());
+        // la salida se registra sin cargar la asistencia; la actividad solo se
+        // busca si no hubo asistencia que actualizar, para distinguir el error
+        int updated = attendanceRepository.updateExitTime(
+                participant.getParticipantId(),
+                CUAttendanceDTO.getActivityId(),
+                LocalDateTime.now(),
+                Instant.now()
+        );
+        if (updated == 0) {
+            this.activityService.getActivityById(CUAttendanceDTO.getActivityId());
             throw new IllegalStateException("El participante no tiene una asistencia registrada para esta actividad.");
         }
-        Attendance attendance = this.getAttendanceByParticipantIdAndActivityId(
-                participant.getId(),
-                activity.getId()
-        );
-        attendance.setExitTime(LocalDateTime.now());
-        return attendanceRepository.save(attendance);
+        // la respuesta solo lee los horarios, sin cargar la asistencia ni sus relaciones
+        AttendanceTimesRow times = attendanceRepository
+                .findTimesByParticipantIdAndActivityId(participant.getParticipantId(), CUAttendanceDTO.getActivityId())
+                .orElseThrow(() -> new NotFoundException("No se encontró la asistencia del participante con ID: "
+                        + participant.getParticipantId() + " para la actividad con ID: " + CUAttendanceDTO.getActivityId()));
+        return toScanResponse(participant, CUAttendanceDTO.getActivityId(), times.getId(), times.getEntryTime(),
+                times.getExitTime());
+    }
+
+    private AttendanceScanResponseDTO toScanResponse(ScannedParticipantDTO participant, String activityId,
+            String attendanceId, LocalDateTime entryTime, LocalDateTime exitTime) {
+        return new AttendanceScanResponseDTO(attendanceId, participant.getParticipantId(),
+                participant.getDisplayName(), activityId, entryTime, exitTime);
     }
 
     /**
@@ -131,7 +152,7 @@ public class AttendanceService {
      * @throws NotFoundException si no se encuentra el participante.
      */
     public List<Attendance> getAttendancesByParticipantId(String qrCode) throws NotFoundException {
-        Participant participant = participantService.getParticipantByQrCodeId(qrCode);
-        return attendanceRepository.findAllByParticipantId(participant.getId());
+        ScannedParticipantDTO participant = participantService.getScannedParticipantByQrCodeId(qrCode);
+        return attendanceRepository.findAllByParticipantId(participant.getParticipantId());
     }
 }
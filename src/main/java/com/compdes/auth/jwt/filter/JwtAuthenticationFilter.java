@@ -12,15 +12,15 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.compdes.auth.jwt.utils.JwtTokenInspector;
-import com.compdes.common.enums.PublicEndpointsEnum;
+import com.compdes.auth.jwt.utils.PublicEndpointMatcher;
 import com.compdes.common.exceptions.InvalidTokenException;
 import com.compdes.common.models.dto.response.ErrorDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -41,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenInspector jwtTokenInspector;
+    private final PublicEndpointMatcher publicEndpointMatcher;
 
     /**
      * Método principal que intercepta cada solicitud HTTP y ejecuta la
@@ -89,22 +90,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Verifica si la URI corresponde a un endpoint público permitido sin
-     * autenticación.
+     * Verifica si la solicitud corresponde a un endpoint público permitido sin
+     * autenticación, considerando tanto la ruta como el método HTTP.
      *
-     * @param path URI de la solicitud.
+     * @param request la solicitud HTTP entrante.
      * @return true si el path es público, false si requiere autenticación.
      */
     private boolean isPublicEndpoint(HttpServletRequest request) {
-        String requestPath = request.getRequestURI();
-        AntPathMatcher matcher = new AntPathMatcher();
-
-        for (PublicEndpointsEnum endpointsEnum : PublicEndpointsEnum.values()) {
-            if (matcher.match(endpointsEnum.getPath(), requestPath)) {
-                return true;
-            }
-        }
-        return false;
+        return publicEndpointMatcher.matches(request);
     }
 
     /**
@@ -131,8 +124,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private Optional<UserDetails> validateToken(String jwt) {
 
-        String username = jwtTokenInspector.extractUsername(jwt);
-        String userType = jwtTokenInspector.extractUserType(jwt);
+        // se verifica la firma una sola vez y se reutilizan los claims
+        Claims claims = jwtTokenInspector.verifyToken(jwt);
+        String username = jwtTokenInspector.extractUsername(claims);
+        String userType = jwtTokenInspector.extractUserType(claims);
 
         // Validar si el token ya ha sido autenticado
         if (username == null || SecurityContextHolder.getContext().getAuthentication() != null) {
@@ -142,7 +137,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // creamos el usuario Spring para que sea cargado en el contexto
         User user = new User(username, "", List.of(new SimpleGrantedAuthority(userType)));
 
-        if (jwtTokenInspector.isTokenValid(jwt)) {
+        if (jwtTokenInspector.isTokenValid(claims)) {
             log.info("Usuario autenticado exitosamente: {}", username);
             return Optional.of(user);
         }
@@ -1,9 +1,15 @@
 package com.compdes.auth.jwt.models;
 
 import java.util.Base64;
+
+import javax.crypto.SecretKey;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+
 /**
  * Configuración de parámetros relacionados con JWT.
  * 
@@ -21,6 +27,16 @@ public class JwtConfig {
     @Value("${jwt.secret}")
     private String secretKey;
 
+    /**
+     * Llave HMAC derivada del secreto, construida una sola vez al iniciar.
+     */
+    private SecretKey signingKey;
+
+    @PostConstruct
+    void initSigningKey() {
+        this.signingKey = Keys.hmacShaKeyFor(getSecretBytes());
+    }
+
     /**
      * Devuelve la clave secreta como un arreglo de bytes, decodificándola desde
      * Base64.
@@ -30,4 +46,16 @@ public class JwtConfig {
     public byte[] getSecretBytes() {
         return Base64.getDecoder().decode(secretKey);
     }
+
+    /**
+     * Devuelve la llave HMAC usada para firmar y verificar los tokens JWT.
+     * 
+     * La llave es inmutable y se reutiliza en todas las operaciones, evitando
+     * decodificar el secreto y reconstruir la llave en cada petición.
+     * 
+     * @return la llave de firma de los tokens
+     */
+    public SecretKey getSigningKey() {
+        return signingKey;
+    }
 }
@@ -12,7 +12,6 @@ import com.compdes.auth.users.models.entities.CompdesUser;
 
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -85,7 +84,7 @@ public class JwtGeneratorService {
                 .setSubject(username)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + JWT_TOKEN_TIME_VALIDITY))
-                .signWith(Keys.hmacShaKeyFor(jwtConfig.getSecretBytes()), SignatureAlgorithm.HS256)
+                .signWith(jwtConfig.getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 }
@@ -0,0 +1,165 @@
+package com.compdes.auth.jwt.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Caché acotada y de vida corta para los claims de tokens JWT ya verificados.
+ * 
+ * Evita repetir la verificación de la firma HMAC cuando el mismo token llega en
+ * peticiones consecutivas. La llave es el hash SHA-256 del token, por lo que el
+ * token en sí no se conserva en memoria. Cada entrada vence en lo que ocurra
+ * primero: el TTL configurado o la expiración ({@code exp}) del token.
+ * 
+ * Cuando se supera el máximo de entradas se eliminan primero las vencidas y, si
+ * aún no hay espacio, las más antiguas, una a una en orden de inserción; los
+ * tokens afectados simplemente vuelven a verificarse. Así la caché nunca se
+ * vacía de golpe y los tokens en uso no se verifican todos a la vez.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final Map<String, CachedClaims> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Entradas en orden de inserción. Puede contener entradas que ya salieron de
+     * la caché (vencidas o reemplazadas), que se descartan al llegar al frente.
+     * Solo se modifica dentro de {@link #put}, que está sincronizado.
+     */
+    private final Deque<CachedClaims> insertionOrder = new ArrayDeque<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public JwtClaimsCache(@Value("${jwt.claims-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${jwt.claims-cache.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Obtiene los claims de un token previamente verificado, si siguen vigentes.
+     * 
+     * @param token token JWT recibido
+     * @return los claims almacenados, o {@code null} si no existen o vencieron
+     */
+    public Claims get(String token) {
+        String key = digest(token);
+        CachedClaims cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.getValidUntil() <= System.currentTimeMillis()) {
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached.getClaims();
+    }
+
+    /**
+     * Almacena los claims de un token cuya firma ya fue verificada.
+     * 
+     * @param token  token JWT verificado
+     * @param claims claims extraídos del token
+     */
+    public void put(String token, Claims claims) {
+        if (ttlMillis <= 0 || maxEntries <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long validUntil = now + ttlMillis;
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            validUntil = Math.min(validUntil, expiration.getTime());
+        }
+        if (validUntil <= now) {
+            return;
+        }
+
+        CachedClaims entry = new CachedClaims(digest(token), claims, validUntil);
+        synchronized (insertionOrder) {
+            entries.put(entry.getKey(), entry);
+            insertionOrder.addLast(entry);
+            evict(now);
+        }
+    }
+
+    /**
+     * Descarta del frente de la cola las entradas que ya no están en la caché o
+     * vencieron y, si se superó el máximo, elimina las vencidas y después las
+     * más antiguas hasta volver al límite.
+     *
+     * @param now instante actual en milisegundos
+     */
+    private void evict(long now) {
+        CachedClaims oldest;
+        while ((oldest = insertionOrder.peekFirst()) != null
+                && (entries.get(oldest.getKey()) != oldest || oldest.getValidUntil() <= now)) {
+            insertionOrder.pollFirst();
+            entries.remove(oldest.getKey(), oldest);
+        }
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+
+        entries.values().removeIf(entry -> entry.getValidUntil() <= now);
+        while (entries.size() > maxEntries && (oldest = insertionOrder.pollFirst()) != null) {
+            entries.remove(oldest.getKey(), oldest);
+        }
+    }
+
+    /**
+     * Calcula el hash SHA-256 del token, usado como llave de la caché.
+     * 
+     * @param token token JWT
+     * @return hash codificado en Base64
+     */
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // todas las JVM deben incluir SHA-256
+            throw new IllegalStateException("SHA-256 no está disponible en la JVM", e);
+        }
+    }
+
+    /**
+     * Cantidad de tokens almacenados, incluidos los vencidos que aún no se han
+     * descartado.
+     *
+     * @return cantidad de entradas en la caché
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Entrada de la caché: la llave, los claims verificados y el instante (en
+     * milisegundos) hasta el cual pueden reutilizarse.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class CachedClaims {
+        private final String key;
+        private final Claims claims;
+        private final long validUntil;
+    }
+}
@@ -11,13 +11,12 @@ import com.compdes.common.exceptions.enums.JwtErrorEnum;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.RequiredTypeException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -28,16 +27,58 @@ import lombok.extern.slf4j.Slf4j;
  * @since 2025-05-26
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenInspector {
 
-    private final JwtConfig jwtConfig;
+    /**
+     * Parser inmutable y seguro entre hilos, construido una sola vez con la llave
+     * de firma.
+     */
+    private final JwtParser jwtParser;
+    private final JwtClaimsCache jwtClaimsCache;
+
+    public JwtTokenInspector(JwtConfig jwtConfig, JwtClaimsCache jwtClaimsCache) {
+        this.jwtParser = Jwts.parserBuilder()
+                // aqui se verifica el jwt con la llave secretea
+                .setSigningKey(jwtConfig.getSigningKey())
+                .build();
+        this.jwtClaimsCache = jwtClaimsCache;
+    }
+
+    /**
+     * Verifica la firma del token una sola vez y devuelve sus claims.
+     * 
+     * Los claims de tokens ya verificados se toman de {@link JwtClaimsCache}
+     * mientras sigan vigentes. El resultado puede pasarse a los métodos que
+     * reciben {@link Claims} para evitar volver a analizar el token.
+     * 
+     * @param token el token jwt a verificar
+     * @return los claims contenidos en el token
+     * @throws InvalidTokenException si el token es inválido o expiró
+     */
+    public Claims verifyToken(String token) throws InvalidTokenException {
+        Claims claims = jwtClaimsCache.get(token);
+        if (claims == null) {
+            claims = extractAllClaims(token);
+            jwtClaimsCache.put(token, claims);
+        }
+        return claims;
+    }
 
     public String extractUserType(String token) throws InvalidTokenException {
+        return extractUserType(verifyToken(token));
+    }
+
+    /**
+     * Extrae el tipo de usuario de claims ya verificados.
+     *
+     * @param claims claims del token
+     * @return el tipo de usuario contenido en el token
+     */
+    public String extractUserType(Claims claims) throws InvalidTokenException {
         try {
 
-            String userType = extractAllClaims(token).get(JwtGeneratorService.CLAIM_NAME_USER_TYPE, String.class);
+            String userType = claims.get(JwtGeneratorService.CLAIM_NAME_USER_TYPE, String.class);
 
             if (userType == null) {
                 throw JwtErrorEnum.JWT_NO_USER_TYPE.getInvalidTokenException();
@@ -59,8 +100,18 @@ public class JwtTokenInspector {
      * @return el nombre de usuario contenido en el token.
      */
     public String extractUsername(String token) throws InvalidTokenException {
+        return extractUsername(verifyToken(token));
+    }
+
+    /**
+     * Extrae el nombre de usuario de claims ya verificados.
+     *
+     * @param claims claims del token
+     * @return el nombre de usuario contenido en el token.
+     */
+    public String extractUsername(Claims claims) throws InvalidTokenException {
 
-        String username = extractAllClaims(token).getSubject();
+        String username = claims.getSubject();
 
         if (username == null) {
             throw JwtErrorEnum.JWT_NO_USERNAME.getInvalidTokenException();
@@ -77,7 +128,18 @@ public class JwtTokenInspector {
      * @return
      */
     public Boolean isTokenExpired(String token) throws InvalidTokenException {
-        return extractExpiration(token).before(new Date());
+        return isTokenExpired(verifyToken(token));
+    }
+
+    /**
+     * Verifica si la expiracion de claims ya verificados es antes que la fecha
+     * actual
+     *
+     * @param claims claims del token
+     * @return true si el token ya expiró
+     */
+    public Boolean isTokenExpired(Claims claims) throws InvalidTokenException {
+        return extractExpiration(claims).before(new Date());
     }
 
     /**
@@ -87,8 +149,18 @@ public class JwtTokenInspector {
      * @return la fecha de expiración contenida en el token.
      */
     public Date extractExpiration(String token) throws InvalidTokenException {
+        return extractExpiration(verifyToken(token));
+    }
 
-        Date expiration = extractAllClaims(token).getExpiration();
+    /**
+     * Extrae la fecha de expiración de claims ya verificados.
+     *
+     * @param claims claims del token
+     * @return la fecha de expiración contenida en el token.
+     */
+    public Date extractExpiration(Claims claims) throws InvalidTokenException {
+
+        Date expiration = claims.getExpiration();
 
         if (expiration == null) {// si viene nulo entonces debemos decir error al usuario
             throw JwtErrorEnum.JWT_NO_EXPIRATION.getInvalidTokenException();
@@ -110,6 +182,18 @@ public class JwtTokenInspector {
 
     }
 
+    /**
+     * Valida si claims ya verificados siguen vigentes.
+     *
+     * @param claims claims del token
+     * @return true si el token es válido, false en caso contrario.
+     */
+    public Boolean isTokenValid(Claims claims) throws InvalidTokenException {
+
+        return !isTokenExpired(claims);
+
+    }
+
     /**
      * Extrae y devuelve los claims de un token jwt firmado.
      *
@@ -118,13 +202,8 @@ public class JwtTokenInspector {
      */
     private Claims extractAllClaims(String token) throws InvalidTokenException {
         try {
-            // crea un parser para validar el jwt
-            return Jwts.parserBuilder()
-                    // aqui se verifica el jwt con la llave secretea
-                    .setSigningKey(Keys.hmacShaKeyFor(jwtConfig.getSecretBytes()))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            // usa el parser ya construido para validar el jwt
+            return jwtParser.parseClaimsJws(token).getBody();
 
         } catch (UnsupportedJwtException e) {
             throw JwtErrorEnum.JWT_UNSUPPORTED.getInvalidTokenException();
@@ -0,0 +1,106 @@
+package com.compdes.auth.jwt.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.compdes.common.enums.PublicEndpointsEnum;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Tabla precompilada de las rutas públicas definidas en
+ * {@link PublicEndpointsEnum}.
+ *
+ * Los patrones se compilan una sola vez al iniciar la aplicación con
+ * {@link PathPatternParser} y se agrupan por método HTTP, de forma que cada
+ * petición solo se compara contra los patrones de su propio método y contra
+ * los que aceptan cualquier método (método {@code null} en el enum). Esto
+ * replica las reglas registradas en {@code SecurityConfig}.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Component
+public class PublicEndpointMatcher {
+
+    /**
+     * Patrones compilados indexados por el nombre del método HTTP.
+     */
+    private final Map<String, List<PathPattern>> patternsByMethod;
+
+    /**
+     * Patrones compilados que aplican a cualquier método HTTP.
+     */
+    private final List<PathPattern> anyMethodPatterns;
+
+    public PublicEndpointMatcher() {
+        PathPatternParser parser = new PathPatternParser();
+        Map<String, List<PathPattern>> byMethod = new HashMap<>();
+        List<PathPattern> anyMethod = new ArrayList<>();
+
+        for (PublicEndpointsEnum endpoint : PublicEndpointsEnum.values()) {
+            PathPattern pattern = parser.parse(endpoint.getPath());
+            if (endpoint.getMethod() == null) {
+                anyMethod.add(pattern);
+            } else {
+                byMethod.computeIfAbsent(endpoint.getMethod().name(), method -> new ArrayList<>()).add(pattern);
+            }
+        }
+
+        byMethod.replaceAll((method, patterns) -> List.copyOf(patterns));
+        this.patternsByMethod = Map.copyOf(byMethod);
+        this.anyMethodPatterns = List.copyOf(anyMethod);
+    }
+
+    /**
+     * Verifica si la petición corresponde a un endpoint público.
+     *
+     * La ruta se evalúa sin el context path de la aplicación, igual que lo hace
+     * Spring Security.
+     *
+     * @param request la solicitud HTTP entrante
+     * @return true si la combinación de método y ruta es pública
+     */
+    public boolean matches(HttpServletRequest request) {
+        String requestUri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        String path = contextPath.isEmpty() ? requestUri : requestUri.substring(contextPath.length());
+        return matches(request.getMethod(), path);
+    }
+
+    /**
+     * Verifica si la combinación de método y ruta es pública.
+     *
+     * @param method nombre del método HTTP (por ejemplo {@code GET})
+     * @param path   ruta de la solicitud sin el context path
+     * @return true si la ruta es pública para el método indicado
+     */
+    public boolean matches(String method, String path) {
+        List<PathPattern> methodPatterns = patternsByMethod.getOrDefault(method, Collections.emptyList());
+        if (methodPatterns.isEmpty() && anyMethodPatterns.isEmpty()) {
+            return false;
+        }
+
+        // se analiza la ruta una sola vez y se reutiliza para todos los patrones
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        return matchesAny(methodPatterns, pathContainer) || matchesAny(anyMethodPatterns, pathContainer);
+    }
+
+    private boolean matchesAny(List<PathPattern> patterns, PathContainer pathContainer) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,5 +1,7 @@
 package com.compdes.classrooms.services;
 
+import com.compdes.activity.services.ActivityCatalogueService;
+import com.compdes.activity.services.ScheduleIndexService;
 import com.compdes.classrooms.mappers.ClassroomMapper;
 import com.compdes.classrooms.models.dto.request.AvailableClassroomsDTO;
 import com.compdes.classrooms.models.dto.request.CreateClassroomDTO;
@@ -40,6 +42,8 @@ public class ClassroomService {
     private final ClassroomRepository classroomRepository;
 
     private final ModuleUniRepository moduleUniRepository;
+    private final ScheduleIndexService scheduleIndexService;
+    private final ActivityCatalogueService activityCatalogueService;
 
     /**
      * Crea un nuevo salón de clases para conferencias.
@@ -97,8 +101,18 @@ public class ClassroomService {
         if(availableClassroomsDTO.getInitScheduledDate().isAfter(availableClassroomsDTO.getEndScheduledDate())) {
             throw new IllegalStateException("La fecha de inicio no puede ser posterior a la fecha de fin");
         }
-        List<Classroom> availableClassrooms = classroomRepository.findAvailableClassrooms(
-                availableClassroomsDTO.getInitScheduledDate(), availableClassroomsDTO.getEndScheduledDate());
+        List<Classroom> availableClassrooms;
+        if (scheduleIndexService.isReady()) {
+            // con el indice cargado se descartan en memoria los salones ocupados
+            availableClassrooms = classroomRepository.findAll().stream()
+                    .filter(classroom -> !scheduleIndexService.hasClassroomOverlap(classroom.getId(),
+                            availableClassroomsDTO.getInitScheduledDate(),
+                            availableClassroomsDTO.getEndScheduledDate()))
+                    .toList();
+        } else {
+            availableClassrooms = classroomRepository.findAvailableClassrooms(
+                    availableClassroomsDTO.getInitScheduledDate(), availableClassroomsDTO.getEndScheduledDate());
+        }
         return availableClassrooms.stream()
                 .map(classroomMapper::classroomToResponseDto)
                 .collect(Collectors.toList());
@@ -139,7 +153,10 @@ public class ClassroomService {
             classroom.setCapacity(editClassroomDTO.getCapacity());
         }
 
-        return classroomRepository.save(classroom);
+        Classroom savedClassroom = classroomRepository.save(classroom);
+        // el catalogo de actividades muestra los datos del salon
+        activityCatalogueService.invalidate();
+        return savedClassroom;
     }
 
  }
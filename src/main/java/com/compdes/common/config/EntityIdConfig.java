@@ -0,0 +1,38 @@
+package com.compdes.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import com.compdes.common.utils.EntityIds;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuración de la estrategia de identificadores de las entidades.
+ * 
+ * Con {@code jpa.ids.time-ordered=true} los nuevos registros reciben UUID
+ * versión 7, ordenados por tiempo; por defecto se mantienen los UUID
+ * aleatorios. Ambos tipos conviven en las mismas columnas, por lo que la
+ * opción puede activarse o desactivarse sin migrar datos.
+ * 
+ * Para guardar los identificadores en 16 bytes en lugar de
+ * {@code varchar(36)} se agrega además la migración opcional
+ * {@code classpath:db/binary-ids} a {@code spring.flyway.locations}. Las
+ * columnas convertidas se siguen leyendo y escribiendo como texto, por lo que
+ * no requiere otra configuración.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Configuration
+@Slf4j
+public class EntityIdConfig {
+
+    public EntityIdConfig(@Value("${jpa.ids.time-ordered:false}") boolean timeOrdered) {
+        EntityIds.setTimeOrdered(timeOrdered);
+        if (timeOrdered) {
+            log.info("Identificadores de entidades ordenados por tiempo (UUID versión 7) activados");
+        }
+    }
+}
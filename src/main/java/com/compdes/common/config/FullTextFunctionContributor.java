@@ -0,0 +1,36 @@
+package com.compdes.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra en Hibernate las funciones de búsqueda de texto completo de MySQL /
+ * MariaDB, que no forman parte del dialecto estándar.
+ * 
+ * Se carga mediante {@code META-INF/services} y permite usar
+ * {@code MATCH ... AGAINST} desde consultas Criteria o JPQL.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    /**
+     * Nombre de la función que evalúa el índice {@code FT_participant_search}.
+     * Recibe las seis columnas del índice, en el mismo orden en que fue creado,
+     * y la expresión de búsqueda en modo booleano. Devuelve la relevancia, que es
+     * mayor a cero cuando la fila coincide.
+     */
+    public static final String PARTICIPANT_FULLTEXT_MATCH = "participant_fulltext_match";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                PARTICIPANT_FULLTEXT_MATCH,
+                "match(?1, ?2, ?3, ?4, ?5, ?6) against (?7 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
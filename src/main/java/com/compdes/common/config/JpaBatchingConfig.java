@@ -0,0 +1,38 @@
+package com.compdes.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del procesamiento por lotes de Hibernate.
+ * 
+ * Activa los lotes JDBC y el ordenamiento de inserciones y actualizaciones, de
+ * modo que las entidades de un mismo tipo creadas en una transacción (por
+ * ejemplo, en el registro de participantes o la aprobación de registros) se
+ * envíen agrupadas al hacer flush en lugar de una sentencia por entidad.
+ * 
+ * Los valores solo se aplican si no fueron definidos ya en
+ * {@code spring.jpa.properties}. Para que MySQL reciba sentencias multi-fila,
+ * la URL de conexión debe incluir {@code rewriteBatchedStatements=true}.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Configuration
+public class JpaBatchingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaBatchingCustomizer(
+            @Value("${jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
@@ -1,12 +1,14 @@
 package com.compdes.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import com.compdes.auth.users.enums.RolesEnum;
 import com.compdes.auth.users.models.dto.request.CreateNonParticipantCompdesUserDTO;
 import com.compdes.auth.users.services.CompdesUserService;
-import com.compdes.qrCodes.services.QrCodeService;
+import com.compdes.qrCodes.models.dto.response.QrCodePoolFillDTO;
+import com.compdes.qrCodes.services.QrCodePoolService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +18,10 @@ import lombok.RequiredArgsConstructor;
 public class SeedersConfig implements CommandLineRunner {
 
 	private final CompdesUserService compdesUserService;
-	private final QrCodeService qrCodeService;
+	private final QrCodePoolService qrCodePoolService;
+
+	@Value("${qr.pool.initial-size:500}")
+	private int initialQrPoolSize;
 
 	@Override
 	@Transactional(rollbackOn = Exception.class)
@@ -31,13 +36,11 @@ public class SeedersConfig implements CommandLineRunner {
 
 		}
 
-		// generar 500 qr si no hay ninguno creado
-		if (qrCodeService.count() == 0) {
-			System.out.println("Creando qrs.");
-
-			for (int x = 0; x < 500; x++) {
-				qrCodeService.createQrCode();
-			}
+		// completar el pool de qrs disponibles (500 por defecto) en lote
+		QrCodePoolFillDTO qrPoolFill = qrCodePoolService.topUpPool(initialQrPoolSize);
+		if (qrPoolFill.getInsertedRows() > 0) {
+			System.out.println("Creados " + qrPoolFill.getInsertedRows() + " qrs en "
+					+ qrPoolFill.getElapsedMillis() + " ms.");
 		}
 
 	}
@@ -15,6 +15,7 @@ import com.compdes.common.exceptions.FileStorageException;
 import com.compdes.common.exceptions.InvalidTokenException;
 import com.compdes.common.exceptions.NotFoundException;
 import com.compdes.common.exceptions.QrCodeException;
+import com.compdes.common.exceptions.ServiceUnavailableException;
 import com.compdes.common.models.dto.response.ErrorDTO;
 import com.compdes.common.utils.MethodArgumentErrorExtractor;
 
@@ -90,6 +91,12 @@ public class GlobalExceptionHandler {
         return new ErrorDTO(ex.getMessage());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorDTO handleServiceUnavailableException(ServiceUnavailableException ex) {
+        return new ErrorDTO(ex.getMessage());
+    }
+
     @ExceptionHandler(QrCodeException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorDTO handleQrCodeException(QrCodeException ex) {
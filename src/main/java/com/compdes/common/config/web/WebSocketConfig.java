@@ -0,0 +1,61 @@
+package com.compdes.common.config.web;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import com.compdes.common.config.AppProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuración de WebSocket con STOMP.
+ * 
+ * Expone el endpoint {@code /ws} y un broker simple en memoria para los
+ * destinos {@code /topic/**}, usados para enviar información pública en tiempo
+ * real (por ejemplo, la disponibilidad de cupos de los talleres). Los clientes
+ * solo pueden suscribirse: los mensajes {@code SEND} se descartan para que
+ * nadie pueda publicar en los destinos del servidor.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final AppProperties appProperties;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOrigins(appProperties.getFrontendHost());
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+                // los clientes solo reciben, no publican
+                return StompCommand.SEND.equals(accessor.getCommand()) ? null : message;
+            }
+        });
+    }
+}
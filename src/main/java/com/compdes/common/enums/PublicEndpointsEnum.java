@@ -61,7 +61,9 @@ public enum PublicEndpointsEnum {
     API_DOCS(null, "/v3/api-docs/**"),
     //rutas publicas de reservation
     RESERVATION_COUNT_PARTICIPANTS(HttpMethod.GET, "/api/v1/reservations/countParticipants/*"),
-    RESERVATION_VERIFY_ASSISTANT(HttpMethod.GET, "/api/v1/reservations/isAssigned/**")
+    RESERVATION_VERIFY_ASSISTANT(HttpMethod.GET, "/api/v1/reservations/isAssigned/**"),
+    // handshake de WebSocket (STOMP), solo expone destinos publicos
+    WEBSOCKET_HANDSHAKE(HttpMethod.GET, "/ws")
     ;
 
     private final HttpMethod method;
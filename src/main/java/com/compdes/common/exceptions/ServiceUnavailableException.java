@@ -0,0 +1,19 @@
+package com.compdes.common.exceptions;
+
+/**
+ * Excepción utilizada para indicar que el servicio no puede atender la
+ * solicitud en este momento por estar saturado.
+ * 
+ * A diferencia de un error del cliente, la misma solicitud puede tener éxito
+ * si se reintenta más tarde.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class ServiceUnavailableException extends CustomRuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super("", message);
+    }
+}
@@ -0,0 +1,41 @@
+package com.compdes.common.models.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Value;
+
+/**
+ * Porción de resultados obtenida mediante paginación por cursor (keyset).
+ * 
+ * A diferencia de {@code Page}, no incluye el total de elementos, lo que evita
+ * la consulta {@code count(*)} en cada petición. Para obtener la siguiente
+ * porción se envía {@code nextCursor} tal como fue recibido; su contenido es
+ * opaco para el cliente.
+ * 
+ * @param <T> tipo de los elementos de la porción
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class CursorSliceDTO<T> {
+
+    List<T> content;
+    Integer size;
+    Boolean hasNext;
+    String nextCursor;
+
+    /**
+     * Convierte el contenido de la porción conservando los datos del cursor.
+     * 
+     * @param <R>       tipo de los elementos convertidos
+     * @param converter función de conversión de cada elemento
+     * @return una nueva porción con el contenido convertido
+     */
+    public <R> CursorSliceDTO<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new CursorSliceDTO<>(converted, size, hasNext, nextCursor);
+    }
+}
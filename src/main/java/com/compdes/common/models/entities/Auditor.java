@@ -9,8 +9,6 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Data;
@@ -26,11 +24,11 @@ import lombok.NoArgsConstructor;
 public class Auditor {
 
     /**
-     * Identificador único de la entidad. Se genera automáticamente utilizando
-     * el tipo UUID.
+     * Identificador único de la entidad. Se genera automáticamente como UUID,
+     * aleatorio u ordenado por tiempo según {@code jpa.ids.time-ordered}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedEntityId
     @Column(updatable = false, nullable = false, unique = true, length = 36)
     private String id;
 
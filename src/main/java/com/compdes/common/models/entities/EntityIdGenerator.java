@@ -0,0 +1,35 @@
+package com.compdes.common.models.entities;
+
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import com.compdes.common.utils.EntityIds;
+
+/**
+ * Generador de Hibernate para los identificadores marcados con
+ * {@link GeneratedEntityId}.
+ * 
+ * Delega en {@link EntityIds#newId()}, por lo que la estrategia (UUID aleatorio
+ * u ordenado por tiempo) es la misma que usan las inserciones por JDBC.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class EntityIdGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return EntityIds.newId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,101 @@
+package com.compdes.common.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generador de los identificadores de las entidades.
+ * 
+ * Por defecto genera UUID aleatorios (versión 4), igual que
+ * {@code GenerationType.UUID}. Si se activa {@code jpa.ids.time-ordered}, genera
+ * UUID versión 7: los primeros 48 bits son los milisegundos de la época Unix,
+ * por lo que los identificadores nuevos son siempre mayores que los
+ * anteriores, también en su forma de texto. Así las inserciones se agregan al
+ * final del índice primario en lugar de repartirse por páginas aleatorias.
+ * 
+ * Los servicios que insertan filas mediante JDBC deben obtener sus
+ * identificadores de aquí para seguir la misma estrategia que las entidades.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public final class EntityIds {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Máximo del contador de 12 bits usado dentro de un mismo milisegundo.
+     */
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static volatile boolean timeOrdered = false;
+
+    // estado del ultimo id ordenado generado, protegido por el monitor de la
+    // clase
+    private static long lastMillis = -1;
+    private static int sequence = 0;
+
+    private EntityIds() {
+    }
+
+    /**
+     * Define la estrategia de generación de identificadores.
+     *
+     * @param enabled true para generar UUID versión 7 ordenados por tiempo
+     */
+    public static void setTimeOrdered(boolean enabled) {
+        timeOrdered = enabled;
+    }
+
+    /**
+     * Indica si los identificadores se generan ordenados por tiempo.
+     *
+     * @return true si se generan UUID versión 7
+     */
+    public static boolean isTimeOrdered() {
+        return timeOrdered;
+    }
+
+    /**
+     * Genera un nuevo identificador según la estrategia configurada.
+     *
+     * @return el identificador en su forma canónica de 36 caracteres
+     */
+    public static String newId() {
+        return timeOrdered ? newTimeOrderedId() : UUID.randomUUID().toString();
+    }
+
+    /**
+     * Genera un UUID versión 7 (RFC 9562).
+     * 
+     * Los 12 bits siguientes a la versión se usan como contador dentro del mismo
+     * milisegundo, de forma que los identificadores generados por esta instancia
+     * son estrictamente crecientes aunque el reloj retroceda.
+     *
+     * @return el identificador en su forma canónica de 36 caracteres
+     */
+    public static String newTimeOrderedId() {
+        long millis;
+        int counter;
+        synchronized (EntityIds.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                sequence = 0;
+            } else if (sequence < MAX_SEQUENCE) {
+                sequence++;
+            } else {
+                // contador agotado o reloj atrasado: se avanza un milisegundo
+                lastMillis++;
+                sequence = 0;
+            }
+            millis = lastMillis;
+            counter = sequence;
+        }
+
+        long mostSignificant = (millis << 16) | 0x7000L | counter;
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant).toString();
+    }
+}
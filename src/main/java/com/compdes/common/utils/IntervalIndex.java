@@ -0,0 +1,172 @@
+package com.compdes.common.utils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice en memoria de intervalos de tiempo agrupados por una clave (por
+ * ejemplo, las actividades de cada salón o la agenda de cada participante).
+ *
+ * Cada clave tiene su propia línea de tiempo con los intervalos ordenados por
+ * fecha de inicio y la duración del intervalo más largo registrado. Con ese
+ * dato, los únicos candidatos a coincidir con un rango son los que inician
+ * dentro de una ventana acotada, por lo que cada consulta cuesta
+ * O(log n + k), siendo k la cantidad de intervalos dentro de la ventana.
+ *
+ * Es seguro para uso concurrente: cada línea de tiempo se sincroniza por
+ * separado.
+ *
+ * @param <K> tipo de la clave que agrupa los intervalos
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class IntervalIndex<K> {
+
+    private final Map<K, Timeline> timelines = new ConcurrentHashMap<>();
+
+    /**
+     * Registra o reemplaza un intervalo.
+     *
+     * @param key   clave que agrupa el intervalo
+     * @param id    identificador del intervalo dentro de la clave
+     * @param start inicio del intervalo
+     * @param end   fin del intervalo
+     */
+    public void put(K key, String id, LocalDateTime start, LocalDateTime end) {
+        timelines.computeIfAbsent(key, k -> new Timeline()).put(new Interval(id, start, end));
+    }
+
+    /**
+     * Elimina un intervalo, si existe.
+     *
+     * @param key clave que agrupa el intervalo
+     * @param id  identificador del intervalo
+     */
+    public void remove(K key, String id) {
+        Timeline timeline = timelines.get(key);
+        if (timeline != null) {
+            timeline.remove(id);
+        }
+    }
+
+    /**
+     * Verifica si algún intervalo de la clave se traslapa con el rango
+     * {@code (start, end)}. Los intervalos que solo se tocan en un extremo no
+     * se consideran traslapados.
+     *
+     * @param key       clave a consultar
+     * @param start     inicio del rango
+     * @param end       fin del rango
+     * @param excludeId intervalo a ignorar, o {@code null}
+     * @return true si existe al menos un traslape
+     */
+    public boolean overlaps(K key, LocalDateTime start, LocalDateTime end, String excludeId) {
+        Timeline timeline = timelines.get(key);
+        return timeline != null && timeline.overlaps(start, end, excludeId);
+    }
+
+    /**
+     * Verifica si algún intervalo de la clave contiene por completo el rango
+     * {@code [start, end]}, incluyendo los extremos.
+     *
+     * @param key       clave a consultar
+     * @param start     inicio del rango
+     * @param end       fin del rango
+     * @param excludeId intervalo a ignorar, o {@code null}
+     * @return true si existe un intervalo que cubre el rango
+     */
+    public boolean covers(K key, LocalDateTime start, LocalDateTime end, String excludeId) {
+        Timeline timeline = timelines.get(key);
+        return timeline != null && timeline.covers(start, end, excludeId);
+    }
+
+    /**
+     * Elimina todos los intervalos.
+     */
+    public void clear() {
+        timelines.clear();
+    }
+
+    private record Interval(String id, LocalDateTime start, LocalDateTime end) {
+    }
+
+    /**
+     * Intervalos de una clave, ordenados por inicio.
+     */
+    private static class Timeline {
+
+        private final NavigableMap<LocalDateTime, Map<String, Interval>> byStart = new TreeMap<>();
+        private final Map<String, Interval> byId = new HashMap<>();
+
+        /**
+         * Duración del intervalo más largo registrado. No disminuye al eliminar,
+         * lo que solo amplía la ventana de búsqueda.
+         */
+        private Duration maxDuration = Duration.ZERO;
+
+        private synchronized void put(Interval interval) {
+            remove(interval.id());
+            byId.put(interval.id(), interval);
+            byStart.computeIfAbsent(interval.start(), start -> new HashMap<>()).put(interval.id(), interval);
+            Duration duration = Duration.between(interval.start(), interval.end());
+            if (duration.compareTo(maxDuration) > 0) {
+                maxDuration = duration;
+            }
+        }
+
+        private synchronized void remove(String id) {
+            Interval previous = byId.remove(id);
+            if (previous == null) {
+                return;
+            }
+            Map<String, Interval> sameStart = byStart.get(previous.start());
+            sameStart.remove(id);
+            if (sameStart.isEmpty()) {
+                byStart.remove(previous.start());
+            }
+        }
+
+        private synchronized boolean overlaps(LocalDateTime start, LocalDateTime end, String excludeId) {
+            // un intervalo que termina despues de start no puede iniciar antes
+            // de start - maxDuration
+            LocalDateTime from = start.minus(maxDuration);
+            if (!end.isAfter(from)) {
+                return false;
+            }
+            NavigableMap<LocalDateTime, Map<String, Interval>> candidates = byStart.subMap(from, false, end, false);
+            for (Map<String, Interval> sameStart : candidates.values()) {
+                for (Interval interval : sameStart.values()) {
+                    if (interval.end().isAfter(start) && !interval.id().equals(excludeId)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private synchronized boolean covers(LocalDateTime start, LocalDateTime end, String excludeId) {
+            // un intervalo que termina en o despues de end no puede iniciar
+            // antes de end - maxDuration
+            LocalDateTime from = end.minus(maxDuration);
+            if (from.isAfter(start)) {
+                return false;
+            }
+            NavigableMap<LocalDateTime, Map<String, Interval>> candidates = byStart.subMap(from, true, start, true);
+            for (Map<String, Interval> sameStart : candidates.values()) {
+                for (Interval interval : sameStart.values()) {
+                    if (!interval.end().isBefore(end) && !interval.id().equals(excludeId)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.compdes.common.utils;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Utilidad para escribir columnas de auditoría ({@code created_at},
+ * {@code updated_at}) desde sentencias JDBC.
+ *
+ * Hibernate guarda los {@link Instant} de {@code Auditor} en UTC, mientras que
+ * un {@link Timestamp} enlazado directamente por JDBC se convierte con la zona
+ * por defecto de la JVM ({@code America/Guatemala}, ver
+ * {@code TimeZoneConfig}). Para que las filas insertadas por JDBC coincidan con
+ * las guardadas por JPA, el instante se enlaza como fecha y hora en UTC.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public final class JdbcTimestamps {
+
+    private JdbcTimestamps() {
+    }
+
+    /**
+     * Obtiene el instante actual listo para enlazarse en una columna de
+     * auditoría.
+     *
+     * @return la fecha y hora actual en UTC
+     */
+    public static Timestamp nowUtc() {
+        return Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC));
+    }
+}
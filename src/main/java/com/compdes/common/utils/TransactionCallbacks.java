@@ -0,0 +1,40 @@
+package com.compdes.common.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utilidad para ejecutar acciones cuando se confirma la transacción actual.
+ *
+ * La usan los componentes que mantienen datos en memoria derivados de la base
+ * de datos (índices, cachés), para que un rollback nunca deje en ellos cambios
+ * que no llegaron a guardarse.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Ejecuta la acción al confirmar la transacción actual, o de inmediato si no
+     * hay una transacción activa.
+     *
+     * @param action acción a ejecutar
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.compdes.notifications.mails.controllers;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.compdes.notifications.mails.models.dto.response.MailOutboxStatsDTO;
+import com.compdes.notifications.mails.services.MailOutboxDispatcher;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controlador que expone el estado de la bandeja de salida de correos.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@RestController
+@RequestMapping("/api/v1/mails/outbox")
+@RequiredArgsConstructor
+public class MailOutboxController {
+
+    private final MailOutboxDispatcher mailOutboxDispatcher;
+
+    @Operation(summary = "Métricas de la bandeja de salida de correos", description = "Devuelve la cantidad de correos por estado (pendientes, en envío, enviados y fallidos), la antigüedad del pendiente más antiguo y las métricas de envío de esta instancia: correos enviados, intentos fallidos y latencia promedio y última del envío SMTP. "
+            + "Solo accesible para usuarios con rol `ADMIN`.", security = @SecurityRequirement(name = "bearerAuth"), responses = {
+                    @ApiResponse(responseCode = "200", description = "Métricas obtenidas correctamente"),
+                    @ApiResponse(responseCode = "403", description = "Acceso denegado al recurso (requiere rol `ADMIN`), token inválido o no proporcionado")
+            })
+    @GetMapping("/stats")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    public MailOutboxStatsDTO getOutboxStats() {
+        return mailOutboxDispatcher.getOutboxStats();
+    }
+}
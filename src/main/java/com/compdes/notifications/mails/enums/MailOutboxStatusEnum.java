@@ -0,0 +1,28 @@
+package com.compdes.notifications.mails.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Enum que define los estados posibles de un correo en la bandeja de salida
+ * (outbox).
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@AllArgsConstructor
+@Getter
+public enum MailOutboxStatusEnum {
+
+    PENDING("Pendiente de envío"),
+    SENDING("En envío"),
+    SENT("Enviado"),
+    FAILED("Fallido");
+
+    /**
+     * Nombre descriptivo del estado para mostrar en interfaces de usuario.
+     */
+    private final String statusLabel;
+
+}
@@ -0,0 +1,26 @@
+package com.compdes.notifications.mails.models.dto.internal;
+
+import lombok.Value;
+
+/**
+ * DTO interno con el resultado de la entrega de un correo dentro de un envío
+ * por lotes.
+ *
+ * Si {@code delivered} es {@code false}, {@code error} contiene el motivo del
+ * fallo y el correo puede reintentarse de forma individual.
+ *
+ * Este objeto se utiliza exclusivamente entre capas del sistema y no está
+ * diseñado para ser expuesto directamente en la API pública.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class MailDeliveryResultDTO {
+
+    String reference;
+    String recipientEmail;
+    boolean delivered;
+    String error;
+}
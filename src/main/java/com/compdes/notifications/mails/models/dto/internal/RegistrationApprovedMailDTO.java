@@ -0,0 +1,28 @@
+package com.compdes.notifications.mails.models.dto.internal;
+
+import lombok.Value;
+
+/**
+ * DTO interno con los datos necesarios para enviar el correo de registro
+ * aprobado a un participante.
+ *
+ * El campo {@code reference} es un identificador libre elegido por quien
+ * invoca el envío (por ejemplo, el ID de la fila de la bandeja de salida) y se
+ * devuelve sin cambios en el resultado de la entrega, lo que permite saber qué
+ * destinatarios deben reintentarse.
+ *
+ * Este objeto se utiliza exclusivamente entre capas del sistema y no está
+ * diseñado para ser expuesto directamente en la API pública.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class RegistrationApprovedMailDTO {
+
+    String reference;
+    String participantEmail;
+    String participantFullName;
+    String userId;
+}
@@ -0,0 +1,33 @@
+package com.compdes.notifications.mails.models.dto.response;
+
+import lombok.Value;
+
+/**
+ * DTO de respuesta con las métricas de la bandeja de salida de correos.
+ * 
+ * Los conteos por estado reflejan la profundidad de la cola en la base de
+ * datos. Las métricas de envío ({@code dispatchedMessages},
+ * {@code failedAttempts} y las latencias) se acumulan en memoria desde el
+ * último arranque de esta instancia.
+ * 
+ * {@code oldestPendingAgeSeconds} es {@code null} cuando no hay correos
+ * pendientes.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class MailOutboxStatsDTO {
+
+    Long pending;
+    Long sending;
+    Long sent;
+    Long failed;
+    Long oldestPendingAgeSeconds;
+    Long dispatchedMessages;
+    Long failedAttempts;
+    Double averageSendMillis;
+    Long lastSendMillis;
+    Integer activeWorkers;
+}
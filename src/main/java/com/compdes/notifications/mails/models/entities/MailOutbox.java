@@ -0,0 +1,87 @@
+package com.compdes.notifications.mails.models.entities;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.compdes.common.models.entities.Auditor;
+import com.compdes.notifications.mails.enums.MailOutboxStatusEnum;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Representa un correo de registro aprobado pendiente de envío.
+ * 
+ * Cada fila se inserta en la misma transacción que aprueba al participante, de
+ * modo que el correo solo existe si la aprobación se confirmó. Un proceso en
+ * segundo plano toma las filas pendientes, las envía y registra el resultado,
+ * reintentando con espera exponencial cuando el envío falla.
+ * 
+ * El campo {@code nextAttemptAt} indica a partir de cuándo la fila puede
+ * tomarse de nuevo: para filas pendientes es el momento del siguiente intento y
+ * para filas en envío es el vencimiento de la reserva, lo que permite
+ * recuperar correos que quedaron a medias si la aplicación se detuvo.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Entity
+@DynamicUpdate
+@NoArgsConstructor
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class MailOutbox extends Auditor {
+
+    @Column(nullable = false, length = 150)
+    private String recipientEmail;
+
+    @Column(nullable = false, length = 255)
+    private String recipientFullName;
+
+    @Column(nullable = false, length = 36)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailOutboxStatusEnum status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(nullable = true)
+    private Instant sentAt;
+
+    @Column(nullable = true, length = 500)
+    private String lastError;
+
+    /**
+     * Constructor utilizado para encolar un nuevo correo de registro aprobado.
+     * 
+     * El correo queda pendiente y disponible para envío inmediato.
+     * 
+     * @param recipientEmail    correo del participante
+     * @param recipientFullName nombre completo del participante
+     * @param userId            ID del usuario a activar desde el correo
+     */
+    @Builder
+    public MailOutbox(String recipientEmail, String recipientFullName, String userId) {
+        this.recipientEmail = recipientEmail;
+        this.recipientFullName = recipientFullName;
+        this.userId = userId;
+        this.status = MailOutboxStatusEnum.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = Instant.now();
+    }
+
+}
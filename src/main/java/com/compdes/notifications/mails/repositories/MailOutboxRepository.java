@@ -0,0 +1,80 @@
+package com.compdes.notifications.mails.repositories;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.compdes.notifications.mails.enums.MailOutboxStatusEnum;
+import com.compdes.notifications.mails.models.entities.MailOutbox;
+
+/**
+ * Repositorio JPA para la entidad {@link MailOutbox}.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, String> {
+
+    /**
+     * Obtiene y bloquea un lote de correos listos para enviarse.
+     * 
+     * Incluye los correos pendientes cuyo siguiente intento ya llegó y los que
+     * quedaron en envío con la reserva vencida. Gracias a {@code SKIP LOCKED},
+     * varias instancias de la aplicación pueden tomar lotes en paralelo sin
+     * recibir filas repetidas. Debe invocarse dentro de una transacción.
+     * 
+     * @param now   instante actual
+     * @param limit cantidad máxima de correos a tomar
+     * @return los correos bloqueados, ordenados por antigüedad del intento
+     */
+    @Query(value = """
+            SELECT * FROM mail_outbox
+            WHERE status IN ('PENDING', 'SENDING')
+              AND next_attempt_at <= :now
+            ORDER BY next_attempt_at ASC
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    public List<MailOutbox> lockDueBatch(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Marca como enviados, en una sola sentencia, los correos indicados.
+     * 
+     * @param ids    IDs de los correos enviados
+     * @param sentAt instante del envío
+     * @return cantidad de correos actualizados
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE MailOutbox m
+            SET m.status = com.compdes.notifications.mails.enums.MailOutboxStatusEnum.SENT,
+                m.sentAt = :sentAt, m.updatedAt = :sentAt, m.lastError = NULL
+            WHERE m.id IN :ids
+            """)
+    public int markAllSent(@Param("ids") Collection<String> ids, @Param("sentAt") Instant sentAt);
+
+    /**
+     * Cuenta los correos que se encuentran en el estado indicado.
+     * 
+     * @param status estado a contar
+     * @return cantidad de correos en ese estado
+     */
+    public Long countByStatus(MailOutboxStatusEnum status);
+
+    /**
+     * Obtiene el correo más antiguo que se encuentra en el estado indicado.
+     * 
+     * @param status estado a consultar
+     * @return el correo más antiguo, o vacío si no hay ninguno
+     */
+    public Optional<MailOutbox> findFirstByStatusOrderByCreatedAtAsc(MailOutboxStatusEnum status);
+}
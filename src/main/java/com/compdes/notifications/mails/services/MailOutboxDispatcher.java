@@ -0,0 +1,231 @@
+package com.compdes.notifications.mails.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.compdes.notifications.mails.enums.MailOutboxStatusEnum;
+import com.compdes.notifications.mails.models.dto.internal.MailDeliveryResultDTO;
+import com.compdes.notifications.mails.models.dto.internal.RegistrationApprovedMailDTO;
+import com.compdes.notifications.mails.models.dto.response.MailOutboxStatsDTO;
+import com.compdes.notifications.mails.models.entities.MailOutbox;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Componente que drena la bandeja de salida de correos.
+ *
+ * Periódicamente reserva lotes de correos pendientes y los entrega a un pool de
+ * hilos de tamaño fijo. Nunca hay más lotes en curso que trabajadores, por lo
+ * que la cantidad de conexiones SMTP simultáneas está acotada sin importar
+ * cuántas aprobaciones se encolen. Cada lote se envía reutilizando la conexión
+ * SMTP y los envíos de todos los trabajadores comparten un límite de correos
+ * por segundo.
+ *
+ * El pool no se registra como bean para no interferir con el ejecutor que
+ * Spring usa para los métodos {@code @Async}.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Component
+@Slf4j
+public class MailOutboxDispatcher {
+
+    private final MailOutboxService mailOutboxService;
+    private final MailService mailService;
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore workerPermits;
+    private final int batchSize;
+
+    /**
+     * Intervalo mínimo entre dos envíos, en nanosegundos. Cero si no hay límite.
+     */
+    private final long minSendIntervalNanos;
+
+    /**
+     * Instante (según {@link System#nanoTime()}) a partir del cual puede
+     * realizarse el siguiente envío.
+     */
+    private long nextSendSlotNanos = System.nanoTime();
+
+    // metricas acumuladas desde el arranque
+    private final AtomicLong dispatchedMessages = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+    private final AtomicLong totalSendNanos = new AtomicLong();
+    private final AtomicLong lastSendNanos = new AtomicLong();
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    public MailOutboxDispatcher(MailOutboxService mailOutboxService, MailService mailService,
+            @Value("${mail.outbox.workers:2}") int workers,
+            @Value("${mail.outbox.batch-size:50}") int batchSize,
+            @Value("${mail.outbox.max-per-second:10}") double maxPerSecond) {
+        this.mailOutboxService = mailOutboxService;
+        this.mailService = mailService;
+        this.batchSize = batchSize;
+        this.workerPermits = new Semaphore(workers);
+        this.minSendIntervalNanos = maxPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / maxPerSecond) : 0;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        // la cola solo absorbe el instante en que un hilo termina su lote y aun no
+        // queda libre, ya que los permisos impiden enviar mas lotes que hilos
+        executor.setQueueCapacity(workers);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("mail-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    /**
+     * Reserva lotes de correos pendientes mientras haya trabajadores libres y los
+     * envía en segundo plano.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:2000}")
+    public void drain() {
+        while (workerPermits.tryAcquire()) {
+            List<MailOutbox> batch;
+            try {
+                batch = mailOutboxService.claimDueBatch(batchSize);
+            } catch (RuntimeException e) {
+                workerPermits.release();
+                log.error("No se pudo reservar un lote de la bandeja de salida de correos", e);
+                return;
+            }
+
+            if (batch.isEmpty()) {
+                workerPermits.release();
+                return;
+            }
+
+            executor.execute(() -> {
+                activeWorkers.incrementAndGet();
+                try {
+                    sendBatch(batch);
+                } finally {
+                    activeWorkers.decrementAndGet();
+                    workerPermits.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Obtiene las métricas actuales de la bandeja de salida.
+     *
+     * @return profundidad de la cola por estado y métricas de envío de esta
+     *         instancia
+     */
+    public MailOutboxStatsDTO getOutboxStats() {
+        long dispatched = dispatchedMessages.get();
+        Double averageSendMillis = dispatched == 0 ? null
+                : totalSendNanos.get() / (double) dispatched / TimeUnit.MILLISECONDS.toNanos(1);
+
+        return new MailOutboxStatsDTO(
+                mailOutboxService.countByStatus(MailOutboxStatusEnum.PENDING),
+                mailOutboxService.countByStatus(MailOutboxStatusEnum.SENDING),
+                mailOutboxService.countByStatus(MailOutboxStatusEnum.SENT),
+                mailOutboxService.countByStatus(MailOutboxStatusEnum.FAILED),
+                mailOutboxService.getOldestPendingAgeSeconds(),
+                dispatched,
+                failedAttempts.get(),
+                averageSendMillis,
+                TimeUnit.NANOSECONDS.toMillis(lastSendNanos.get()),
+                activeWorkers.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Envía los correos de un lote y registra el resultado de cada uno.
+     *
+     * El lote se entrega completo a
+     * {@link MailService#sendRegistrationApprovedEmails(List)}, que reutiliza la
+     * conexión SMTP por bloques. Los envíos exitosos se confirman juntos y solo
+     * los fallidos se reprograman.
+     *
+     * @param batch correos reservados
+     */
+    private void sendBatch(List<MailOutbox> batch) {
+        try {
+            acquireSendSlots(batch.size());
+        } catch (InterruptedException e) {
+            // los correos no procesados se recuperan al vencer su reserva
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        List<RegistrationApprovedMailDTO> mails = new ArrayList<>(batch.size());
+        for (MailOutbox mailOutbox : batch) {
+            mails.add(new RegistrationApprovedMailDTO(mailOutbox.getId(), mailOutbox.getRecipientEmail(),
+                    mailOutbox.getRecipientFullName(), mailOutbox.getUserId()));
+        }
+
+        long start = System.nanoTime();
+        List<MailDeliveryResultDTO> results = mailService.sendRegistrationApprovedEmails(mails);
+        long elapsedNanos = System.nanoTime() - start;
+
+        List<String> sentIds = new ArrayList<>(results.size());
+        for (MailDeliveryResultDTO result : results) {
+            if (result.isDelivered()) {
+                sentIds.add(result.getReference());
+            } else {
+                failedAttempts.incrementAndGet();
+                mailOutboxService.markFailed(result.getReference(), result.getError());
+            }
+        }
+        mailOutboxService.markSent(sentIds);
+        recordSend(sentIds.size(), elapsedNanos / Math.max(results.size(), 1));
+    }
+
+    /**
+     * Reserva espacio para {@code count} envíos dentro del límite de correos por
+     * segundo y espera hasta que llegue el turno del primero.
+     *
+     * @param count cantidad de correos que se enviarán
+     * @throws InterruptedException si el hilo es interrumpido mientras espera
+     */
+    private void acquireSendSlots(int count) throws InterruptedException {
+        if (minSendIntervalNanos == 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSendSlotNanos);
+            nextSendSlotNanos = slot + minSendIntervalNanos * count;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Acumula las métricas de envío.
+     *
+     * @param delivered       correos entregados
+     * @param perMessageNanos   tiempo promedio de envío por correo
+     */
+    private void recordSend(int delivered, long perMessageNanos) {
+        dispatchedMessages.addAndGet(delivered);
+        totalSendNanos.addAndGet(perMessageNanos * delivered);
+        lastSendNanos.set(perMessageNanos);
+    }
+}
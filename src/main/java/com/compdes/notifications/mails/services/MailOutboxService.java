@@ -0,0 +1,210 @@
+package com.compdes.notifications.mails.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.compdes.notifications.mails.enums.MailOutboxStatusEnum;
+import com.compdes.notifications.mails.models.dto.internal.RegistrationApprovedMailDTO;
+import com.compdes.notifications.mails.models.entities.MailOutbox;
+import com.compdes.notifications.mails.repositories.MailOutboxRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio encargado de la bandeja de salida (outbox) de correos.
+ *
+ * Encola los correos dentro de la transacción de negocio que los origina y
+ * administra su ciclo de vida: reserva de lotes para envío, confirmación de
+ * envíos exitosos y reprogramación con espera exponencial de los fallidos.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Service
+@Transactional(rollbackFor = Exception.class)
+@Slf4j
+public class MailOutboxService {
+
+    /**
+     * Longitud máxima del mensaje de error que se guarda por correo.
+     */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration sendingLease;
+
+    public MailOutboxService(MailOutboxRepository mailOutboxRepository,
+            @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${mail.outbox.base-backoff-seconds:30}") long baseBackoffSeconds,
+            @Value("${mail.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds,
+            @Value("${mail.outbox.lease-seconds:300}") long leaseSeconds) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofSeconds(baseBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.sendingLease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * Encola el correo de registro aprobado de un participante.
+     *
+     * Exige una transacción activa para que el correo se confirme o se revierta
+     * junto con la aprobación que lo origina.
+     *
+     * @param recipientEmail    correo del participante
+     * @param recipientFullName nombre completo del participante
+     * @param userId            ID del usuario a activar desde el correo
+     * @return el correo encolado
+     */
+    @Transactional(propagation = Propagation.MANDATORY, rollbackFor = Exception.class)
+    public MailOutbox enqueueRegistrationApproved(String recipientEmail, String recipientFullName, String userId) {
+        MailOutbox mailOutbox = MailOutbox.builder()
+                .recipientEmail(recipientEmail)
+                .recipientFullName(recipientFullName)
+                .userId(userId)
+                .build();
+        return mailOutboxRepository.save(mailOutbox);
+    }
+
+    /**
+     * Encola en una sola operación los correos de registro aprobado de varios
+     * participantes.
+     *
+     * Al igual que {@link #enqueueRegistrationApproved(String, String, String)},
+     * exige una transacción activa. El campo {@code reference} de cada correo se
+     * ignora, ya que la referencia es el ID de la fila creada.
+     *
+     * @param mails datos de los correos a encolar
+     * @return los correos encolados
+     */
+    @Transactional(propagation = Propagation.MANDATORY, rollbackFor = Exception.class)
+    public List<MailOutbox> enqueueRegistrationApproved(List<RegistrationApprovedMailDTO> mails) {
+        List<MailOutbox> outbox = mails.stream()
+                .map(mail -> MailOutbox.builder()
+                        .recipientEmail(mail.getParticipantEmail())
+                        .recipientFullName(mail.getParticipantFullName())
+                        .userId(mail.getUserId())
+                        .build())
+                .toList();
+        return mailOutboxRepository.saveAll(outbox);
+    }
+
+    /**
+     * Reserva un lote de correos listos para enviarse.
+     *
+     * Los correos tomados pasan a {@code SENDING}, se les suma un intento y su
+     * {@code nextAttemptAt} se mueve al vencimiento de la reserva. Si la
+     * aplicación se detiene antes de confirmar el resultado, los correos vuelven
+     * a estar disponibles al vencer la reserva.
+     *
+     * @param batchSize cantidad máxima de correos a reservar
+     * @return los correos reservados, vacío si no hay ninguno listo
+     */
+    public List<MailOutbox> claimDueBatch(int batchSize) {
+        Instant now = Instant.now();
+        List<MailOutbox> batch = mailOutboxRepository.lockDueBatch(now, batchSize);
+        for (MailOutbox mailOutbox : batch) {
+            mailOutbox.setStatus(MailOutboxStatusEnum.SENDING);
+            mailOutbox.setAttempts(mailOutbox.getAttempts() + 1);
+            mailOutbox.setNextAttemptAt(now.plus(sendingLease));
+        }
+        return batch;
+    }
+
+    /**
+     * Marca como enviados los correos indicados.
+     *
+     * @param ids IDs de los correos enviados exitosamente
+     */
+    public void markSent(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        mailOutboxRepository.markAllSent(ids, Instant.now());
+    }
+
+    /**
+     * Registra un intento fallido de envío.
+     *
+     * Si aún quedan intentos, el correo vuelve a {@code PENDING} y se reprograma
+     * con espera exponencial a partir de {@code mail.outbox.base-backoff-seconds},
+     * sin superar {@code mail.outbox.max-backoff-seconds}. Al agotar los
+     * intentos queda en {@code FAILED}.
+     *
+     * @param id    ID del correo que falló
+     * @param error mensaje del error ocurrido
+     */
+    public void markFailed(String id, String error) {
+        MailOutbox mailOutbox = mailOutboxRepository.findById(id).orElse(null);
+        if (mailOutbox == null) {
+            return;
+        }
+
+        mailOutbox.setLastError(truncateError(error));
+        if (mailOutbox.getAttempts() >= maxAttempts) {
+            mailOutbox.setStatus(MailOutboxStatusEnum.FAILED);
+            log.error("Correo {} a {} descartado tras {} intentos: {}", id, mailOutbox.getRecipientEmail(),
+                    mailOutbox.getAttempts(), error);
+        } else {
+            mailOutbox.setStatus(MailOutboxStatusEnum.PENDING);
+            mailOutbox.setNextAttemptAt(Instant.now().plus(computeBackoff(mailOutbox.getAttempts())));
+            log.warn("Correo {} a {} falló en el intento {}, se reintentará: {}", id,
+                    mailOutbox.getRecipientEmail(), mailOutbox.getAttempts(), error);
+        }
+        mailOutboxRepository.save(mailOutbox);
+    }
+
+    /**
+     * Cuenta los correos que se encuentran en el estado indicado.
+     *
+     * @param status estado a contar
+     * @return cantidad de correos en ese estado
+     */
+    @Transactional(readOnly = true)
+    public Long countByStatus(MailOutboxStatusEnum status) {
+        return mailOutboxRepository.countByStatus(status);
+    }
+
+    /**
+     * Calcula la antigüedad, en segundos, del correo pendiente más antiguo.
+     *
+     * @return la antigüedad en segundos, o {@code null} si no hay pendientes
+     */
+    @Transactional(readOnly = true)
+    public Long getOldestPendingAgeSeconds() {
+        return mailOutboxRepository.findFirstByStatusOrderByCreatedAtAsc(MailOutboxStatusEnum.PENDING)
+                .map(mailOutbox -> Duration.between(mailOutbox.getCreatedAt(), Instant.now()).toSeconds())
+                .orElse(null);
+    }
+
+    /**
+     * Calcula la espera antes del siguiente intento: el doble por cada intento
+     * previo, acotada por la espera máxima.
+     *
+     * @param attempts intentos realizados
+     * @return la espera antes del siguiente intento
+     */
+    private Duration computeBackoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration backoff = baseBackoff.multipliedBy(1L << exponent);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private String truncateError(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
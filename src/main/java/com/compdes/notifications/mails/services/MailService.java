@@ -1,6 +1,13 @@
 package com.compdes.notifications.mails.services;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -8,6 +15,9 @@ import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import com.compdes.common.config.AppProperties;
+import com.compdes.notifications.mails.models.dto.internal.MailDeliveryResultDTO;
+import com.compdes.notifications.mails.models.dto.internal.RegistrationApprovedMailDTO;
+import com.compdes.notifications.mails.utils.CompiledMailTemplate;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -35,35 +45,182 @@ public class MailService {
     private static final String THYMELEAF_VARIABLE_PARTICIPANT_FIRST_NAME = "participantFullName";
 
     private static final String THYMELEAF_TEMPLATE_MAIL_REGISTRATION_APPROVED = "MailRegistrationApproved";
+    private static final String REGISTRATION_APPROVED_SUBJECT = "Inscripción confirmada";
 
-    public void sendRegistrationApprovedEmail(String participantEmail, String participantFullName, String userId) {
-        Context context = new Context();
+    /**
+     * Cantidad máxima de correos que se envían sobre una misma conexión SMTP.
+     */
+    @Value("${mail.smtp-chunk-size:50}")
+    private int smtpChunkSize;
+
+    /**
+     * Plantilla de registro aprobado precompilada. Se escribe antes que la
+     * bandera volátil, que publica ambos valores a los demás hilos.
+     */
+    private CompiledMailTemplate registrationApprovedTemplate;
+    private volatile boolean registrationApprovedTemplateResolved;
+
+    /**
+     * Envía en lote los correos de registro aprobado.
+     * 
+     * Los correos se agrupan en bloques de {@code mail.smtp-chunk-size} mensajes y
+     * cada bloque se envía reutilizando una única conexión SMTP, en lugar de abrir
+     * una sesión por destinatario. El fallo de un correo no detiene el resto del
+     * lote: cada mensaje obtiene su propio resultado para que quien invoca pueda
+     * reintentar solo los destinatarios fallidos.
+     * 
+     * @param mails datos de los correos a enviar
+     * @return el resultado de cada correo, en el mismo orden de {@code mails}
+     */
+    public List<MailDeliveryResultDTO> sendRegistrationApprovedEmails(List<RegistrationApprovedMailDTO> mails) {
+        List<MailDeliveryResultDTO> results = new ArrayList<>(mails.size());
+        int chunkSize = Math.max(smtpChunkSize, 1);
+
+        for (int from = 0; from < mails.size(); from += chunkSize) {
+            List<RegistrationApprovedMailDTO> chunk = mails.subList(from, Math.min(from + chunkSize, mails.size()));
+            results.addAll(sendRegistrationApprovedChunk(chunk));
+        }
+        return results;
+    }
+
+    /**
+     * Construye y envía un bloque de correos sobre una sola conexión SMTP.
+     * 
+     * @param chunk correos del bloque
+     * @return el resultado de cada correo del bloque, en el mismo orden
+     */
+    private List<MailDeliveryResultDTO> sendRegistrationApprovedChunk(List<RegistrationApprovedMailDTO> chunk) {
+        // errores por correo, indexados por la posicion dentro del bloque
+        String[] errors = new String[chunk.size()];
+        List<MimeMessage> messages = new ArrayList<>(chunk.size());
+        // relaciona cada mensaje construido con su posicion, por identidad
+        Map<MimeMessage, Integer> positions = new IdentityHashMap<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            RegistrationApprovedMailDTO mail = chunk.get(i);
+            try {
+                MimeMessage mimeMessage = buildRegistrationApprovedMessage(mail.getParticipantEmail(),
+                        mail.getParticipantFullName(), mail.getUserId());
+                messages.add(mimeMessage);
+                positions.put(mimeMessage, i);
+            } catch (MessagingException | RuntimeException e) {
+                errors[i] = "Error al construir el correo: " + e.getMessage();
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                // JavaMailSender envia todo el arreglo sobre una misma conexion
+                mailSender.send(messages.toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                if (failedMessages.isEmpty()) {
+                    markAllFailed(errors, positions, e);
+                }
+                failedMessages.forEach((message, exception) -> {
+                    Integer position = positions.get(message);
+                    if (position != null) {
+                        errors[position] = exception.getMessage();
+                    }
+                });
+            } catch (MailException e) {
+                // fallo de conexion o autenticacion, ningun correo del bloque salio
+                markAllFailed(errors, positions, e);
+            }
+        }
+
+        List<MailDeliveryResultDTO> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            RegistrationApprovedMailDTO mail = chunk.get(i);
+            results.add(new MailDeliveryResultDTO(mail.getReference(), mail.getParticipantEmail(),
+                    errors[i] == null, errors[i]));
+        }
+        return results;
+    }
 
+    /**
+     * Registra el mismo error para todos los mensajes construidos del bloque.
+     */
+    private void markAllFailed(String[] errors, Map<MimeMessage, Integer> positions, MailException e) {
+        log.error("Error al enviar un bloque de {} correos de registro aprobado", positions.size(), e);
+        for (Integer position : positions.values()) {
+            errors[position] = e.getMessage();
+        }
+    }
+
+    /**
+     * Construye el correo de registro aprobado para un participante.
+     * 
+     * @param participantEmail    correo del participante
+     * @param participantFullName nombre completo del participante
+     * @param userId              ID del usuario a activar desde el correo
+     * @return el mensaje listo para enviarse
+     * @throws MessagingException si ocurre un error al construir el mensaje MIME
+     */
+    private MimeMessage buildRegistrationApprovedMessage(String participantEmail, String participantFullName,
+            String userId) throws MessagingException {
         // construye la url de activación del usuario concatenando el host del frontend
         // y el path con el userId
         String url = String.format("%s/%s/%s",
                 appProperties.getFrontendHost(), FRONTEND_CREATE_PARTICIPANT_USER_PATH, userId);
 
+        String html = renderRegistrationApprovedHtml(url, participantFullName);
+
+        return buildMimeMessage(participantEmail, REGISTRATION_APPROVED_SUBJECT, html);
+    }
+
+    /**
+     * Genera el HTML del correo de registro aprobado.
+     * 
+     * Usa la plantilla precompilada, que solo interpola la url y el nombre del
+     * participante. Si la plantilla no pudo precompilarse se procesa con
+     * Thymeleaf en cada llamada.
+     * 
+     * @param url                 url de activación del usuario
+     * @param participantFullName nombre completo del participante
+     * @return el contenido html del correo
+     */
+    private String renderRegistrationApprovedHtml(String url, String participantFullName) {
+        CompiledMailTemplate compiledTemplate = getRegistrationApprovedTemplate();
+        if (compiledTemplate != null) {
+            return compiledTemplate.render(Map.of(
+                    THYMELEAF_VARIABLE_URL, url,
+                    THYMELEAF_VARIABLE_PARTICIPANT_FIRST_NAME,
+                    participantFullName == null ? "" : participantFullName));
+        }
+
+        Context context = new Context();
+
         // establece las variables que se usarán en la plantilla de correo
         context.setVariable(THYMELEAF_VARIABLE_URL, url);
         context.setVariable(THYMELEAF_VARIABLE_PARTICIPANT_FIRST_NAME, participantFullName);
 
         // genera el contenido html del correo usando la plantilla thymeleaf
-        String html = templateEngine.process(THYMELEAF_TEMPLATE_MAIL_REGISTRATION_APPROVED, context);
-
-        try {
-            // construye el mensaje mime con el asunto y contenido html
-            MimeMessage mimeMessage = buildMimeMessage(participantEmail, "Inscripción confirmada", html);
-
-            // envía el correo
-            mailSender.send(mimeMessage);
-        } catch (MessagingException e) {
-            // registra un error si falla la construcción o envío del mensaje
-            log.error("Error al enviar el correo de registro aprobado a {}", participantEmail, e);
-        } catch (MailException e) {
-            // captura excepciones relacionadas con el envío del correo, pero no hace nada
-            log.error("Error al enviar el correo de registro aprobado a {}", participantEmail, e);
+        return templateEngine.process(THYMELEAF_TEMPLATE_MAIL_REGISTRATION_APPROVED, context);
+    }
+
+    /**
+     * Obtiene la plantilla de registro aprobado precompilada, compilándola en el
+     * primer uso.
+     * 
+     * @return la plantilla compilada, o {@code null} si no pudo precompilarse
+     */
+    private CompiledMailTemplate getRegistrationApprovedTemplate() {
+        if (!registrationApprovedTemplateResolved) {
+            synchronized (this) {
+                if (!registrationApprovedTemplateResolved) {
+                    registrationApprovedTemplate = CompiledMailTemplate.compile(templateEngine,
+                            THYMELEAF_TEMPLATE_MAIL_REGISTRATION_APPROVED,
+                            List.of(THYMELEAF_VARIABLE_URL, THYMELEAF_VARIABLE_PARTICIPANT_FIRST_NAME));
+                    if (registrationApprovedTemplate == null) {
+                        log.warn("La plantilla {} no pudo precompilarse, se procesará en cada envío",
+                                THYMELEAF_TEMPLATE_MAIL_REGISTRATION_APPROVED);
+                    }
+                    registrationApprovedTemplateResolved = true;
+                }
+            }
         }
+        return registrationApprovedTemplate;
     }
 
     /**
@@ -0,0 +1,133 @@
+package com.compdes.notifications.mails.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * Plantilla de correo Thymeleaf procesada una sola vez y dividida en fragmentos
+ * estáticos.
+ *
+ * Para compilarla se procesa la plantilla con valores centinela únicos en
+ * lugar de las variables. El HTML resultante se corta en cada centinela,
+ * dejando una lista de fragmentos literales intercalados con las variables que
+ * deben ir entre ellos. Renderizar para un destinatario se reduce entonces a
+ * concatenar los fragmentos con los valores escapados, sin volver a ejecutar
+ * Thymeleaf.
+ *
+ * Solo es válida para plantillas cuyas variables se insertan como texto o
+ * atributo ({@code th:text}, {@code th:href}, etc.), sin condicionales ni
+ * iteraciones que dependan de ellas. Si algún centinela no aparece en la
+ * salida, {@link #compile} devuelve {@code null} para que quien invoca procese
+ * la plantilla de la forma tradicional.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public final class CompiledMailTemplate {
+
+    /**
+     * Fragmentos literales; siempre hay uno más que variables.
+     */
+    private final List<String> literals;
+
+    /**
+     * Nombre de la variable que va después de cada fragmento literal.
+     */
+    private final List<String> variables;
+
+    /**
+     * Longitud total de los fragmentos, usada para dimensionar el buffer.
+     */
+    private final int staticLength;
+
+    private CompiledMailTemplate(List<String> literals, List<String> variables) {
+        this.literals = List.copyOf(literals);
+        this.variables = List.copyOf(variables);
+        this.staticLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Procesa la plantilla una vez y la divide en fragmentos estáticos.
+     *
+     * @param templateEngine motor de plantillas
+     * @param templateName   nombre de la plantilla
+     * @param variableNames  variables que cambian por destinatario
+     * @return la plantilla compilada, o {@code null} si alguna variable no
+     *         aparece en la salida como texto
+     */
+    public static CompiledMailTemplate compile(TemplateEngine templateEngine, String templateName,
+            List<String> variableNames) {
+        // el sufijo aleatorio evita coincidencias con el contenido de la plantilla
+        String salt = UUID.randomUUID().toString().replace("-", "");
+        Context context = new Context();
+        List<String> sentinels = new ArrayList<>(variableNames.size());
+        for (int i = 0; i < variableNames.size(); i++) {
+            String sentinel = "__mailvar" + i + "_" + salt + "__";
+            sentinels.add(sentinel);
+            context.setVariable(variableNames.get(i), sentinel);
+        }
+
+        String html = templateEngine.process(templateName, context);
+
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        boolean[] found = new boolean[variableNames.size()];
+        int cursor = 0;
+        while (true) {
+            // busca el siguiente centinela, de cualquier variable
+            int nextIndex = -1;
+            int nextVariable = -1;
+            for (int i = 0; i < sentinels.size(); i++) {
+                int index = html.indexOf(sentinels.get(i), cursor);
+                if (index >= 0 && (nextIndex < 0 || index < nextIndex)) {
+                    nextIndex = index;
+                    nextVariable = i;
+                }
+            }
+            if (nextIndex < 0) {
+                break;
+            }
+            literals.add(html.substring(cursor, nextIndex));
+            variables.add(variableNames.get(nextVariable));
+            found[nextVariable] = true;
+            cursor = nextIndex + sentinels.get(nextVariable).length();
+        }
+        literals.add(html.substring(cursor));
+
+        for (boolean variableFound : found) {
+            if (!variableFound) {
+                return null;
+            }
+        }
+        return new CompiledMailTemplate(literals, variables);
+    }
+
+    /**
+     * Renderiza la plantilla con los valores de un destinatario.
+     *
+     * Los valores se escapan como HTML, igual que lo haría Thymeleaf con
+     * {@code th:text} y los atributos {@code th:*}.
+     *
+     * @param values valores de las variables; las ausentes se dejan vacías
+     * @return el HTML final
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder html = new StringBuilder(staticLength + 256);
+        html.append(literals.get(0));
+        for (int i = 0; i < variables.size(); i++) {
+            String value = values.get(variables.get(i));
+            if (value != null) {
+                html.append(HtmlUtils.htmlEscape(value, "UTF-8"));
+            }
+            html.append(literals.get(i + 1));
+        }
+        return html.toString();
+    }
+}
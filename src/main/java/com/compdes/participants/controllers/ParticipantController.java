@@ -23,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.compdes.common.exceptions.CustomRuntimeException;
 import com.compdes.common.exceptions.DuplicateResourceException;
 import com.compdes.common.exceptions.NotFoundException;
+import com.compdes.common.models.dto.response.CursorSliceDTO;
 import com.compdes.common.models.dto.response.ErrorDTO;
 import com.compdes.participants.mappers.CreateParticipantInternalDtoMapper;
 import com.compdes.participants.mappers.ParticipantMapper;
@@ -34,6 +35,7 @@ import com.compdes.participants.models.dto.request.UpdateParticipantByAdminDTO;
 import com.compdes.participants.models.dto.response.AdminParticipantProfileDTO;
 import com.compdes.participants.models.dto.response.ParticipantProfileDTO;
 import com.compdes.participants.models.dto.response.PublicParticipantProfileDTO;
+import com.compdes.participants.models.dto.response.QrReassignmentResultDTO;
 import com.compdes.participants.models.entities.Participant;
 import com.compdes.participants.services.ParticipantService;
 
@@ -86,6 +88,7 @@ public class ParticipantController {
          */
         @Operation(summary = "Obtener todos los participantes registrados", description = """
                         Devuelve la lista de todos los participantes registrados, permitiendo aplicar filtros opcionales como nombre, correo, organización, estado de aprobación y tipo de pago.
+                        El parámetro `q` permite una búsqueda libre por palabras (prefijo) en nombre, apellido, correo, teléfono, organización y documento usando el índice de texto completo.
                         Este endpoint está restringido a usuarios con rol `ADMIN` y expone información sensible del sistema.
                         """, security = @SecurityRequirement(name = "bearerAuth"), responses = {
                         @ApiResponse(responseCode = "200", description = "Lista de participantes obtenida exitosamente"),
@@ -103,6 +106,41 @@ public class ParticipantController {
                 return participants.map(participantMapper::participantToPrivateParticipantInfoDto);
         }
 
+        /**
+         * Obtiene el listado de participantes usando paginación por cursor.
+         * 
+         * Acepta los mismos filtros que {@code /all}, pero en lugar de número de
+         * página recibe el cursor devuelto por la porción anterior. No calcula el
+         * total de elementos, por lo que cada porción tiene el mismo costo sin
+         * importar su profundidad en el listado.
+         * 
+         * @param filters criterios de búsqueda opcionales
+         * @param cursor  cursor de la porción anterior, omitir para la primera
+         * @param size    cantidad de participantes por porción
+         * @return porción de participantes con el cursor de la siguiente
+         */
+        @Operation(summary = "Obtener participantes con paginación por cursor", description = """
+                        Devuelve una porción de participantes ordenada por fecha de inscripción, aceptando los mismos filtros que `/all`.
+                        Para obtener la siguiente porción se envía en `cursor` el valor `nextCursor` de la respuesta anterior. No incluye el total de elementos.
+                        Este endpoint está restringido a usuarios con rol `ADMIN`.
+                        """, security = @SecurityRequirement(name = "bearerAuth"), responses = {
+                        @ApiResponse(responseCode = "200", description = "Porción de participantes obtenida exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Cursor inválido o tamaño fuera de rango", content = @Content(schema = @Schema(implementation = ErrorDTO.class))),
+                        @ApiResponse(responseCode = "403", description = "Acceso denegado al recurso (requiere rol `ADMIN`), Token inválido o no proporcionado", content = @Content(schema = @Schema(implementation = ErrorDTO.class)))
+        })
+        @GetMapping("/all/cursor")
+        @PreAuthorize("hasRole('ADMIN')")
+        @ResponseStatus(HttpStatus.OK)
+        public CursorSliceDTO<AdminParticipantProfileDTO> getAllParticipantsByCursor(
+                        @Parameter(description = "TODOS OPCIONALES, MANDARLO TAMBIEN ES OPCIONAL") @ModelAttribute ParticipantFilterDTO filters,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "50") Integer size) {
+
+                CursorSliceDTO<Participant> participants = participantService.getAllParticipantsByCursor(filters,
+                                cursor, size);
+                return participants.map(participantMapper::participantToPrivateParticipantInfoDto);
+        }
+
         /**
          * Obtiene la información privada de un participante a partir de su ID.
          * 
@@ -381,9 +419,15 @@ public class ParticipantController {
                 participantService.deleteParticipant(id);
         }
 
+        @Operation(summary = "Reasignar códigos QR a participantes aprobados", description = "Reasigna en bloque los códigos QR a todos los participantes aprobados, en orden de inscripción. "
+                        + "Devuelve los conteos de filas afectadas y el tiempo empleado. Accesible para `ADMIN`", security = @SecurityRequirement(name = "bearerAuth"), responses = {
+                                        @ApiResponse(responseCode = "200", description = "Códigos QR reasignados correctamente"),
+                                        @ApiResponse(responseCode = "409", description = "No hay suficientes códigos QR para todos los participantes aprobados", content = @Content(schema = @Schema(implementation = ErrorDTO.class)))
+                        })
         @PatchMapping("/reassignQrs")
         @PreAuthorize("hasRole('ADMIN')")
-        public void reassignQrsToApprovedParticipants() {
-                participantService.reassignQrsToApprovedParticipants();
+        @ResponseStatus(HttpStatus.OK)
+        public QrReassignmentResultDTO reassignQrsToApprovedParticipants() {
+                return participantService.reassignQrsToApprovedParticipants();
         }
 }
@@ -27,7 +27,9 @@ public enum ParticipantErrorMessages {
                         "No es posible realizar esta operación porque el participante ya fue confirmado previamente."),
         NOT_FOUND_BY_QR(
                         "No se encontró un participante asociado al código QR proporcionado. " +
-                                        "Si crees que esto es un error, por favor contacta al equipo de soporte.");
+                                        "Si crees que esto es un error, por favor contacta al equipo de soporte."),
+        NOT_APPROVED_BY_QR(
+                        "El participante asociado al código QR proporcionado no tiene su inscripción aprobada.");
 
         private final String message;
 }
@@ -0,0 +1,22 @@
+package com.compdes.participants.models.dto.internal;
+
+import lombok.Value;
+
+/**
+ * DTO interno con los datos mínimos del participante asociado a un código QR,
+ * suficientes para validar un escaneo sin cargar la entidad completa.
+ *
+ * Este objeto se utiliza exclusivamente entre capas del sistema y no está
+ * diseñado para ser expuesto directamente en la API pública.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class ScannedParticipantDTO {
+
+    String participantId;
+    boolean approved;
+    String displayName;
+}
@@ -36,4 +36,11 @@ public class ParticipantFilterDTO {
 
     Boolean isApproved;
     String voucherNumber;
+
+    /**
+     * Texto libre que se busca a la vez en nombre, apellido, correo, teléfono,
+     * organización y documento de identificación mediante el índice de texto
+     * completo de la tabla de participantes.
+     */
+    String q;
 }
@@ -0,0 +1,24 @@
+package com.compdes.participants.models.dto.response;
+
+import lombok.Value;
+
+/**
+ * DTO de respuesta con el resultado de la reasignación masiva de códigos QR.
+ * 
+ * Incluye los conteos de participantes aprobados y códigos QR considerados, las
+ * filas afectadas por cada sentencia y el tiempo total de la operación.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class QrReassignmentResultDTO {
+
+    Long approvedParticipants;
+    Long totalQrCodes;
+    Integer releasedQrCodes;
+    Integer assignedQrCodes;
+    Integer linkedParticipants;
+    Long elapsedMillis;
+}
@@ -0,0 +1,26 @@
+package com.compdes.participants.models.report;
+
+/**
+ * Proyección de los datos de un participante aprobado utilizados en los
+ * reportes.
+ */
+public interface ApprovedParticipantReportRow {
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getPhone();
+
+    String getOrganisation();
+
+    String getIdentificationDocument();
+
+    Boolean getIsAuthor();
+
+    Boolean getIsGuest();
+
+    Integer getQrNumberCode();
+}
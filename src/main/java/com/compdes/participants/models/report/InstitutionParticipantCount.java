@@ -0,0 +1,11 @@
+package com.compdes.participants.models.report;
+
+/**
+ * Proyección de conteo de participantes aprobados por institución.
+ */
+public interface InstitutionParticipantCount {
+
+    String getInstitution();
+
+    Long getTotalParticipants();
+}
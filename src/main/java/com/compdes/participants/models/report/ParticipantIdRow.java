@@ -0,0 +1,10 @@
+package com.compdes.participants.models.report;
+
+/**
+ * Proyección que solo contiene el ID de un participante, usada cuando se
+ * necesita seleccionar participantes por filtro sin cargar sus relaciones.
+ */
+public interface ParticipantIdRow {
+
+    String getId();
+}
@@ -0,0 +1,19 @@
+package com.compdes.participants.models.report;
+
+/**
+ * Proyección que relaciona el código QR asignado con el participante y los
+ * datos mínimos necesarios para validar un escaneo, sin cargar la entidad
+ * completa.
+ */
+public interface ParticipantQrRow {
+
+    String getQrCodeId();
+
+    String getId();
+
+    Boolean getIsApproved();
+
+    String getFirstName();
+
+    String getLastName();
+}
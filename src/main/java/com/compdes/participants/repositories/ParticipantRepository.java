@@ -1,13 +1,30 @@
 package com.compdes.participants.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.compdes.participants.models.entities.Participant;
+import com.compdes.participants.models.report.ApprovedParticipantReportRow;
+import com.compdes.participants.models.report.InstitutionParticipantCount;
+import com.compdes.participants.models.report.ParticipantQrRow;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repositorio para operaciones CRUD sobre la entidad {@link Participant}.
@@ -20,8 +37,126 @@ import com.compdes.participants.models.entities.Participant;
 public interface ParticipantRepository
         extends JpaRepository<Participant, String>, JpaSpecificationExecutor<Participant> {
 
+    /**
+     * Obtiene una página de participantes filtrada por la especificación,
+     * recuperando en la misma consulta sus asociaciones uno a uno, para que el
+     * mapeo a DTO no dispare una consulta adicional por cada asociación de cada
+     * fila. El conteo total de la página se resuelve en una segunda consulta.
+     *
+     * @param spec     especificación de filtrado
+     * @param pageable información de paginación
+     * @return página de participantes con sus asociaciones ya cargadas
+     */
+    @Override
+    @EntityGraph(attributePaths = { "registrationStatus", "qrCode", "paymentProof", "paymentProofImage",
+            "compdesUser" })
+    public Page<Participant> findAll(Specification<Participant> spec, Pageable pageable);
+
+    /**
+     * Obtiene los participantes filtrados por la especificación, recuperando en
+     * la misma consulta sus asociaciones uno a uno.
+     *
+     * @param spec especificación de filtrado
+     * @return lista de participantes con sus asociaciones ya cargadas
+     */
+    @Override
+    @EntityGraph(attributePaths = { "registrationStatus", "qrCode", "paymentProof", "paymentProofImage",
+            "compdesUser" })
+    public List<Participant> findAll(Specification<Participant> spec);
+
     public List<Participant> findByRegistrationStatus_IsApprovedOrderByCreatedAtAsc(Boolean isApproved);
 
+    /**
+     * Cuenta los participantes según su estado de aprobación.
+     *
+     * @param isApproved estado de aprobación a contar
+     * @return cantidad de participantes con ese estado
+     */
+    public Long countByRegistrationStatus_IsApproved(Boolean isApproved);
+
+    /**
+     * Cuenta los participantes aprobados agrupados por institución.
+     *
+     * La agrupación se hace sobre el nombre normalizado (sin espacios en los
+     * extremos y en minúsculas), de modo que variantes como "USAC" y "usac "
+     * cuenten como la misma institución; como nombre visible se toma una de las
+     * variantes registradas.
+     *
+     * @return conteos por institución, ordenados alfabéticamente
+     */
+    @Query("""
+            select
+                min(p.organisation) as institution,
+                count(p.id) as totalParticipants
+            from Participant p
+            join p.registrationStatus rs
+            where rs.isApproved = true
+            group by lower(trim(p.organisation))
+            order by lower(trim(p.organisation)) asc
+            """)
+    public List<InstitutionParticipantCount> countApprovedParticipantsByInstitution();
+
+    /**
+     * Recorre los participantes aprobados como una proyección de solo lectura,
+     * ordenados por fecha de inscripción.
+     *
+     * El tamaño de fetch {@code Integer.MIN_VALUE} indica al driver de MySQL que
+     * entregue las filas una a una desde el servidor en lugar de cargar todo el
+     * resultado en memoria. El {@link Stream} debe consumirse y cerrarse dentro
+     * de una transacción.
+     *
+     * @return stream de filas de participantes aprobados
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select
+                p.firstName as firstName,
+                p.lastName as lastName,
+                p.email as email,
+                p.phone as phone,
+                p.organisation as organisation,
+                p.identificationDocument as identificationDocument,
+                p.isAuthor as isAuthor,
+                p.isGuest as isGuest,
+                q.numberCode as qrNumberCode
+            from Participant p
+            join p.registrationStatus rs
+            left join p.qrCode q
+            where rs.isApproved = true
+            order by p.createdAt asc
+            """)
+    public Stream<ApprovedParticipantReportRow> streamApprovedParticipantsForReport();
+
+    /**
+     * Desvincula en una sola sentencia el código QR de todos los participantes.
+     *
+     * @return cantidad de participantes que tenían un QR asignado
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE participant
+            SET qr_code_id = NULL, updated_at = UTC_TIMESTAMP(6)
+            WHERE qr_code_id IS NOT NULL
+            """, nativeQuery = true)
+    public int releaseAllQrCodes();
+
+    /**
+     * Copia al participante la relación ya establecida desde {@code qr_code},
+     * de forma que ambos lados de la relación uno a uno queden sincronizados.
+     *
+     * @return cantidad de participantes actualizados
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE participant p
+            JOIN qr_code q ON q.participant_id = p.id
+            SET p.qr_code_id = q.id, p.updated_at = UTC_TIMESTAMP(6)
+            """, nativeQuery = true)
+    public int linkQrCodesFromQrSide();
+
     /**
      * Verifica si existe un participante con el correo electrónico especificado.
      *
@@ -91,4 +226,45 @@ public interface ParticipantRepository
      * @return un Optional con el participante si existe, o vacío si no se encuentra
      */
     public Optional<Participant> findByQrCode_Id(String qrCodeId);
+
+    /**
+     * Resuelve en una sola consulta los participantes asociados a varios
+     * códigos QR, sin cargar sus relaciones. Los códigos sin participante no
+     * se incluyen en el resultado.
+     *
+     * @param qrCodeIds IDs de los códigos QR
+     * @return filas con el código QR y los datos mínimos del participante
+     */
+    @Query("""
+            select
+                q.id as qrCodeId,
+                p.id as id,
+                rs.isApproved as isApproved,
+                p.firstName as firstName,
+                p.lastName as lastName
+            from Participant p
+            join p.qrCode q
+            join p.registrationStatus rs
+            where q.id in :qrCodeIds
+            """)
+    public List<ParticipantQrRow> findQrRowsByQrCodeIdIn(@Param("qrCodeIds") Collection<String> qrCodeIds);
+
+    /**
+     * Obtiene en una sola consulta todos los participantes que tienen un código
+     * QR asignado, sin cargar sus relaciones.
+     *
+     * @return filas con el código QR y los datos mínimos del participante
+     */
+    @Query("""
+            select
+                q.id as qrCodeId,
+                p.id as id,
+                rs.isApproved as isApproved,
+                p.firstName as firstName,
+                p.lastName as lastName
+            from Participant p
+            join p.qrCode q
+            join p.registrationStatus rs
+            """)
+    public List<ParticipantQrRow> findAllQrRows();
 }
@@ -1,19 +1,23 @@
 package com.compdes.participants.repositories.specifications;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import com.compdes.common.config.FullTextFunctionContributor;
 import com.compdes.participants.models.dto.request.ParticipantFilterDTO;
 import com.compdes.participants.models.entities.Participant;
 import com.compdes.participants.models.entities.Participant_;
 import com.compdes.registrationStatus.models.entities.RegistrationStatus;
 import com.compdes.registrationStatus.models.entities.RegistrationStatus_;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 
 /**
  * Genera dinámicamente criterios de filtrado para la entidad
@@ -30,6 +34,13 @@ import jakarta.persistence.criteria.Predicate;
  */
 public class ParticipantSpecification {
 
+    /**
+     * Longitud mínima de palabra que indexa el texto completo de InnoDB
+     * ({@code innodb_ft_min_token_size}, 3 por defecto). Las palabras más cortas
+     * no pueden buscarse en el índice.
+     */
+    private static final int FULLTEXT_MIN_TOKEN_SIZE = 3;
+
     /**
      * Construye dinámicamente una {@link Specification} para aplicar filtros
      * sobre la entidad {@link Participant}, con base en los campos no nulos del
@@ -105,6 +116,11 @@ public class ParticipantSpecification {
                                 "%" + filter.getIdentificationDocument().toLowerCase() + "%"));
             }
 
+            // Filtra por texto libre usando el indice de texto completo
+            if (filter.getQ() != null && !filter.getQ().isBlank()) {
+                predicates.add(buildFreeTextPredicate(root, cb, filter.getQ()));
+            }
+
             // Filtra por participantes autores (true = es autor, false = no es autor)
             if (filter.getIsAuthor() != null) {
                 predicates.add(cb.equal(root.get(Participant_.isAuthor), filter.getIsAuthor()));
@@ -158,4 +174,70 @@ public class ParticipantSpecification {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Construye una {@link Specification} que limita los resultados a los
+     * participantes posteriores a la posición indicada, según el orden
+     * {@code (createdAt, id)} ascendente.
+     * 
+     * Se usa para la paginación por cursor: en lugar de saltar {@code OFFSET}
+     * filas, la consulta continúa justo después del último elemento entregado,
+     * por lo que el costo de cada porción no depende de su profundidad.
+     * 
+     * @param createdAt fecha de creación del último participante entregado
+     * @param id        ID del último participante entregado
+     * @return especificación con la condición de continuación
+     */
+    public static Specification<Participant> after(Instant createdAt, String id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get(Participant_.createdAt), createdAt),
+                cb.and(
+                        cb.equal(root.get(Participant_.createdAt), createdAt),
+                        cb.greaterThan(root.get(Participant_.id), id)));
+    }
+
+    /**
+     * Construye el predicado de búsqueda libre sobre el índice de texto completo
+     * {@code FT_participant_search}.
+     * 
+     * El texto se separa en palabras de la misma forma en que el índice separa
+     * los valores (cualquier carácter que no sea letra o dígito), y cada palabra
+     * se exige como prefijo ({@code +palabra*}), de modo que "juan per" encuentra
+     * a "Juan Pérez". Si ninguna palabra alcanza la longitud mínima indexada, se
+     * recurre a una coincidencia por prefijo sobre nombre, apellido y documento.
+     * 
+     * @param root raíz de la consulta
+     * @param cb   constructor de criterios
+     * @param q    texto libre ingresado por el usuario
+     * @return predicado de búsqueda
+     */
+    private static Predicate buildFreeTextPredicate(Root<Participant> root, CriteriaBuilder cb, String q) {
+        StringBuilder booleanQuery = new StringBuilder();
+        for (String word : q.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() >= FULLTEXT_MIN_TOKEN_SIZE) {
+                booleanQuery.append('+').append(word).append("* ");
+            }
+        }
+
+        if (booleanQuery.isEmpty()) {
+            // texto demasiado corto para el indice, buscamos por prefijo (sin comodin
+            // inicial)
+            String prefix = q.trim().toLowerCase() + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get(Participant_.firstName)), prefix),
+                    cb.like(cb.lower(root.get(Participant_.lastName)), prefix),
+                    cb.like(cb.lower(root.get(Participant_.identificationDocument)), prefix));
+        }
+
+        return cb.greaterThan(
+                cb.function(FullTextFunctionContributor.PARTICIPANT_FULLTEXT_MATCH, Double.class,
+                        root.get(Participant_.firstName),
+                        root.get(Participant_.lastName),
+                        root.get(Participant_.email),
+                        root.get(Participant_.phone),
+                        root.get(Participant_.organisation),
+                        root.get(Participant_.identificationDocument),
+                        cb.literal(booleanQuery.toString().trim())),
+                0.0);
+    }
 }
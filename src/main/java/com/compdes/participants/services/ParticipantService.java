@@ -1,9 +1,16 @@
 package com.compdes.participants.services;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,15 +18,20 @@ import org.springframework.transaction.annotation.Transactional;
 import com.compdes.auth.users.models.entities.CompdesUser;
 import com.compdes.common.exceptions.DuplicateResourceException;
 import com.compdes.common.exceptions.NotFoundException;
+import com.compdes.common.models.dto.response.CursorSliceDTO;
 import com.compdes.participants.enums.ParticipantErrorMessages;
 import com.compdes.participants.factories.PaymentProofStrategyFactory;
 import com.compdes.participants.mappers.ParticipantMapper;
 import com.compdes.participants.models.dto.internal.CreateParticipantInternalDTO;
+import com.compdes.participants.models.dto.internal.ScannedParticipantDTO;
 import com.compdes.participants.models.dto.request.CreateParticipantByAdminDTO;
 import com.compdes.participants.models.dto.request.CreateParticipantDTO;
 import com.compdes.participants.models.dto.request.ParticipantFilterDTO;
 import com.compdes.participants.models.dto.request.UpdateParticipantByAdminDTO;
+import com.compdes.participants.models.dto.response.QrReassignmentResultDTO;
 import com.compdes.participants.models.entities.Participant;
+import com.compdes.participants.models.report.InstitutionParticipantCount;
+import com.compdes.participants.models.report.ParticipantIdRow;
 import com.compdes.participants.repositories.ParticipantRepository;
 import com.compdes.participants.repositories.specifications.ParticipantSpecification;
 import com.compdes.paymentProofs.services.PaymentProofService;
@@ -30,8 +42,6 @@ import com.compdes.registrationStatus.factories.RegistrationStatusFactory;
 import com.compdes.registrationStatus.models.entities.RegistrationStatus;
 import com.compdes.registrationStatus.services.RegistrationStatusService;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -60,6 +70,13 @@ public class ParticipantService {
         private final RegistrationStatusFactory registrationStatusFactory;
         private final ParticipantValidationService participantValidationService;
         private final QrCodeService qrCodeService;
+        private final QrParticipantIndexService qrParticipantIndexService;
+
+        /**
+         * Tamaño máximo permitido para una porción del listado por cursor.
+         */
+        private static final int MAX_CURSOR_SLICE_SIZE = 200;
+        private static final String CURSOR_SEPARATOR = "|";
 
         public Participant saveParticipant(Participant participant) {
                 return participantRepository.save(participant);
@@ -77,6 +94,101 @@ public class ParticipantService {
                 return participantRepository.findAll(spec, pageable);
         }
 
+        /**
+         * Obtiene los IDs de los participantes que cumplen con los filtros, sin
+         * cargar sus relaciones.
+         * 
+         * @param filters criterios de filtrado, los mismos que el listado paginado
+         * @param limit   cantidad máxima de IDs a obtener
+         * @return IDs de los participantes ordenados por fecha de creación
+         */
+        @Transactional(readOnly = true)
+        public List<String> getParticipantIdsByFilter(ParticipantFilterDTO filters, int limit) {
+                Specification<Participant> spec = ParticipantSpecification.filterBy(filters);
+                return participantRepository.findBy(spec, query -> query
+                                .as(ParticipantIdRow.class)
+                                .sortBy(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id")))
+                                .limit(limit)
+                                .all())
+                                .stream()
+                                .map(ParticipantIdRow::getId)
+                                .toList();
+        }
+
+        /**
+         * Obtiene una porción filtrada de participantes usando paginación por cursor
+         * (keyset), ordenada por fecha de creación e ID.
+         * 
+         * No ejecuta la consulta de conteo total y cada porción cuesta lo mismo sin
+         * importar qué tan adelante esté en el listado. Se consulta un elemento
+         * extra para saber si existe una porción siguiente.
+         * 
+         * @param filters criterios de filtrado, los mismos que el listado paginado
+         * @param cursor  cursor opaco recibido en la porción anterior, o
+         *                {@code null} para la primera porción
+         * @param size    cantidad de elementos por porción
+         * @return porción de participantes con el cursor de la siguiente
+         * @throws IllegalArgumentException si el cursor no es válido o el tamaño está
+         *                                  fuera de rango
+         */
+        @Transactional(readOnly = true)
+        public CursorSliceDTO<Participant> getAllParticipantsByCursor(ParticipantFilterDTO filters, String cursor,
+                        int size) {
+                if (size < 1 || size > MAX_CURSOR_SLICE_SIZE) {
+                        throw new IllegalArgumentException(
+                                        "El tamaño de página debe estar entre 1 y " + MAX_CURSOR_SLICE_SIZE + ".");
+                }
+
+                Specification<Participant> spec = ParticipantSpecification.filterBy(filters);
+                if (cursor != null && !cursor.isBlank()) {
+                        spec = spec.and(decodeCursor(cursor));
+                }
+
+                // pedimos un elemento extra para saber si hay una porcion siguiente
+                List<Participant> participants = participantRepository.findBy(spec, query -> query
+                                .sortBy(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id")))
+                                .project("registrationStatus", "qrCode", "paymentProof", "paymentProofImage",
+                                                "compdesUser")
+                                .limit(size + 1)
+                                .all());
+
+                boolean hasNext = participants.size() > size;
+                List<Participant> content = hasNext ? participants.subList(0, size) : participants;
+                String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1)) : null;
+                return new CursorSliceDTO<>(content, size, hasNext, nextCursor);
+        }
+
+        /**
+         * Codifica la posición de un participante como cursor opaco.
+         * 
+         * @param participant último participante de la porción
+         * @return cursor en Base64 URL-safe
+         */
+        private String encodeCursor(Participant participant) {
+                String raw = participant.getCreatedAt().toString() + CURSOR_SEPARATOR + participant.getId();
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Decodifica un cursor y construye la condición de continuación.
+         * 
+         * @param cursor cursor opaco recibido del cliente
+         * @return especificación que filtra los participantes posteriores al cursor
+         * @throws IllegalArgumentException si el cursor no tiene el formato esperado
+         */
+        private Specification<Participant> decodeCursor(String cursor) {
+                try {
+                        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                        int separator = raw.indexOf(CURSOR_SEPARATOR);
+                        Instant createdAt = Instant.parse(raw.substring(0, separator));
+                        String id = raw.substring(separator + 1);
+                        return ParticipantSpecification.after(createdAt, id);
+                } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                        throw new IllegalArgumentException(
+                                        "El cursor de paginación no es válido. Vuelve a cargar el listado desde el inicio.");
+                }
+        }
+
         /**
          * Obtiene la lista filtrada de los participantes registrados en el sistema.
          * 
@@ -88,6 +200,27 @@ public class ParticipantService {
                 return participantRepository.findAll(spec);
         }
 
+        /**
+         * Cuenta los participantes aprobados directamente en la base de datos.
+         * 
+         * @return cantidad de participantes aprobados
+         */
+        @Transactional(readOnly = true)
+        public Long countApprovedParticipants() {
+                return participantRepository.countByRegistrationStatus_IsApproved(true);
+        }
+
+        /**
+         * Obtiene la cantidad de participantes aprobados por institución,
+         * calculada en la base de datos sin cargar las entidades.
+         * 
+         * @return conteos de participantes aprobados por institución
+         */
+        @Transactional(readOnly = true)
+        public List<InstitutionParticipantCount> countApprovedParticipantsByInstitution() {
+                return participantRepository.countApprovedParticipantsByInstitution();
+        }
+
         /**
          * Recupera un participante utilizando su documento de identificación.
          * 
@@ -117,6 +250,38 @@ public class ParticipantService {
                                 () -> new NotFoundException(ParticipantErrorMessages.NOT_FOUND_BY_QR.getMessage()));
         }
 
+        /**
+         * Resuelve el participante asociado a un código QR escaneado, sin cargar
+         * la entidad completa.
+         * 
+         * @param qrCodeId ID del código QR
+         * @return los datos mínimos del participante
+         * @throws NotFoundException     si el código QR no está asignado a ningún
+         *                               participante
+         * @throws IllegalStateException si la inscripción del participante no está
+         *                               aprobada
+         */
+        public ScannedParticipantDTO getScannedParticipantByQrCodeId(String qrCodeId) throws NotFoundException {
+                ScannedParticipantDTO participant = qrParticipantIndexService.find(qrCodeId).orElseThrow(
+                                () -> new NotFoundException(ParticipantErrorMessages.NOT_FOUND_BY_QR.getMessage()));
+                if (!participant.isApproved()) {
+                        throw new IllegalStateException(ParticipantErrorMessages.NOT_APPROVED_BY_QR.getMessage());
+                }
+                return participant;
+        }
+
+        /**
+         * Resuelve los participantes asociados a varios códigos QR escaneados, sin
+         * cargar las entidades.
+         * 
+         * @param qrCodeIds IDs de los códigos QR
+         * @return mapa de ID de código QR a participante; los códigos sin
+         *         participante no se incluyen
+         */
+        public Map<String, ScannedParticipantDTO> getScannedParticipantsByQrCodeIds(Collection<String> qrCodeIds) {
+                return qrParticipantIndexService.findAll(qrCodeIds);
+        }
+
         /**
          * Obtiene un participante a partir del nombre de usuario.
          * 
@@ -145,6 +310,20 @@ public class ParticipantService {
                                 () -> new NotFoundException(ParticipantErrorMessages.NOT_FOUND_BY_ID.getMessage()));
         }
 
+        /**
+         * Obtiene una referencia a un participante sin consultarlo en la base de
+         * datos, para asignarlo como llave foránea de otra entidad.
+         * 
+         * El ID debe provenir de una fuente confiable (por ejemplo, el índice de
+         * códigos QR); la referencia se carga solo si se accede a sus datos.
+         * 
+         * @param id identificador único del participante
+         * @return referencia al participante
+         */
+        public Participant getParticipantReference(String id) {
+                return participantRepository.getReferenceById(id);
+        }
+
         /**
          * Crea un participante no autor, guarda sus datos y asocia una prueba de pago.
          * 
@@ -162,14 +341,16 @@ public class ParticipantService {
                 // obtiene una instancia de RegistrationStatus
                 RegistrationStatus registrationStatus = registrationStatusFactory.createDefaultForPublic();
 
-                Participant savedParticipant = saveGenericParticipant(createParticipantDTO,
-                                registrationStatus, false);// guarda el participante para obtener un id
+                Participant participant = buildGenericParticipant(createParticipantDTO,
+                                registrationStatus, false);
 
+                // la estrategia se aplica antes de persistir, asi el participante se inserta
+                // ya con su comprobante y no requiere un update posterior
                 paymentProofStrategyFactory
                                 .resolve(createParticipantDTO)
-                                .process(savedParticipant, createParticipantDTO);// aplica una estrategia
+                                .process(participant, createParticipantDTO);// aplica una estrategia
 
-                return participantRepository.save(savedParticipant);// guarda las estrategias
+                return participantRepository.save(participant);// unico guardado del participante
         }
 
         /**
@@ -191,8 +372,9 @@ public class ParticipantService {
                                 createParticipantByAdminDTO.getIsGuest(),
                                 createParticipantByAdminDTO.getVoucherNumber());
                 // ahora que ya esta configurado todo podemos mandar a guardar
-                Participant savedParticipant = saveGenericParticipant(createParticipantByAdminDTO,
-                                registrationStatus, createParticipantByAdminDTO.getIsGuest());
+                Participant savedParticipant = participantRepository.save(buildGenericParticipant(
+                                createParticipantByAdminDTO, registrationStatus,
+                                createParticipantByAdminDTO.getIsGuest()));
                 // madamos a aprovar el registro
                 registrationStatusService.approveRegistrationByParticipant(savedParticipant);
                 return savedParticipant;
@@ -220,6 +402,7 @@ public class ParticipantService {
         public Participant updateParticipantByAdmin(String participantId, UpdateParticipantByAdminDTO dto)
                         throws NotFoundException {
                 Participant participant = getParticipantById(participantId);// trae el participante por id
+                String previousFullName = participant.getFullName();
 
                 participantValidationService.validateUniqueDocumentExcludingId(dto.getIdentificationDocument(),
                                 participantId, ParticipantErrorMessages.DUPLICATE_DOCUMENT.getMessage());
@@ -229,6 +412,12 @@ public class ParticipantService {
 
                 participant.update(dto);// guarda la actualizacion de la info personal
 
+                // los escaneos muestran el nombre guardado en el indice de qr
+                if (participant.getQrCode() != null && !participant.getFullName().equals(previousFullName)) {
+                        qrParticipantIndexService.participantRenamed(participant.getQrCode().getId(),
+                                        participant.getFullName());
+                }
+
                 if (dto.getPaymentProof() != null) { // actualia el payment si se envio
                         paymentProofService.updatePaymentProof(participant.getPaymentProof(), dto.getPaymentProof());
                 }
@@ -242,22 +431,27 @@ public class ParticipantService {
         }
 
         /**
-         * Guarda un nuevo participante en el sistema y le asigna su estado de registro.
+         * Construye un nuevo participante y le asigna su estado de registro, sin
+         * persistir al participante.
          * 
+         * Todas las validaciones se ejecutan antes de persistir cualquier entidad, de
+         * modo que ninguna consulta provoque un flush anticipado. El estado de registro
+         * queda pendiente de inserción y el participante debe guardarse una única vez
+         * después de asignarle el resto de sus relaciones; así, al hacer flush,
+         * Hibernate envía solo inserciones ordenadas y agrupadas, sin updates para
+         * enlazar las llaves foráneas.
          *
          * @param createParticipantDTO DTO con los datos del participante
-         * @param isAuthor             indica si el participante es autor
-         * @param isCashPayment        indica si el pago fue realizado en efectivo
-         *                             (puede ser null para autores)
-         * @param voucherNumer         número de comprobante, si corresponde (puede ser
-         *                             null)
-         * @return el participante guardado con su estado de registro asignado
+         * @param registrationStatus   estado de registro a asignar
+         * @param isGuest              indica si el participante es invitado
+         * @return el participante con su estado de registro asignado, aún sin
+         *         persistir
          *
          * @throws DuplicateResourceException si ya existe un participante con el mismo
          *                                    correo
          *                                    o documento de identificación
          */
-        private Participant saveGenericParticipant(CreateParticipantDTO createParticipantDTO,
+        private Participant buildGenericParticipant(CreateParticipantDTO createParticipantDTO,
                         RegistrationStatus registrationStatus, Boolean isGuest) throws DuplicateResourceException {
 
                 Participant participant = participantMapper.createParticipantDtoToParticipant(createParticipantDTO);
@@ -269,14 +463,12 @@ public class ParticipantService {
                 participantValidationService.validateUniqueDocument(participant.getIdentificationDocument(),
                                 ParticipantErrorMessages.DUPLICATE_DOCUMENT.getMessage());
 
-                participant = participantRepository.save(participant);// guarda para obtener un id
-
                 registrationStatus = registrationStatusService
                                 .createRegistrationStatus(registrationStatus, participant);// guarda RegistrationStatus
 
                 participant.setRegistrationStatus(registrationStatus);/// relaciona Participant-RegistrationStatus
 
-                return participantRepository.save(participant);
+                return participant;
         }
 
         /**
@@ -344,41 +536,42 @@ public class ParticipantService {
         }
 
         private final QrCodeRepository qrCodeRepository;
-        @PersistenceContext
-        EntityManager entityManager;
-
-        public void reassignQrsToApprovedParticipants() {
-                // 1. Obtener participantes aprobados
-                List<Participant> participants = participantRepository
-                                .findByRegistrationStatus_IsApprovedOrderByCreatedAtAsc(true);
 
-                // 2. Obtener los códigos QR ordenados por número ascendente
-                List<QrCode> qrCodes = qrCodeRepository.findAllByOrderByNumberCodeAsc();
+        /**
+         * Reasigna los códigos QR a todos los participantes aprobados, en orden de
+         * inscripción: el participante aprobado más antiguo recibe el QR con el
+         * número más bajo.
+         * 
+         * La operación se resuelve con sentencias masivas en la base de datos
+         * (liberar ambos lados de la relación, asignar por ranking y sincronizar
+         * el lado del participante) en lugar de cargar y modificar cada entidad.
+         * 
+         * @return resumen con los conteos de filas afectadas y el tiempo empleado
+         * @throws IllegalStateException si hay menos códigos QR que participantes
+         *                               aprobados
+         */
+        public QrReassignmentResultDTO reassignQrsToApprovedParticipants() {
+                long start = System.nanoTime();
 
-                // 3. Validar que hay suficientes códigos
-                if (qrCodes.size() < participants.size()) {
+                // 1. Validar que hay suficientes codigos para los aprobados
+                Long approvedParticipants = participantRepository.countByRegistrationStatus_IsApproved(true);
+                Long totalQrCodes = qrCodeRepository.count();
+                if (totalQrCodes < approvedParticipants) {
                         throw new IllegalStateException("No hay suficientes códigos QR disponibles para reasignar.");
                 }
 
-                participants.forEach(participant -> participant.setQrCodeWithoutExeption(null));
-                // 4. Desvincular los QR anteriores (opcional)
-                qrCodes.forEach(qr -> qr.setParticipantWithoutExeption(null));
+                // 2. Desvincular ambos lados de la relacion
+                participantRepository.releaseAllQrCodes();
+                int releasedQrCodes = qrCodeRepository.releaseAllParticipants();
 
-                participantRepository.saveAll(participants);
-                qrCodeRepository.saveAll(qrCodes);
+                // 3. Asignar los QR por posicion y sincronizar el lado del participante
+                int assignedQrCodes = qrCodeRepository.assignInOrderToApprovedParticipants();
+                int linkedParticipants = participantRepository.linkQrCodesFromQrSide();
 
-                entityManager.flush();
-
-                // 5. Asignar los nuevos QRs
-                for (int i = 0; i < participants.size(); i++) {
-                        Participant participant = participants.get(i);
-                        QrCode qrCode = qrCodes.get(i);
-                        participant.setQrCodeWithoutExeption(qrCode);
-                        qrCode.setParticipantWithoutExeption(participant); // esto validará si ya estaba asignado
-                }
+                // 4. Recargar el indice de QR en memoria, las asignaciones cambiaron
+                qrParticipantIndexService.qrCodesReassigned();
 
-                // 6. Guardar cambios
-                participantRepository.saveAll(participants);
-                qrCodeRepository.saveAll(qrCodes);
+                return new QrReassignmentResultDTO(approvedParticipants, totalQrCodes, releasedQrCodes,
+                                assignedQrCodes, linkedParticipants, (System.nanoTime() - start) / 1_000_000);
         }
 }
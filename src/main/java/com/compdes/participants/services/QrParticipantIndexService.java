@@ -0,0 +1,190 @@
+package com.compdes.participants.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.compdes.common.utils.TransactionCallbacks;
+import com.compdes.participants.models.dto.internal.ScannedParticipantDTO;
+import com.compdes.participants.models.report.ParticipantQrRow;
+import com.compdes.participants.repositories.ParticipantRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice en memoria que resuelve un código QR al participante que lo tiene
+ * asignado.
+ *
+ * Cada escaneo de asistencia necesita únicamente el ID del participante, si su
+ * registro está aprobado y su nombre; este índice los entrega sin consultar la
+ * base de datos. Se carga completo al iniciar la aplicación y se actualiza
+ * después de confirmar cada aprobación (individual o en lote), cada cambio de
+ * nombre de un participante y cada reasignación de códigos, por lo que un
+ * rollback nunca deja datos en él.
+ *
+ * Un código que no está en el índice se busca en la base de datos y, si existe,
+ * se agrega; así, una asignación hecha por otra instancia se resuelve en el
+ * primer escaneo. Las reasignaciones de otras instancias no se reflejan, por lo
+ * que en despliegues con varias instancias debe deshabilitarse con
+ * {@code participant.qr-index.enabled=false}, y todos los escaneos se
+ * resuelven en la base de datos.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Service
+@Slf4j
+public class QrParticipantIndexService implements SmartInitializingSingleton {
+
+    private final ParticipantRepository participantRepository;
+    private final boolean enabled;
+
+    /**
+     * Participantes indexados por el ID de su código QR. Se reemplaza completo
+     * al recargar, para que las consultas nunca vean un índice a medio cargar.
+     */
+    private volatile Map<String, ScannedParticipantDTO> participantsByQr = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    public QrParticipantIndexService(ParticipantRepository participantRepository,
+            @Value("${participant.qr-index.enabled:true}") boolean enabled) {
+        this.participantRepository = participantRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Carga el índice antes de que la aplicación empiece a recibir peticiones.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /**
+     * Reconstruye el índice completo desde la base de datos.
+     *
+     * Si la carga falla, los códigos se siguen resolviendo en la base de datos.
+     */
+    public synchronized void reload() {
+        try {
+            List<ParticipantQrRow> rows = participantRepository.findAllQrRows();
+            Map<String, ScannedParticipantDTO> loaded = new ConcurrentHashMap<>(Math.max(rows.size() * 2, 16));
+            for (ParticipantQrRow row : rows) {
+                loaded.put(row.getQrCodeId(), toScannedParticipant(row));
+            }
+            participantsByQr = loaded;
+            ready = true;
+            log.info("Índice de códigos QR cargado: {} participantes", loaded.size());
+        } catch (RuntimeException e) {
+            ready = false;
+            log.error("No se pudo cargar el índice de códigos QR, se consultará la base de datos", e);
+        }
+    }
+
+    /**
+     * Resuelve el participante asociado a un código QR.
+     *
+     * @param qrCodeId ID del código QR
+     * @return el participante, o vacío si el código no está asignado
+     */
+    public Optional<ScannedParticipantDTO> find(String qrCodeId) {
+        return Optional.ofNullable(findAll(List.of(qrCodeId)).get(qrCodeId));
+    }
+
+    /**
+     * Resuelve los participantes asociados a varios códigos QR. Los códigos que
+     * no están en el índice se buscan juntos en una sola consulta.
+     *
+     * @param qrCodeIds IDs de los códigos QR
+     * @return mapa de ID de código QR a participante; los códigos sin
+     *         participante no se incluyen
+     */
+    public Map<String, ScannedParticipantDTO> findAll(Collection<String> qrCodeIds) {
+        Map<String, ScannedParticipantDTO> index = participantsByQr;
+        Map<String, ScannedParticipantDTO> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String qrCodeId : qrCodeIds) {
+            ScannedParticipantDTO participant = ready ? index.get(qrCodeId) : null;
+            if (participant != null) {
+                found.put(qrCodeId, participant);
+            } else {
+                missing.add(qrCodeId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        for (ParticipantQrRow row : participantRepository.findQrRowsByQrCodeIdIn(missing)) {
+            ScannedParticipantDTO participant = toScannedParticipant(row);
+            found.put(row.getQrCodeId(), participant);
+            if (ready) {
+                index.put(row.getQrCodeId(), participant);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Registra el código QR de un participante aprobado al confirmar la
+     * transacción actual.
+     *
+     * @param qrCodeId      ID del código QR asignado
+     * @param participantId ID del participante
+     * @param displayName   nombre completo del participante
+     */
+    public void participantApproved(String qrCodeId, String participantId, String displayName) {
+        ScannedParticipantDTO participant = new ScannedParticipantDTO(participantId, true, displayName);
+        afterCommit(() -> participantsByQr.put(qrCodeId, participant));
+    }
+
+    /**
+     * Actualiza el nombre de un participante ya indexado al confirmar la
+     * transacción actual. Si su código no está en el índice no hace nada: se
+     * leerá de la base de datos, ya con el nombre nuevo, en el primer escaneo.
+     *
+     * @param qrCodeId    ID del código QR del participante
+     * @param displayName nuevo nombre completo del participante
+     */
+    public void participantRenamed(String qrCodeId, String displayName) {
+        afterCommit(() -> participantsByQr.computeIfPresent(qrCodeId,
+                (id, current) -> new ScannedParticipantDTO(current.getParticipantId(), current.isApproved(),
+                        displayName)));
+    }
+
+    /**
+     * Recarga el índice al confirmar la transacción actual. Debe invocarse
+     * cuando los códigos QR se reasignan de forma masiva.
+     */
+    public void qrCodesReassigned() {
+        afterCommit(this::reload);
+    }
+
+    private ScannedParticipantDTO toScannedParticipant(ParticipantQrRow row) {
+        return new ScannedParticipantDTO(row.getId(), Boolean.TRUE.equals(row.getIsApproved()),
+                row.getFirstName() + " " + row.getLastName());
+    }
+
+    /**
+     * Aplica la actualización del índice al confirmar la transacción actual.
+     *
+     * @param action actualización del índice
+     */
+    private void afterCommit(Runnable action) {
+        if (enabled) {
+            TransactionCallbacks.runAfterCommit(action);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.compdes.qrCodes.controllers;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -9,11 +10,17 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.compdes.common.exceptions.NotFoundException;
+import com.compdes.qrCodes.models.dto.internal.QrCodeImageDTO;
+import com.compdes.qrCodes.models.dto.response.QrCodePoolFillDTO;
+import com.compdes.qrCodes.services.QrCodePoolService;
 import com.compdes.qrCodes.services.QrCodeService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,6 +43,7 @@ import lombok.RequiredArgsConstructor;
 public class QrCodeController {
 
     private final QrCodeService qrCodeService;
+    private final QrCodePoolService qrCodePoolService;
 
     /**
      * Ruta base del controlador de códigos QR.
@@ -67,8 +75,25 @@ public class QrCodeController {
     private static final String GET_QR_IMAGE_BY_ID_FOR_ADMIN = BASE_GET_QR_IMAGE_BY_ID_FOR_ADMIN + "/{id}";
     private static final String GET_QR_IMAGE_BY_ID_FOR_PARTICIPANT = BASE_GET_QR_IMAGE_BY_ID_FOR_PARTICIPANT;
 
+    /**
+     * Ruta para completar el pool de códigos QR disponibles.
+     */
+    private static final String TOP_UP_QR_POOL = "/pool/top-up";
+
+    @Operation(summary = "Completar el pool de códigos QR", description = "Inserta en lote los códigos QR necesarios para que existan al menos `targetAvailable` códigos sin asignar. Devuelve cuántos se insertaron, el rango numérico reservado y el tiempo empleado. Protegido con `bearerAuth`, accesible para usuarios rol `ADMIN`.", security = @SecurityRequirement(name = "bearerAuth"), responses = {
+            @ApiResponse(responseCode = "200", description = "Pool completado correctamente"),
+            @ApiResponse(responseCode = "400", description = "El tamaño solicitado está fuera del rango permitido")
+    })
+    @PostMapping(TOP_UP_QR_POOL)
+    @PreAuthorize("hasRole('ADMIN')")
+    @ResponseStatus(HttpStatus.OK)
+    public QrCodePoolFillDTO topUpQrPool(@RequestParam Integer targetAvailable) {
+        return qrCodePoolService.topUpPool(targetAvailable);
+    }
+
     @Operation(summary = "Obtener imagen del código QR por ID", description = "Devuelve la imagen PNG del código QR correspondiente al ID proporcionado. El código QR debe estar vinculado a un participante. Protegido con `bearerAuth`, accesible para usuarios rol `ADMIN`, `PARTICIPANT`.", security = @SecurityRequirement(name = "bearerAuth"), responses = {
             @ApiResponse(responseCode = "200", description = "Imagen del código QR generada correctamente", content = @Content(mediaType = "image/png")),
+            @ApiResponse(responseCode = "304", description = "La imagen no ha cambiado respecto al ETag enviado en `If-None-Match`"),
             @ApiResponse(responseCode = "404", description = "No se encontró ningún código QR con el ID proporcionado"),
             @ApiResponse(responseCode = "409", description = "El código QR no está vinculado a ningún participante"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor al generar la imagen")
@@ -76,16 +101,17 @@ public class QrCodeController {
     @GetMapping(GET_QR_IMAGE_BY_ID_FOR_ADMIN)
     @PreAuthorize("hasRole('ADMIN')")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<byte[]> getQrImageByIdForAdmin(@PathVariable String id) throws NotFoundException {
-        byte[] qrImage = qrCodeService.getQrImageByQrId(id);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.IMAGE_PNG);
-        return new ResponseEntity<>(qrImage, headers, HttpStatus.OK);
+    public ResponseEntity<byte[]> getQrImageByIdForAdmin(@PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws NotFoundException {
+        QrCodeImageDTO qrImage = qrCodeService.getQrImageByQrId(id);
+        return buildQrImageResponse(qrImage, ifNoneMatch);
     }
 
     @Operation(summary = "Obtener código QR del participante autenticado", description = "Devuelve la imagen PNG del código QR asociado al usuario autenticado, disponible para rol `PARTICIPANT`."
             + " Solo disponible para participantes que ya tengan un QR asignado.", security = @SecurityRequirement(name = "bearerAuth"), responses = {
                     @ApiResponse(responseCode = "200", description = "Imagen del código QR obtenida correctamente", content = @Content(mediaType = "image/png")),
+                    @ApiResponse(responseCode = "304", description = "La imagen no ha cambiado respecto al ETag enviado en `If-None-Match`"),
                     @ApiResponse(responseCode = "404", description = "No se encontró un código QR vinculado al usuario"),
                     @ApiResponse(responseCode = "409", description = "El código QR no está vinculado a ningún participante"),
                     @ApiResponse(responseCode = "500", description = "Error inesperado al generar el código QR")
@@ -93,11 +119,63 @@ public class QrCodeController {
     @GetMapping(GET_QR_IMAGE_BY_ID_FOR_PARTICIPANT)
     @PreAuthorize("hasRole('PARTICIPANT')")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<byte[]> getQrImageByIdForAdmi(@AuthenticationPrincipal UserDetails userDetails)
+    public ResponseEntity<byte[]> getQrImageByIdForAdmi(@AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
             throws NotFoundException {
-        byte[] qrImage = qrCodeService.getQrImageByQrUsername(userDetails.getUsername());
+        QrCodeImageDTO qrImage = qrCodeService.getQrImageByQrUsername(userDetails.getUsername());
+        return buildQrImageResponse(qrImage, ifNoneMatch);
+    }
+
+    /**
+     * Construye la respuesta HTTP para una imagen QR respetando el ETag.
+     * 
+     * Si el cliente envía en {@code If-None-Match} el ETag vigente de la imagen,
+     * se responde {@code 304 Not Modified} sin cuerpo; en caso contrario se
+     * devuelve el PNG completo junto con su ETag. La respuesta se marca como
+     * privada y debe revalidarse en cada uso, ya que depende del usuario
+     * autenticado.
+     * 
+     * @param qrImage     imagen del QR con su ETag
+     * @param ifNoneMatch valor de la cabecera {@code If-None-Match}, puede ser
+     *                    {@code null}
+     * @return la respuesta con la imagen o un {@code 304}
+     */
+    private ResponseEntity<byte[]> buildQrImageResponse(QrCodeImageDTO qrImage, String ifNoneMatch) {
         HttpHeaders headers = new HttpHeaders();
+        headers.setETag(qrImage.getEtag());
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+
+        if (matchesEtag(ifNoneMatch, qrImage.getEtag())) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
         headers.setContentType(MediaType.IMAGE_PNG);
-        return new ResponseEntity<>(qrImage, headers, HttpStatus.OK);
+        return new ResponseEntity<>(qrImage.getContent(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * Verifica si alguno de los ETags enviados por el cliente coincide con el
+     * actual. Se usa la comparación débil, como indica la especificación HTTP
+     * para {@code If-None-Match}.
+     * 
+     * @param ifNoneMatch valor de la cabecera, puede contener varios ETags
+     *                    separados por coma o {@code *}
+     * @param etag        ETag vigente de la imagen
+     * @return {@code true} si el cliente ya tiene la versión vigente
+     */
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
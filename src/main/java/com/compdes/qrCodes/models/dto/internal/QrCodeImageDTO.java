@@ -0,0 +1,26 @@
+package com.compdes.qrCodes.models.dto.internal;
+
+import lombok.Value;
+
+/**
+ * DTO interno que representa la imagen PNG ya renderizada de un código QR junto
+ * con su ETag.
+ *
+ * El ETag se calcula a partir del contenido de la imagen, por lo que dos
+ * imágenes con los mismos bytes comparten el mismo valor. Esto permite a los
+ * controladores responder con {@code 304 Not Modified} cuando el cliente ya
+ * posee la versión vigente.
+ *
+ * Este objeto se utiliza exclusivamente entre capas del sistema y no está
+ * diseñado para ser expuesto directamente en la API pública.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class QrCodeImageDTO {
+
+    byte[] content;
+    String etag;
+}
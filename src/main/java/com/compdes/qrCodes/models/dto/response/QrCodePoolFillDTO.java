@@ -0,0 +1,28 @@
+package com.compdes.qrCodes.models.dto.response;
+
+import lombok.Value;
+
+/**
+ * DTO de respuesta con el resultado del llenado del pool de códigos QR.
+ * 
+ * Resume cuántos códigos se insertaron, el rango numérico reservado para ellos
+ * y el tiempo que tomó la operación, de forma que pueda registrarse en el
+ * arranque o mostrarse al administrador que solicitó el llenado.
+ * 
+ * Si no fue necesario insertar códigos, {@code insertedRows} es cero y el rango
+ * numérico queda en {@code null}.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class QrCodePoolFillDTO {
+
+    Integer targetAvailable;
+    Long availableBefore;
+    Integer insertedRows;
+    Integer firstNumberCode;
+    Integer lastNumberCode;
+    Long elapsedMillis;
+}
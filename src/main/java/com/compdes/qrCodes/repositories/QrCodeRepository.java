@@ -4,9 +4,10 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import com.compdes.participants.models.entities.Participant;
 import com.compdes.qrCodes.models.entities.QrCode;
 
 /**
@@ -37,17 +38,74 @@ public interface QrCodeRepository extends JpaRepository<QrCode, String> {
     public Optional<QrCode> findFirstByOrderByNumberCodeDesc();
 
     /**
-     * Busca el primer código QR que no esté asociado a ningún participante.
+     * Obtiene y bloquea el primer código QR disponible, saltando los que ya están
+     * bloqueados por otra transacción.
+     *
+     * La fila queda bloqueada ({@code FOR UPDATE}) hasta que finalice la
+     * transacción actual, y gracias a {@code SKIP LOCKED} las aprobaciones
+     * concurrentes reciben códigos distintos en lugar de esperar o competir por
+     * el mismo. Debe invocarse dentro de una transacción.
+     *
+     * @return un {@link Optional} con el código QR reservado, o vacío si no quedan
+     *         códigos libres sin bloquear
+     */
+    @Query(value = """
+            SELECT * FROM qr_code
+            WHERE participant_id IS NULL
+            ORDER BY number_code ASC
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    public Optional<QrCode> lockFirstAvailableQrCode();
+
+    /**
+     * Desvincula en una sola sentencia a todos los participantes de sus códigos
+     * QR.
      * 
-     * Este método se utiliza para recuperar un código QR disponible para
-     * asignación,
-     * es decir, cuya relación con {@link Participant} sea nula.
+     * @return cantidad de códigos QR que estaban asignados
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE qr_code
+            SET participant_id = NULL, updated_at = UTC_TIMESTAMP(6)
+            WHERE participant_id IS NOT NULL
+            """, nativeQuery = true)
+    public int releaseAllParticipants();
+
+    /**
+     * Asigna los códigos QR a los participantes aprobados en una sola sentencia.
+     * 
+     * Numera a los participantes aprobados por fecha de creación y a los códigos
+     * QR por {@code number_code}, y une ambos rankings por posición: el
+     * participante aprobado más antiguo recibe el QR con el número más bajo, y
+     * así sucesivamente. Se espera que todos los códigos estén libres antes de
+     * invocarlo (ver {@link #releaseAllParticipants()}).
+     * 
+     * @return cantidad de códigos QR asignados
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE qr_code q
+            JOIN (
+                SELECT id, ROW_NUMBER() OVER (ORDER BY number_code ASC) AS position
+                FROM qr_code
+            ) ranked_qr ON ranked_qr.id = q.id
+            JOIN (
+                SELECT p.id, ROW_NUMBER() OVER (ORDER BY p.created_at ASC, p.id ASC) AS position
+                FROM participant p
+                JOIN registration_status rs ON rs.id = p.registration_status_id
+                WHERE rs.is_approved = TRUE
+            ) ranked_participant ON ranked_participant.position = ranked_qr.position
+            SET q.participant_id = ranked_participant.id, q.updated_at = UTC_TIMESTAMP(6)
+            """, nativeQuery = true)
+    public int assignInOrderToApprovedParticipants();
+
+    /**
+     * Cuenta los códigos QR que aún no están asociados a ningún participante.
      * 
-     * @return un {@link Optional} que contiene el primer código QR disponible si
-     *         existe,
-     *         o vacío si no se encuentra ninguno.
+     * @return cantidad de códigos QR disponibles para asignación
      */
-    public Optional<QrCode> findFirstByParticipantIsNullOrderByNumberCodeAsc();
+    public Long countByParticipantIsNull();
 
     /**
      * Busca un código QR asociado a un participante cuyo usuario tenga el nombre
@@ -0,0 +1,122 @@
+package com.compdes.qrCodes.services;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.compdes.common.utils.EntityIds;
+import com.compdes.common.utils.JdbcTimestamps;
+import com.compdes.qrCodes.models.dto.response.QrCodePoolFillDTO;
+import com.compdes.qrCodes.repositories.QrCodeRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio encargado de mantener el pool de códigos QR disponibles.
+ * 
+ * En lugar de crear los códigos uno a uno (una consulta del último número y un
+ * {@code INSERT} por código), reserva el rango numérico completo con una sola
+ * lectura bloqueante del máximo actual e inserta todos los códigos mediante
+ * lotes JDBC.
+ * 
+ * Para que MySQL reciba realmente un solo {@code INSERT} multi-fila por lote,
+ * la URL de conexión debe incluir {@code rewriteBatchedStatements=true}; sin
+ * ese parámetro el lote sigue funcionando pero se envía sentencia por
+ * sentencia.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Service
+@Slf4j
+@Transactional(rollbackFor = Exception.class)
+public class QrCodePoolService {
+
+    /**
+     * Límite superior aceptado para el tamaño del pool, evita llenados
+     * accidentales de millones de filas.
+     */
+    public static final int MAX_POOL_SIZE = 100_000;
+
+    private static final String INSERT_QR_CODE_SQL = "INSERT INTO qr_code (id, created_at, updated_at, number_code) VALUES (?, ?, ?, ?)";
+
+    /**
+     * Lee el número más alto bloqueando el final del índice único, de modo que
+     * dos llenados concurrentes no puedan reservar el mismo rango.
+     */
+    private static final String LOCK_MAX_NUMBER_CODE_SQL = "SELECT COALESCE(MAX(number_code), 0) FROM qr_code FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QrCodeRepository qrCodeRepository;
+    private final int batchSize;
+
+    public QrCodePoolService(JdbcTemplate jdbcTemplate, QrCodeRepository qrCodeRepository,
+            @Value("${qr.pool.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.qrCodeRepository = qrCodeRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Completa el pool hasta que existan al menos {@code targetAvailable} códigos
+     * QR sin participante asignado.
+     * 
+     * Si ya hay suficientes códigos disponibles no inserta nada. En caso
+     * contrario reserva el rango {@code [max + 1, max + faltantes]} y lo inserta
+     * en lotes de {@code qr.pool.batch-size} filas.
+     * 
+     * @param targetAvailable cantidad de códigos disponibles deseada
+     * @return resumen con filas insertadas, rango reservado y tiempo empleado
+     * @throws IllegalArgumentException si el tamaño solicitado es negativo o
+     *                                  supera {@link #MAX_POOL_SIZE}
+     */
+    public QrCodePoolFillDTO topUpPool(int targetAvailable) {
+        if (targetAvailable < 0 || targetAvailable > MAX_POOL_SIZE) {
+            throw new IllegalArgumentException(
+                    "El tamaño del pool de códigos QR debe estar entre 0 y " + MAX_POOL_SIZE + ".");
+        }
+        long start = System.nanoTime();
+
+        // reservamos el rango antes de contar, asi el conteo no cambia mientras
+        // insertamos
+        Integer maxNumberCode = jdbcTemplate.queryForObject(LOCK_MAX_NUMBER_CODE_SQL, Integer.class);
+        long availableBefore = qrCodeRepository.countByParticipantIsNull();
+        int missing = (int) Math.max(0, targetAvailable - availableBefore);
+
+        if (missing == 0) {
+            return new QrCodePoolFillDTO(targetAvailable, availableBefore, 0, null, null,
+                    elapsedMillis(start));
+        }
+
+        int firstNumberCode = maxNumberCode + 1;
+        int lastNumberCode = maxNumberCode + missing;
+        Timestamp now = JdbcTimestamps.nowUtc();
+
+        // construimos los parametros de cada fila, el id se genera igual que en
+        // la entidad
+        List<Object[]> rows = new ArrayList<>(missing);
+        for (int numberCode = firstNumberCode; numberCode <= lastNumberCode; numberCode++) {
+            rows.add(new Object[] { EntityIds.newId(), now, now, numberCode });
+        }
+
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(INSERT_QR_CODE_SQL, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+
+        QrCodePoolFillDTO result = new QrCodePoolFillDTO(targetAvailable, availableBefore, missing,
+                firstNumberCode, lastNumberCode, elapsedMillis(start));
+        log.info("Pool de códigos QR completado: {} códigos insertados ({} - {}) en {} ms", missing,
+                firstNumberCode, lastNumberCode, result.getElapsedMillis());
+        return result;
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
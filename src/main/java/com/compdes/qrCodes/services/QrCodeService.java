@@ -10,8 +10,10 @@ import com.compdes.common.exceptions.QrCodeException;
 import com.compdes.common.exceptions.enums.QrCodeErrorEnum;
 import com.compdes.participants.models.entities.Participant;
 import com.compdes.participants.repositories.ParticipantRepository;
+import com.compdes.qrCodes.models.dto.internal.QrCodeImageDTO;
 import com.compdes.qrCodes.models.entities.QrCode;
 import com.compdes.qrCodes.repositories.QrCodeRepository;
+import com.compdes.qrCodes.utils.QrCodeImageCache;
 import com.compdes.qrCodes.utils.QrCodeImageGeneratorUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -35,6 +37,7 @@ public class QrCodeService {
     private final QrCodeRepository qrCodeRepository;
     private final QrCodeImageGeneratorUtil qrImageGenerator;
     private final ParticipantRepository participantRepository;
+    private final QrCodeImageCache qrCodeImageCache;
 
     /**
      * Genera y guarda un nuevo código QR con un número incremental.
@@ -69,6 +72,10 @@ public class QrCodeService {
      * cuya relación con un {@link Participant} sea nula, lo que indica que aún no
      * ha sido utilizado.
      * 
+     * La fila obtenida queda bloqueada hasta el fin de la transacción y las filas
+     * bloqueadas por otras transacciones se saltan, por lo que aprobaciones
+     * simultáneas nunca reciben el mismo código ni esperan entre sí.
+     * 
      * Si no se encuentra ningún código QR disponible, lanza una excepción del tipo
      * {@link QrCodeException}, definida en
      * {@link QrCodeErrorEnum#NO_AVAILABLE_QR_CODE}.
@@ -81,7 +88,7 @@ public class QrCodeService {
      * @throws QrCodeException si no hay códigos QR disponibles para asignar
      */
     public QrCode findAvailableQrCode() {
-        return qrCodeRepository.findFirstByParticipantIsNullOrderByNumberCodeAsc().orElseThrow(
+        return qrCodeRepository.lockFirstAvailableQrCode().orElseThrow(
                 () -> QrCodeErrorEnum.NO_AVAILABLE_QR_CODE.getQrCodeException());
     }
 
@@ -112,34 +119,47 @@ public class QrCodeService {
     }
 
     /**
-     * Genera la imagen del código QR (formato PNG) a partir de su ID.
+     * Obtiene la imagen del código QR (formato PNG) a partir de su ID.
+     * 
+     * La imagen se toma de {@link QrCodeImageCache} y solo se genera si aún no
+     * estaba renderizada.
      * 
      * @param qrId identificador del código QR
-     * @return arreglo de bytes que representa la imagen PNG del código QR generado
+     * @return la imagen PNG del código QR junto con su ETag
      * @throws NotFoundException     si no se encuentra un código QR con el ID
      *                               especificado
      * @throws IllegalStateException si el código QR no está vinculado a ningún
      *                               participante
      */
-    public byte[] getQrImageByQrId(String qrId) throws NotFoundException {
+    public QrCodeImageDTO getQrImageByQrId(String qrId) throws NotFoundException {
         QrCode qrCode = getQrCodeById(qrId);
         validateQrCodeHasParticipant(qrCode);
-        return qrImageGenerator.generateQrCode(qrCode);
+        return getCachedQrImage(qrCode);
     }
 
     /**
      * Obtiene la imagen del código QR en formato PNG asociada al usuario indicado.
      * 
      * @param username nombre de usuario del participante
-     * @return arreglo de bytes con la imagen PNG del código QR
+     * @return la imagen PNG del código QR junto con su ETag
      * @throws NotFoundException     si no se encuentra un código QR asociado al
      *                               usuario
      * @throws IllegalStateException si el código QR no está vinculado a un
      *                               participante
      */
-    public byte[] getQrImageByQrUsername(String username) throws NotFoundException {
+    public QrCodeImageDTO getQrImageByQrUsername(String username) throws NotFoundException {
         QrCode qrCode = getQrCodeByUsername(username);
-        return qrImageGenerator.generateQrCode(qrCode);
+        return getCachedQrImage(qrCode);
+    }
+
+    /**
+     * Obtiene la imagen del QR desde la caché, generándola si es necesario.
+     * 
+     * @param qrCode código QR cuya imagen se requiere
+     * @return la imagen PNG del código QR junto con su ETag
+     */
+    private QrCodeImageDTO getCachedQrImage(QrCode qrCode) {
+        return qrCodeImageCache.getOrRender(qrCode.getId(), () -> qrImageGenerator.generateQrCode(qrCode));
     }
 
     /**
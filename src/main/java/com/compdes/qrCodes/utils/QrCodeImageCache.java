@@ -0,0 +1,119 @@
+package com.compdes.qrCodes.utils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.compdes.qrCodes.models.dto.internal.QrCodeImageDTO;
+
+/**
+ * Caché en memoria de las imágenes PNG de los códigos QR ya renderizadas.
+ *
+ * La imagen de un QR depende únicamente de su ID, por lo que una vez generada
+ * es inmutable y puede reutilizarse entre peticiones. La caché está acotada por
+ * el total de bytes almacenados (no por cantidad de entradas) y desaloja las
+ * entradas menos usadas recientemente cuando se excede el presupuesto.
+ *
+ * Cada entrada guarda junto a la imagen un ETag fuerte calculado con SHA-256
+ * sobre los bytes del PNG.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Component
+public class QrCodeImageCache {
+
+    /**
+     * Presupuesto máximo de bytes a mantener en memoria. Por defecto 16 MB, lo
+     * que alcanza para varios miles de QR de 200x200.
+     */
+    private final long maxBytes;
+
+    /**
+     * Mapa en orden de acceso, usado como LRU. Todo acceso se sincroniza sobre
+     * la propia instancia de la caché.
+     */
+    private final LinkedHashMap<String, QrCodeImageDTO> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private long currentBytes = 0;
+
+    public QrCodeImageCache(@Value("${qr.image-cache.max-bytes:16777216}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Obtiene la imagen del QR desde la caché o la genera con el
+     * {@code renderer} si aún no está almacenada.
+     *
+     * La generación se hace fuera del bloqueo para no serializar el renderizado
+     * de QR distintos; si dos hilos generan el mismo QR a la vez, ambos
+     * producen los mismos bytes y se conserva el primero que se almacene.
+     *
+     * @param qrCodeId ID del código QR, usado como llave
+     * @param renderer función que genera el PNG cuando no está en caché
+     * @return la imagen con su ETag
+     */
+    public QrCodeImageDTO getOrRender(String qrCodeId, Supplier<byte[]> renderer) {
+        synchronized (this) {
+            QrCodeImageDTO cached = entries.get(qrCodeId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        byte[] content = renderer.get();
+        QrCodeImageDTO image = new QrCodeImageDTO(content, buildEtag(content));
+
+        synchronized (this) {
+            QrCodeImageDTO existing = entries.get(qrCodeId);
+            if (existing != null) {
+                return existing;
+            }
+            // una imagen mas grande que todo el presupuesto no se almacena
+            if (content.length > maxBytes) {
+                return image;
+            }
+            entries.put(qrCodeId, image);
+            currentBytes += content.length;
+            evictIfNeeded();
+        }
+        return image;
+    }
+
+    /**
+     * Desaloja las entradas menos usadas recientemente hasta volver al
+     * presupuesto de bytes. Debe llamarse con el bloqueo adquirido.
+     */
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, QrCodeImageDTO>> iterator = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, QrCodeImageDTO> eldest = iterator.next();
+            currentBytes -= eldest.getValue().getContent().length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Construye un ETag fuerte a partir del hash SHA-256 del contenido.
+     *
+     * @param content bytes de la imagen
+     * @return el ETag entre comillas, listo para usarse en la cabecera HTTP
+     */
+    private String buildEtag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            // todas las JVM deben incluir SHA-256
+            throw new IllegalStateException("SHA-256 no está disponible en la JVM", e);
+        }
+    }
+}
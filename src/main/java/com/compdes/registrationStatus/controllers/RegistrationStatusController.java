@@ -4,16 +4,21 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.compdes.common.exceptions.NotFoundException;
+import com.compdes.registrationStatus.models.dto.request.BulkApprovalRequestDTO;
+import com.compdes.registrationStatus.models.dto.response.BulkApprovalResultDTO;
+import com.compdes.registrationStatus.services.RegistrationBulkApprovalService;
 import com.compdes.registrationStatus.services.RegistrationStatusService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -29,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 public class RegistrationStatusController {
 
     private final RegistrationStatusService registrationStatusService;
+    private final RegistrationBulkApprovalService registrationBulkApprovalService;
 
     /**
      * Aprueba el estado de registro asociado a un participante específico.
@@ -58,4 +64,18 @@ public class RegistrationStatusController {
     public void approveRegistrationByParticipantId(@PathVariable String participantId) throws NotFoundException {
         registrationStatusService.approveRegistrationByParticipantId(participantId);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Aprobar registros en lote", description = "Aprueba en lote los registros de los participantes indicados por `participantIds` o seleccionados por `filter` (con los mismos criterios del listado de participantes), pero no ambos. "
+            + "Los participantes se procesan en bloques, cada uno en su propia transacción; los que ya estaban aprobados se omiten. Si un bloque falla (por ejemplo, por falta de códigos QR) los bloques anteriores permanecen aprobados y la respuesta incluye el motivo en `error`. "
+            + "Solo accesible para usuarios con rol `ADMIN`.", security = @SecurityRequirement(name = "bearerAuth"), responses = {
+                    @ApiResponse(responseCode = "200", description = "Aprobación en lote procesada"),
+                    @ApiResponse(responseCode = "400", description = "La solicitud no incluye exactamente una forma de selección, o la lista de IDs o el filtro exceden el máximo de 5000 participantes"),
+                    @ApiResponse(responseCode = "403", description = "Acceso denegado al recurso (requiere rol `ADMIN`), token inválido o no proporcionado")
+            })
+    @PatchMapping("/approve/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ADMIN')")
+    public BulkApprovalResultDTO approveRegistrations(@RequestBody @Valid BulkApprovalRequestDTO request) {
+        return registrationBulkApprovalService.approveRegistrations(request);
+    }
+}
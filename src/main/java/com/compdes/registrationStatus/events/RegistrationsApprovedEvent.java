@@ -0,0 +1,23 @@
+package com.compdes.registrationStatus.events;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Evento que agrupa las aprobaciones de registro realizadas en un mismo bloque
+ * de una aprobación en lote.
+ * 
+ * Se publica una sola vez por bloque, dentro de su transacción, en lugar de un
+ * {@link RegistrationApprovedEvent} por participante.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@AllArgsConstructor
+@Value
+public class RegistrationsApprovedEvent {
+    List<RegistrationApprovedEvent> approvals;
+}
@@ -1,24 +1,30 @@
 package com.compdes.registrationStatus.events.listeners;
 
+import java.util.List;
+
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import com.compdes.notifications.mails.services.MailService;
+import com.compdes.notifications.mails.models.dto.internal.RegistrationApprovedMailDTO;
+import com.compdes.notifications.mails.services.MailOutboxService;
 import com.compdes.registrationStatus.events.RegistrationApprovedEvent;
+import com.compdes.registrationStatus.events.RegistrationsApprovedEvent;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * Listener encargado de manejar eventos de aprobación de registro.
  * 
- * Este componente escucha eventos del tipo {@link RegistrationApprovedEvent} y,
- * al ser notificado, envía un correo electrónico al participante confirmando la
- * finalización del proceso de inscripción. La operación se ejecuta de manera
- * asincrónica
- * para no bloquear el flujo principal de la aplicación.
+ * Este componente escucha eventos del tipo {@link RegistrationApprovedEvent} (y
+ * su versión agrupada {@link RegistrationsApprovedEvent}) y,
+ * al ser notificado, encola en la bandeja de salida el correo que confirma al
+ * participante la finalización del proceso de inscripción. El listener se
+ * ejecuta de forma síncrona dentro de la transacción que aprueba el registro,
+ * por lo que el correo solo queda encolado si la aprobación se confirma.
  * 
- * Utiliza el servicio {@link MailService} para realizar el envío de correos.
+ * El envío real lo realiza
+ * {@link com.compdes.notifications.mails.services.MailOutboxDispatcher} en
+ * segundo plano.
  * 
  * @author Luis Monterroso
  * @version 1.0
@@ -28,22 +34,33 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RegistrationApprovedListener {
 
-    private final MailService mailService;
+    private final MailOutboxService mailOutboxService;
 
     /**
-     * Maneja el evento de aprobación de registro enviando un correo electrónico
-     * de confirmación al participante.
-     * 
-     * Este método se ejecuta de manera asincrónica tras recibir el evento
-     * {@link RegistrationApprovedEvent}.
+     * Maneja el evento de aprobación de registro encolando el correo
+     * electrónico de confirmación para el participante.
      * 
      * @param event evento que contiene el correo del participante y el ID del
      *              usuario asociado
      */
-    @Async
     @EventListener
     public void onRegistrationApproved(RegistrationApprovedEvent event) {
-        mailService.sendRegistrationApprovedEmail(event.getParticipantEmail(),
+        mailOutboxService.enqueueRegistrationApproved(event.getParticipantEmail(),
                 event.getParticipantFullName(), event.getUserId());
     }
+
+    /**
+     * Maneja el evento de un bloque de aprobaciones encolando todos los correos
+     * de confirmación en una sola operación.
+     * 
+     * @param event evento con los datos de los participantes aprobados
+     */
+    @EventListener
+    public void onRegistrationsApproved(RegistrationsApprovedEvent event) {
+        List<RegistrationApprovedMailDTO> mails = event.getApprovals().stream()
+                .map(approval -> new RegistrationApprovedMailDTO(null, approval.getParticipantEmail(),
+                        approval.getParticipantFullName(), approval.getUserId()))
+                .toList();
+        mailOutboxService.enqueueRegistrationApproved(mails);
+    }
 }
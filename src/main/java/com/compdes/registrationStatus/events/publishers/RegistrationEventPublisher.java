@@ -4,6 +4,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import com.compdes.registrationStatus.events.RegistrationApprovedEvent;
+import com.compdes.registrationStatus.events.RegistrationsApprovedEvent;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,4 +40,15 @@ public class RegistrationEventPublisher {
         publisher.publishEvent(event);
     }
 
+    /**
+     * Publica un evento que agrupa las aprobaciones de un bloque de una
+     * aprobación en lote.
+     * 
+     * @param event evento con los datos de todos los participantes aprobados en
+     *              el bloque
+     */
+    public void publishRegistrationsApproved(RegistrationsApprovedEvent event) {
+        publisher.publishEvent(event);
+    }
+
 }
@@ -0,0 +1,54 @@
+package com.compdes.registrationStatus.models.dto.request;
+
+import java.util.List;
+
+import com.compdes.participants.models.dto.request.ParticipantFilterDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO utilizado para aprobar en lote los registros de varios participantes.
+ * 
+ * Los participantes se seleccionan de una de dos formas, nunca ambas: una
+ * lista explícita de IDs (por ejemplo, los conciliados contra el banco) o un
+ * filtro con los mismos criterios del listado de participantes. Los
+ * participantes que ya estén aprobados se omiten.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Getter
+@AllArgsConstructor
+public class BulkApprovalRequestDTO {
+
+    /**
+     * Cantidad máxima de participantes que se aprueban en una sola solicitud,
+     * tanto por lista de IDs como por filtro.
+     */
+    public static final int MAX_PARTICIPANTS = 5000;
+
+    @Size(max = MAX_PARTICIPANTS, message = "No se pueden aprobar más de 5000 participantes en una sola solicitud")
+    @Schema(description = "IDs de los participantes a aprobar (opcional si se envía `filter`)")
+    private List<@NotBlank(message = "Los IDs de participante no pueden estar vacíos") String> participantIds;
+
+    @Schema(description = "Filtro de participantes a aprobar (opcional si se envía `participantIds`)")
+    private ParticipantFilterDTO filter;
+
+    /**
+     * Valida que se proporcione exactamente una forma de selección.
+     * 
+     * @return true si solo se envió la lista de IDs o solo el filtro
+     */
+    @AssertTrue(message = "Debe proporcionar la lista de IDs de participantes o un filtro, pero no ambos.")
+    @Schema(hidden = true)
+    public boolean isOnlyOneSelectionPresent() {
+        boolean hasIds = participantIds != null && !participantIds.isEmpty();
+        return hasIds != (filter != null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.compdes.registrationStatus.models.dto.response;
+
+import lombok.Value;
+
+/**
+ * DTO de respuesta con el resultado de una aprobación en lote.
+ * 
+ * Cada bloque de participantes se aprueba en su propia transacción. Si un
+ * bloque falla (por ejemplo, porque se agotaron los códigos QR), los bloques
+ * anteriores permanecen aprobados, el proceso se detiene y {@code error}
+ * describe el motivo. {@code skippedParticipants} cuenta a los participantes
+ * que no existían o que ya estaban aprobados.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class BulkApprovalResultDTO {
+
+    Integer requestedParticipants;
+    Integer approvedParticipants;
+    Integer skippedParticipants;
+    Integer processedChunks;
+    Long elapsedMillis;
+    String error;
+}
@@ -0,0 +1,246 @@
+package com.compdes.registrationStatus.services;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.compdes.auth.users.enums.RolesEnum;
+import com.compdes.common.exceptions.CustomRuntimeException;
+import com.compdes.common.exceptions.enums.QrCodeErrorEnum;
+import com.compdes.common.utils.EntityIds;
+import com.compdes.common.utils.JdbcTimestamps;
+import com.compdes.participants.services.ParticipantService;
+import com.compdes.participants.services.QrParticipantIndexService;
+import com.compdes.registrationStatus.events.RegistrationApprovedEvent;
+import com.compdes.registrationStatus.events.RegistrationsApprovedEvent;
+import com.compdes.registrationStatus.events.publishers.RegistrationEventPublisher;
+import com.compdes.registrationStatus.models.dto.request.BulkApprovalRequestDTO;
+import com.compdes.registrationStatus.models.dto.response.BulkApprovalResultDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio encargado de la aprobación en lote de registros de participantes.
+ *
+ * Aprobar un participante con
+ * {@link RegistrationStatusService#approveRegistrationByParticipant} implica
+ * varias consultas y guardados individuales (usuario, código QR, participante,
+ * estado de registro y evento). Este servicio aprueba bloques completos de
+ * participantes con un número fijo de sentencias por bloque: bloquea a los
+ * participantes pendientes y la misma cantidad de códigos QR libres, y luego
+ * crea los usuarios y actualiza códigos, participantes y estados mediante lotes
+ * JDBC.
+ *
+ * Cada bloque se ejecuta en su propia transacción y publica un único
+ * {@link RegistrationsApprovedEvent}, que encola los correos en la misma
+ * transacción.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Service
+@Slf4j
+public class RegistrationBulkApprovalService {
+
+    /**
+     * Bloquea a los participantes del bloque que aún no han sido aprobados ni
+     * tienen usuario. Los que no cumplen se omiten.
+     */
+    private static final String LOCK_PENDING_PARTICIPANTS_SQL = """
+            SELECT p.id, p.registration_status_id, p.email, p.first_name, p.last_name
+            FROM participant p
+            JOIN registration_status rs ON rs.id = p.registration_status_id
+            WHERE p.id IN (:ids)
+              AND rs.is_approved = FALSE
+              AND p.compdes_user_id IS NULL
+            ORDER BY p.created_at ASC, p.id ASC
+            FOR UPDATE
+            """;
+
+    private static final String LOCK_AVAILABLE_QR_CODES_SQL = """
+            SELECT id FROM qr_code
+            WHERE participant_id IS NULL
+            ORDER BY number_code ASC
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String INSERT_USER_SQL = "INSERT INTO compdes_user (id, created_at, updated_at, role, participant_id) VALUES (?, ?, ?, ?, ?)";
+    private static final String ASSIGN_QR_CODE_SQL = "UPDATE qr_code SET participant_id = ?, updated_at = ? WHERE id = ?";
+    private static final String LINK_PARTICIPANT_SQL = "UPDATE participant SET compdes_user_id = ?, qr_code_id = ?, updated_at = ? WHERE id = ?";
+    private static final String APPROVE_STATUS_SQL = "UPDATE registration_status SET is_approved = TRUE, updated_at = ? WHERE id = ?";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ParticipantService participantService;
+    private final RegistrationEventPublisher registrationEventPublisher;
+    private final QrParticipantIndexService qrParticipantIndexService;
+    private final int chunkSize;
+
+    public RegistrationBulkApprovalService(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            PlatformTransactionManager transactionManager, ParticipantService participantService,
+            RegistrationEventPublisher registrationEventPublisher, QrParticipantIndexService qrParticipantIndexService,
+            @Value("${registration.bulk-approval.chunk-size:200}") int chunkSize) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.participantService = participantService;
+        this.registrationEventPublisher = registrationEventPublisher;
+        this.qrParticipantIndexService = qrParticipantIndexService;
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    /**
+     * Aprueba en lote los registros de los participantes seleccionados.
+     *
+     * Los participantes se procesan en bloques de
+     * {@code registration.bulk-approval.chunk-size}. Si un bloque falla, se
+     * revierte solo ese bloque, los anteriores permanecen aprobados y el proceso
+     * se detiene informando el motivo.
+     *
+     * @param request IDs de los participantes o filtro para seleccionarlos
+     * @return resumen de participantes aprobados y omitidos
+     * @throws IllegalArgumentException si el filtro selecciona más de
+     *                                  {@link BulkApprovalRequestDTO#MAX_PARTICIPANTS}
+     *                                  participantes
+     */
+    public BulkApprovalResultDTO approveRegistrations(BulkApprovalRequestDTO request) {
+        long start = System.nanoTime();
+
+        // se eliminan repetidos conservando el orden recibido
+        List<String> participantIds = request.getFilter() != null
+                ? getParticipantIdsByFilter(request)
+                : new ArrayList<>(new LinkedHashSet<>(request.getParticipantIds()));
+
+        int approved = 0;
+        int processed = 0;
+        int chunks = 0;
+        String error = null;
+
+        for (int from = 0; from < participantIds.size(); from += chunkSize) {
+            List<String> chunk = participantIds.subList(from, Math.min(from + chunkSize, participantIds.size()));
+            try {
+                Integer approvedInChunk = transactionTemplate.execute(status -> approveChunk(chunk));
+                approved += approvedInChunk;
+                processed += chunk.size();
+                chunks++;
+            } catch (CustomRuntimeException e) {
+                error = e.getMessage();
+                log.error("Aprobación en lote detenida en el bloque {}: {}", chunks + 1, e.getMessage());
+                break;
+            } catch (DataAccessException e) {
+                error = "Error al guardar el bloque de aprobaciones: " + e.getMostSpecificCause().getMessage();
+                log.error("Aprobación en lote detenida en el bloque {}", chunks + 1, e);
+                break;
+            }
+        }
+
+        BulkApprovalResultDTO result = new BulkApprovalResultDTO(participantIds.size(), approved,
+                processed - approved, chunks, (System.nanoTime() - start) / 1_000_000, error);
+        log.info("Aprobación en lote: {} de {} participantes aprobados en {} bloques ({} ms)", approved,
+                participantIds.size(), chunks, result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * Obtiene los IDs que selecciona el filtro de la solicitud, aplicando el
+     * mismo límite que a la lista explícita de IDs.
+     *
+     * Se consulta un ID más que el límite para detectar si el filtro lo supera
+     * sin cargar todos los que cumplen.
+     *
+     * @param request solicitud con el filtro de participantes
+     * @return IDs de los participantes seleccionados
+     * @throws IllegalArgumentException si el filtro selecciona demasiados
+     *                                  participantes
+     */
+    private List<String> getParticipantIdsByFilter(BulkApprovalRequestDTO request) {
+        List<String> participantIds = participantService.getParticipantIdsByFilter(request.getFilter(),
+                BulkApprovalRequestDTO.MAX_PARTICIPANTS + 1);
+        if (participantIds.size() > BulkApprovalRequestDTO.MAX_PARTICIPANTS) {
+            throw new IllegalArgumentException(String.format(
+                    "El filtro selecciona más de %d participantes, refínelo o apruebe en varias solicitudes",
+                    BulkApprovalRequestDTO.MAX_PARTICIPANTS));
+        }
+        return participantIds;
+    }
+
+    /**
+     * Aprueba un bloque de participantes dentro de la transacción actual.
+     *
+     * @param participantIds IDs de los participantes del bloque
+     * @return cantidad de participantes aprobados
+     * @throws CustomRuntimeException si no hay suficientes códigos QR libres
+     */
+    private int approveChunk(List<String> participantIds) {
+        List<PendingApproval> pending = namedParameterJdbcTemplate.query(LOCK_PENDING_PARTICIPANTS_SQL,
+                Map.of("ids", participantIds),
+                (rs, rowNum) -> new PendingApproval(rs.getString("id"), rs.getString("registration_status_id"),
+                        rs.getString("email"), rs.getString("first_name") + " " + rs.getString("last_name")));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        JdbcOperations jdbc = namedParameterJdbcTemplate.getJdbcOperations();
+        List<String> qrCodeIds = jdbc.queryForList(LOCK_AVAILABLE_QR_CODES_SQL, String.class, pending.size());
+        if (qrCodeIds.size() < pending.size()) {
+            throw QrCodeErrorEnum.NO_AVAILABLE_QR_CODE.getQrCodeException();
+        }
+
+        Timestamp now = JdbcTimestamps.nowUtc();
+        List<Object[]> users = new ArrayList<>(pending.size());
+        List<Object[]> qrCodes = new ArrayList<>(pending.size());
+        List<Object[]> participants = new ArrayList<>(pending.size());
+        List<Object[]> statuses = new ArrayList<>(pending.size());
+        List<RegistrationApprovedEvent> approvals = new ArrayList<>(pending.size());
+
+        for (int i = 0; i < pending.size(); i++) {
+            PendingApproval approval = pending.get(i);
+            // el id se genera igual que en la entidad
+            String userId = EntityIds.newId();
+            String qrCodeId = qrCodeIds.get(i);
+
+            users.add(new Object[] { userId, now, now, RolesEnum.PARTICIPANT.name(), approval.getParticipantId() });
+            qrCodes.add(new Object[] { approval.getParticipantId(), now, qrCodeId });
+            participants.add(new Object[] { userId, qrCodeId, now, approval.getParticipantId() });
+            statuses.add(new Object[] { now, approval.getRegistrationStatusId() });
+            approvals.add(new RegistrationApprovedEvent(userId, approval.getEmail(), approval.getFullName()));
+            qrParticipantIndexService.participantApproved(qrCodeId, approval.getParticipantId(),
+                    approval.getFullName());
+        }
+
+        jdbc.batchUpdate(INSERT_USER_SQL, users);
+        jdbc.batchUpdate(ASSIGN_QR_CODE_SQL, qrCodes);
+        jdbc.batchUpdate(LINK_PARTICIPANT_SQL, participants);
+        jdbc.batchUpdate(APPROVE_STATUS_SQL, statuses);
+
+        // un solo evento por bloque, los correos se encolan en esta misma transaccion
+        registrationEventPublisher.publishRegistrationsApproved(new RegistrationsApprovedEvent(approvals));
+        return pending.size();
+    }
+
+    /**
+     * Datos mínimos de un participante pendiente de aprobación dentro de un
+     * bloque.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class PendingApproval {
+        private final String participantId;
+        private final String registrationStatusId;
+        private final String email;
+        private final String fullName;
+    }
+}
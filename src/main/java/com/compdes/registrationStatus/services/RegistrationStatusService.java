@@ -11,6 +11,7 @@ import com.compdes.common.exceptions.NotFoundException;
 import com.compdes.common.exceptions.enums.CustomRuntimeErrorEnum;
 import com.compdes.participants.models.entities.Participant;
 import com.compdes.participants.services.ParticipantService;
+import com.compdes.participants.services.QrParticipantIndexService;
 import com.compdes.registrationStatus.events.RegistrationApprovedEvent;
 import com.compdes.registrationStatus.events.publishers.RegistrationEventPublisher;
 import com.compdes.registrationStatus.models.entities.RegistrationStatus;
@@ -35,14 +36,17 @@ public class RegistrationStatusService {
     private final CompdesUserService compdesUserService;
     private final ParticipantService participantService;
     private final RegistrationEventPublisher registrationEventPublisher;
+    private final QrParticipantIndexService qrParticipantIndexService;
 
     public RegistrationStatusService(RegistrationStatusRepository registrationStatusRepository,
             @Lazy CompdesUserService compdesUserService, @Lazy ParticipantService participantService,
-            RegistrationEventPublisher registrationEventPublisher) {
+            RegistrationEventPublisher registrationEventPublisher,
+            QrParticipantIndexService qrParticipantIndexService) {
         this.registrationStatusRepository = registrationStatusRepository;
         this.compdesUserService = compdesUserService;
         this.participantService = participantService;
         this.registrationEventPublisher = registrationEventPublisher;
+        this.qrParticipantIndexService = qrParticipantIndexService;
     }
 
     /**
@@ -70,8 +74,9 @@ public class RegistrationStatusService {
             throw CustomRuntimeErrorEnum.NO_AUTHOR_REGISTRATION_STATUS_INCOMPLETE.getCustomRuntimeException();
         }
 
-        // verificar que no exista otro registro con el mismo participante
-        if (registrationStatusRepository.existsByParticipant(participant)) {
+        // verificar que no exista otro registro con el mismo participante, un
+        // participante aun no persistido no puede tenerlo
+        if (participant.getId() != null && registrationStatusRepository.existsByParticipant(participant)) {
             throw new DuplicateResourceException("El participante ya cuenta con un estado de registro asociado.");
         }
 
@@ -165,6 +170,10 @@ public class RegistrationStatusService {
         // guardamos los cambios del status del registro
         registrationStatusRepository.save(registrationStatus);
 
+        // el qr queda disponible para los escaneos al confirmar la transaccion
+        qrParticipantIndexService.participantApproved(participant.getQrCode().getId(), participant.getId(),
+                participant.getFullName());
+
         // lanzamos el evento de que se aprobo un participante
         registrationEventPublisher
                 .publishRegistrationApproved(new RegistrationApprovedEvent(compdesUser.getId(), participant.getEmail(),
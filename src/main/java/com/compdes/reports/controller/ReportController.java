@@ -12,7 +12,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.compdes.reports.csv.service.ApprovedParticipantsCSVReportService;
 import com.compdes.reports.csv.service.ParticipantsByInstitutionCSVReportService;
 import com.compdes.reports.csv.service.ParticipantsPerActivityCSVReportService;
 import com.compdes.reports.csv.service.PresentationsAndWorkshopsCSVReportService;
@@ -53,6 +55,25 @@ public class ReportController {
         private final PresentationsAndWorkshopsCSVReportService presentationsAndWorkshopsCSVReportService;
 
         private final ParticipantsPerActivityCSVReportService participantsPerActivityCSVReportService;
+        private final ApprovedParticipantsCSVReportService approvedParticipantsCSVReportService;
+
+        @Operation(summary = "Reporte CSV: Listado de participantes aprobados", description = "Genera un archivo CSV con los datos de todos los participantes aprobados. "
+                        + "El archivo se transmite por partes conforme se leen los registros, sin construirse completo en memoria. Requiere rol ADMIN.", security = @SecurityRequirement(name = "bearerAuth"), responses = {
+                                        @ApiResponse(responseCode = "200", description = "CSV generado correctamente"),
+                                        @ApiResponse(responseCode = "403", description = "Acceso denegado (se requiere rol `ADMIN`)"),
+                                        @ApiResponse(responseCode = "500", description = "Error interno inesperado")
+                        })
+        @GetMapping("/approved-participants-csv")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<StreamingResponseBody> getApprovedParticipantsCSVReport() {
+                StreamingResponseBody body = outputStream -> approvedParticipantsCSVReportService
+                                .exportApprovedParticipantsCSVReport(outputStream);
+                return ResponseEntity.ok()
+                                .header(HttpHeaders.CONTENT_DISPOSITION,
+                                                "attachment; filename=ApprovedParticipants.csv")
+                                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                                .body(body);
+        }
 
         @GetMapping("/participants-per-activity-csv")
         @PreAuthorize("hasRole('ADMIN')")
@@ -0,0 +1,78 @@
+package com.compdes.reports.csv.service;
+
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.compdes.common.exceptions.CustomRuntimeException;
+import com.compdes.participants.models.report.ApprovedParticipantReportRow;
+import com.compdes.participants.repositories.ParticipantRepository;
+import com.compdes.reports.csv.util.CsvExporter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Servicio encargado de generar el reporte en formato CSV con el listado de
+ * participantes aprobados.
+ * 
+ * A diferencia del resto de reportes CSV, este no se construye en memoria: las
+ * filas se leen de la base de datos como un stream de solo lectura y se
+ * escriben directamente en la respuesta, de modo que el consumo de memoria se
+ * mantiene constante sin importar la cantidad de participantes.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-08-02
+ */
+@Service
+@RequiredArgsConstructor
+public class ApprovedParticipantsCSVReportService {
+
+    private static final String[] HEADER = { "Nombres", "Apellidos", "Correo", "Telefono", "Institucion",
+            "Documento de identificacion", "Autor", "Invitado", "Numero QR" };
+
+    private final CsvExporter csvExporter;
+    private final ParticipantRepository participantRepository;
+
+    /**
+     * Escribe el reporte CSV de participantes aprobados en el stream indicado.
+     * 
+     * La transacción de solo lectura se mantiene abierta mientras se recorren las
+     * filas, por lo que este método debe invocarse desde el hilo que escribe la
+     * respuesta.
+     * 
+     * @param outputStream destino donde se escribe el CSV
+     * @throws CustomRuntimeException si ocurre un error durante la escritura del
+     *                                CSV
+     */
+    @Transactional(readOnly = true)
+    public void exportApprovedParticipantsCSVReport(OutputStream outputStream) {
+        try (Stream<ApprovedParticipantReportRow> rows = participantRepository
+                .streamApprovedParticipantsForReport()) {
+            Stream<String[]> lines = Stream.concat(Stream.<String[]>of(HEADER), rows.map(this::toLine));
+            csvExporter.writeAllLines(lines, outputStream);
+        }
+    }
+
+    /**
+     * Convierte una fila de la proyección en las columnas del CSV.
+     * 
+     * @param row participante aprobado
+     * @return arreglo de columnas de la fila
+     */
+    private String[] toLine(ApprovedParticipantReportRow row) {
+        return new String[] {
+                row.getFirstName(),
+                row.getLastName(),
+                row.getEmail(),
+                row.getPhone(),
+                row.getOrganisation(),
+                row.getIdentificationDocument(),
+                Boolean.TRUE.equals(row.getIsAuthor()) ? "Si" : "No",
+                Boolean.TRUE.equals(row.getIsGuest()) ? "Si" : "No",
+                row.getQrNumberCode() == null ? "" : row.getQrNumberCode().toString()
+        };
+    }
+}
@@ -2,13 +2,10 @@ package com.compdes.reports.csv.service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
-import com.compdes.participants.models.dto.request.ParticipantFilterDTO;
-import com.compdes.participants.models.entities.Participant;
+import com.compdes.participants.models.report.InstitutionParticipantCount;
 import com.compdes.participants.services.ParticipantService;
 import com.compdes.reports.csv.util.CsvExporter;
 
@@ -33,42 +30,18 @@ public class ParticipantsByInstitutionCSVReportService {
      * Genera y exporta en memoria el reporte CSV de distribución de participantes
      * por institución.
      * 
+     * La agrupación y el conteo se resuelven en la base de datos, por lo que no se
+     * cargan las entidades de los participantes.
+     * 
      * @return el contenido del archivo CSV como un arreglo de bytes, listo para ser
      *         enviado en la respuesta HTTP
      */
     public byte[] exportParticipantsByInstitutionCSVReport() {
-        List<Participant> approved = fetchApprovedParticipants();
-        Map<String, Long> counts = groupParticipantsByInstitution(approved);
+        List<InstitutionParticipantCount> counts = participantService.countApprovedParticipantsByInstitution();
         // exporta el resultado
         return csvReportFileExporter.writeAllLines(getReportLines(counts));
     }
 
-    /**
-     * Obtiene todos los participantes con estado aprobado.
-     * 
-     * @return lista de participantes aprobados
-     */
-    private List<Participant> fetchApprovedParticipants() {
-        return participantService.getAllParticipants(
-                new ParticipantFilterDTO(
-                        null, null, null, null, null, null, null, null, null, null, null,
-                        true,
-                        null));
-    }
-
-    /**
-     * Agrupa a los participantes por institución y cuenta la cantidad por grupo.
-     * 
-     * @param participants lista de participantes
-     * @return mapa institución - total
-     */
-    private Map<String, Long> groupParticipantsByInstitution(List<Participant> participants) {
-        // agrupa por organizacion
-        return participants.stream()
-                .collect(
-                        Collectors.groupingBy(t -> t.getOrganisation(), Collectors.counting()));
-    }
-
     /**
      * Construye las filas del reporte CSV de distribución de participantes por
      * institución.
@@ -76,19 +49,17 @@ public class ParticipantsByInstitutionCSVReportService {
      * Cada fila siguiente contiene el nombre de la institución y la cantidad total
      * de participantes asociados a ella.
      * 
-     * @param participantsByInstitution mapa donde la clave es el nombre de la
-     *                                  institución
-     *                                  y el valor es la cantidad de participantes
+     * @param participantsByInstitution conteos de participantes por institución
      * @return lista de arreglos de cadenas, donde cada arreglo representa una fila
      *         del CSV
      */
-    private List<String[]> getReportLines(Map<String, Long> participantsByInstitution) {
+    private List<String[]> getReportLines(List<InstitutionParticipantCount> participantsByInstitution) {
         List<String[]> csvRows = new ArrayList<>();
         // Header row
         csvRows.add(new String[] { "Institucion", "Total participantes" });
         // Data rows
-        for (Map.Entry<String, Long> entry : participantsByInstitution.entrySet()) {
-            csvRows.add(new String[] { entry.getKey(), String.valueOf(entry.getValue()) });
+        for (InstitutionParticipantCount count : participantsByInstitution) {
+            csvRows.add(new String[] { count.getInstitution(), String.valueOf(count.getTotalParticipants()) });
         }
         return csvRows;
     }
@@ -5,8 +5,6 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 
 import com.compdes.common.exceptions.CustomRuntimeException;
-import com.compdes.participants.models.dto.request.ParticipantFilterDTO;
-import com.compdes.participants.models.entities.Participant;
 import com.compdes.participants.services.ParticipantService;
 import com.compdes.reports.csv.util.CsvExporter;
 
@@ -36,24 +34,23 @@ public class TotalParticipantsCSVReportService {
      */
     public byte[] exportTotalParticipantsCSVReport() {
 
-        // busca solamente los participantes aprovados
-        List<Participant> approvedParticipants = participantService.getAllParticipants(
-                new ParticipantFilterDTO(null, null, null, null, null, null, null, null, null, null, null, true, null));
+        // cuenta solamente los participantes aprovados, directamente en la db
+        Long approvedParticipants = participantService.countApprovedParticipants();
 
         List<String[]> lines = getReportLines(approvedParticipants);
         return csvExporter.writeAllLines(lines);
     }
 
     /**
-     * Construye las líneas del reporte CSV a partir de la lista de participantes.
+     * Construye las líneas del reporte CSV a partir del total de participantes.
      * 
-     * @param participants lista de participantes aprobados
+     * @param totalParticipants cantidad de participantes aprobados
      * @return lista de arreglos de cadenas que representan las líneas del archivo
      *         CSV
      */
-    private List<String[]> getReportLines(List<Participant> participants) {
+    private List<String[]> getReportLines(Long totalParticipants) {
         String[] columnsTitles = { "Total Participantes" };
-        String[] total = { Integer.toString(participants.size()) };
+        String[] total = { Long.toString(totalParticipants) };
         return List.of(columnsTitles, total);
     }
 }
@@ -1,9 +1,14 @@
 package com.compdes.reports.csv.util;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Component;
 
@@ -54,4 +59,33 @@ public class CsvExporter {
         }
     }
 
+    /**
+     * Escribe las líneas de un {@link Stream} directamente en el
+     * {@link OutputStream} indicado, sin acumular el archivo en memoria.
+     * 
+     * Cada fila se serializa y se envía al destino conforme el stream la produce,
+     * por lo que el consumo de memoria no depende de la cantidad de filas. El
+     * {@code outputStream} no se cierra; esa responsabilidad es de quien lo
+     * provee (por ejemplo, el contenedor de servlets).
+     * 
+     * @param lines        stream de filas a escribir, cada una como arreglo de
+     *                     cadenas
+     * @param outputStream destino donde se escribe el CSV en UTF-8
+     * @throws CustomRuntimeException si ocurre un error de E/S durante la escritura
+     */
+    public void writeAllLines(Stream<String[]> lines, OutputStream outputStream) {
+        try {
+            // no se usa try-with-resources para no cerrar el stream del cliente
+            CSVWriter writer = new CSVWriter(
+                    new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+            Iterator<String[]> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                writer.writeNext(iterator.next());
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw CustomRuntimeErrorEnum.CSV_WRITE_FAILED.getCustomRuntimeException();
+        }
+    }
+
 }
@@ -39,7 +39,7 @@ public class ApprovedParticipantsByRoleEmailReportService {
         List<Participant> approvedParticipants = participantService.getAllParticipants(
                 new ParticipantFilterDTO(null, null, null, null, null,
                         null, isAuthor, null, null,
-                        null, null, true, null));
+                        null, null, true, null, null));
 
         String participantType = isAuthor ? "Autor" : "Participante";
 
@@ -39,7 +39,7 @@ public class ApprovedParticipantsEmailReportService {
     public byte[] generateReport() {
         // busca solamente los participantes aprovados
         List<Participant> approvedParticipants = participantService.getAllParticipants(
-                new ParticipantFilterDTO(null, null, null, null, null, null, null, null, null, null, null, true, null));
+                new ParticipantFilterDTO(null, null, null, null, null, null, null, null, null, null, null, true, null, null));
 
         // Escribe los correos en un archivo de texto (en memoria)
         return exporter.writeEmailsToTxt(approvedParticipants, "Parcticipante");
@@ -47,7 +47,7 @@ public class CunocAttendanceReportService {
                                                 "Universidad de San Carlos de Guatemala - Centro Universitario de Occidente (CUNOC - USAC)",
                                                 null,
                                                 null, null, null, null,
-                                                null, true, null));
+                                                null, true, null, null));
 
                 // Escribe los correos en un archivo de texto (en memoria)
                 return exporter.writeEmailsToTxt(approvedParticipants, "Asitente CUNOC");
@@ -6,7 +6,9 @@ import com.compdes.reservations.models.dto.request.ReservationDTO;
 import com.compdes.reservations.models.dto.response.CountParticipantsDTO;
 import com.compdes.reservations.models.dto.response.ReservationParticipantsDTO;
 import com.compdes.reservations.models.dto.response.ReservationResponseDTO;
+import com.compdes.reservations.models.dto.response.ReservationTicketDTO;
 import com.compdes.reservations.models.dto.response.ValidateAssistanceDTO;
+import com.compdes.reservations.services.ReservationAdmissionQueue;
 import com.compdes.reservations.services.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -36,6 +38,7 @@ import java.util.List;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationAdmissionQueue reservationAdmissionQueue;
 
     /**
      * Registra una nueva reservacion a un taller
@@ -55,6 +58,42 @@ public class ReservationController {
     }
 
 
+    /**
+     * Solicita una reservacion a un taller por medio de la cola de admision,
+     * devuelve un ticket que se consulta hasta conocer el resultado
+     */
+    @Operation(summary = "Solicitar reservacion a un taller mediante la cola de admision",
+            description = "Encola la solicitud y responde de inmediato con un ticket en estado `QUEUED`. "
+                    + "Si la cola no esta habilitada, la reservacion se registra en el momento y el ticket se devuelve resuelto.",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Solicitud recibida"),
+                    @ApiResponse(responseCode = "400", description = "Datos inválidos, la actividad no es un taller, ya inició o no tiene cupo"),
+                    @ApiResponse(responseCode = "404", description = "Taller no encontrado"),
+                    @ApiResponse(responseCode = "409", description = "Ya existe una solicitud pendiente para el mismo taller"),
+                    @ApiResponse(responseCode = "503", description = "La cola de admision esta llena, se debe reintentar mas tarde")
+            })
+    @PostMapping("/register/queued")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PreAuthorize("hasRole('PARTICIPANT')")
+    public ReservationTicketDTO registerQueuedReservation(@RequestBody @Valid ReservationDTO reservationDTO)
+            throws NotFoundException {
+        return reservationAdmissionQueue.submit(reservationDTO);
+    }
+
+    /**
+     * Consulta el resultado de una solicitud de reservacion encolada
+     */
+    @Operation(summary = "Consultar una solicitud de reservacion", responses = {
+            @ApiResponse(responseCode = "200", description = "Estado de la solicitud"),
+            @ApiResponse(responseCode = "404", description = "Solicitud no encontrada o expirada")
+    })
+    @GetMapping("/tickets/{ticketId}")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('PARTICIPANT')")
+    public ReservationTicketDTO getReservationTicket(@PathVariable String ticketId) throws NotFoundException {
+        return reservationAdmissionQueue.getTicket(ticketId);
+    }
+
     /**
      * Cancela una reservación al taller
      *
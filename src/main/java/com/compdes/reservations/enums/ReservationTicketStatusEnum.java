@@ -0,0 +1,27 @@
+package com.compdes.reservations.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Enum que define los estados posibles de una solicitud de reservación
+ * recibida por la cola de admisión.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@AllArgsConstructor
+@Getter
+public enum ReservationTicketStatusEnum {
+
+    QUEUED("En cola"),
+    ACCEPTED("Reservación confirmada"),
+    REJECTED("Reservación rechazada");
+
+    /**
+     * Nombre descriptivo del estado para mostrar en interfaces de usuario.
+     */
+    private final String statusLabel;
+
+}
@@ -0,0 +1,26 @@
+package com.compdes.reservations.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Evento que indica que cambió la cantidad de cupos reservados de un taller.
+ * 
+ * Se publica dentro de la transacción que crea o cancela las reservaciones;
+ * quienes lo escuchen deben hacerlo al confirmarse la transacción.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@AllArgsConstructor
+@Value
+public class ReservationSeatsChangedEvent {
+
+    String activityId;
+
+    /**
+     * Cupos ocupados (positivo) o liberados (negativo).
+     */
+    int delta;
+}
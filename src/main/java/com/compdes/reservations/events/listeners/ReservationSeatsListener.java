@@ -0,0 +1,37 @@
+package com.compdes.reservations.events.listeners;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.compdes.reservations.events.ReservationSeatsChangedEvent;
+import com.compdes.reservations.services.SeatAvailabilityPushService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Listener que entrega los cambios de cupos de los talleres al servicio que
+ * los publica por WebSocket.
+ * 
+ * Se ejecuta una vez confirmada la transacción que publicó el evento, por lo
+ * que nunca se anuncian reservaciones revertidas.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationSeatsListener {
+
+    private final SeatAvailabilityPushService seatAvailabilityPushService;
+
+    /**
+     * Acumula el cambio de cupos para el siguiente envío.
+     * 
+     * @param event evento con el taller y la variación de cupos
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationSeatsChanged(ReservationSeatsChangedEvent event) {
+        seatAvailabilityPushService.recordChange(event.getActivityId(), event.getDelta());
+    }
+}
@@ -0,0 +1,37 @@
+package com.compdes.reservations.events.publishers;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.compdes.reservations.events.ReservationSeatsChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Componente encargado de publicar eventos relacionados con las reservaciones
+ * a talleres.
+ * 
+ * Utiliza el mecanismo de eventos de Spring a través de
+ * {@link ApplicationEventPublisher}.
+ * 
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationEventPublisher {
+
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Publica un evento que indica que cambiaron los cupos reservados de un
+     * taller.
+     * 
+     * @param activityId ID del taller
+     * @param delta      cupos ocupados (positivo) o liberados (negativo)
+     */
+    public void publishSeatsChanged(String activityId, int delta) {
+        publisher.publishEvent(new ReservationSeatsChangedEvent(activityId, delta));
+    }
+}
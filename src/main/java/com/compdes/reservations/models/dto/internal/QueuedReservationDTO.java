@@ -0,0 +1,26 @@
+package com.compdes.reservations.models.dto.internal;
+
+import com.compdes.participants.models.entities.Participant;
+
+import lombok.Value;
+
+/**
+ * DTO interno con una solicitud de reservación en espera dentro de la cola de
+ * admisión de un taller.
+ *
+ * Este objeto se utiliza exclusivamente entre capas del sistema y no está
+ * diseñado para ser expuesto directamente en la API pública.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class QueuedReservationDTO {
+
+    /**
+     * Referencia de la solicitud, devuelta sin cambios en su resultado.
+     */
+    String reference;
+    Participant participant;
+}
@@ -0,0 +1,25 @@
+package com.compdes.reservations.models.dto.internal;
+
+import lombok.Value;
+
+/**
+ * DTO interno con el resultado de una solicitud de reservación procesada en
+ * lote.
+ *
+ * Si {@code accepted} es {@code false}, {@code error} contiene el motivo del
+ * rechazo.
+ *
+ * Este objeto se utiliza exclusivamente entre capas del sistema y no está
+ * diseñado para ser expuesto directamente en la API pública.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class QueuedReservationResultDTO {
+
+    String reference;
+    boolean accepted;
+    String error;
+}
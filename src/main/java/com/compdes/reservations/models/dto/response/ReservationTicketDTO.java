@@ -0,0 +1,24 @@
+package com.compdes.reservations.models.dto.response;
+
+import com.compdes.reservations.enums.ReservationTicketStatusEnum;
+
+import lombok.Value;
+
+/**
+ * DTO de respuesta con el estado de una solicitud de reservación encolada.
+ *
+ * Mientras el estado sea {@code QUEUED} el cliente debe volver a consultar el
+ * ticket; {@code error} solo se informa cuando la solicitud fue rechazada.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class ReservationTicketDTO {
+
+    String ticketId;
+    String activityId;
+    ReservationTicketStatusEnum status;
+    String error;
+}
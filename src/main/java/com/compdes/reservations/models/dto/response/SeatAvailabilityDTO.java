@@ -0,0 +1,25 @@
+package com.compdes.reservations.models.dto.response;
+
+import lombok.Value;
+
+/**
+ * DTO de respuesta con la disponibilidad de cupos de un taller, enviado por
+ * WebSocket cada vez que cambian sus reservaciones.
+ *
+ * {@code delta} es la variación acumulada desde el envío anterior; los demás
+ * campos son los valores vigentes, por lo que un cliente que pierda un mensaje
+ * se corrige con el siguiente.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Value
+public class SeatAvailabilityDTO {
+
+    String activityId;
+    int delta;
+    int reservedCount;
+    int capacity;
+    int availableSeats;
+}
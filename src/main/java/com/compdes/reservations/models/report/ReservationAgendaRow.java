@@ -0,0 +1,12 @@
+package com.compdes.reservations.models.report;
+
+/**
+ * Proyección que relaciona a un participante con un taller reservado, usada
+ * para cargar la agenda de cada participante en el índice de horarios.
+ */
+public interface ReservationAgendaRow {
+
+    String getParticipantId();
+
+    String getActivityId();
+}
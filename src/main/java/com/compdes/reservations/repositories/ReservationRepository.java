@@ -1,10 +1,13 @@
 package com.compdes.reservations.repositories;
 
 import com.compdes.reservations.models.entities.Reservation;
+import com.compdes.reservations.models.report.ReservationAgendaRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -20,6 +23,8 @@ public interface ReservationRepository extends JpaRepository<Reservation, String
 
     Optional<Reservation> findByParticipantIdAndActivityId(String participantId, String activityId);
 
+    boolean existsByParticipantIdAndActivityId(String participantId, String activityId);
+
     List<Reservation> findByParticipantId(String participantId);
 
     List<Reservation> findByActivityId(String activityId);
@@ -38,4 +43,33 @@ public interface ReservationRepository extends JpaRepository<Reservation, String
             @Param("end") LocalDateTime end
     );
 
+    @Query("SELECT r.participant.id AS participantId, r.activity.id AS activityId FROM Reservation r")
+    List<ReservationAgendaRow> findAllAgendaEntries();
+
+    /**
+     * Registra la asistencia a la reservación de un participante con una sola
+     * sentencia, solo si aún no se había registrado.
+     *
+     * @param participantId    ID del participante
+     * @param activityId       ID del taller
+     * @param attendedDateTime hora de la asistencia
+     * @param updatedAt        instante de la modificación
+     * @return cantidad de reservaciones actualizadas (0 si no existe o ya tenía
+     *         asistencia)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+    UPDATE Reservation r
+    SET r.attendedDateTime = :attendedDateTime, r.updatedAt = :updatedAt
+    WHERE r.participant.id = :participantId
+      AND r.activity.id = :activityId
+      AND r.attendedDateTime IS NULL
+    """)
+    int markAttended(
+            @Param("participantId") String participantId,
+            @Param("activityId") String activityId,
+            @Param("attendedDateTime") LocalDateTime attendedDateTime,
+            @Param("updatedAt") Instant updatedAt
+    );
+
 }
@@ -0,0 +1,345 @@
+package com.compdes.reservations.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.compdes.auth.users.models.entities.CompdesUser;
+import com.compdes.auth.users.services.CompdesUserService;
+import com.compdes.common.exceptions.DuplicateResourceException;
+import com.compdes.common.exceptions.NotFoundException;
+import com.compdes.common.exceptions.ServiceUnavailableException;
+import com.compdes.participants.models.entities.Participant;
+import com.compdes.reservations.enums.ReservationTicketStatusEnum;
+import com.compdes.reservations.models.dto.internal.QueuedReservationDTO;
+import com.compdes.reservations.models.dto.internal.QueuedReservationResultDTO;
+import com.compdes.reservations.models.dto.request.ReservationDTO;
+import com.compdes.reservations.models.dto.response.ReservationTicketDTO;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cola de admisión para las reservaciones de talleres.
+ *
+ * Cuando abre un taller concurrido, todas las solicitudes compiten por la misma
+ * fila de la actividad. Con {@code reservation.admission-queue.enabled=true}
+ * cada solicitud se encola por taller y se responde de inmediato con un ticket.
+ * Un único escritor por taller procesa su cola en orden de llegada, en lotes de
+ * hasta {@code reservation.admission-queue.batch-size} solicitudes por
+ * transacción, de forma que el bloqueo de la actividad se toma una vez por
+ * lote y no una vez por solicitud. Talleres distintos se procesan en paralelo
+ * hasta {@code reservation.admission-queue.workers} a la vez.
+ *
+ * Antes de encolar se valida que el taller exista y admita reservaciones, y se
+ * rechaza una segunda solicitud pendiente del mismo participante para el mismo
+ * taller. La cantidad de solicitudes pendientes entre todos los talleres se
+ * limita a {@code reservation.admission-queue.max-pending}; al llegar al
+ * límite las nuevas solicitudes se rechazan para que se reintenten más tarde.
+ * La cola de un taller se descarta al vaciarse.
+ *
+ * Si la cola está deshabilitada, la reservación se registra en el momento y el
+ * ticket se devuelve ya resuelto.
+ *
+ * Los tickets se guardan en memoria de esta instancia y se descartan
+ * {@code reservation.admission-queue.ticket-ttl-seconds} después de
+ * resolverse.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Component
+@Slf4j
+public class ReservationAdmissionQueue {
+
+    private final ReservationService reservationService;
+    private final CompdesUserService compdesUserService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxPending;
+    private final Duration ticketTtl;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Map<String, ActivityQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    /**
+     * Pares usuario-taller con una solicitud aún sin resolver.
+     */
+    private final Set<String> pendingRequests = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Solicitudes encoladas que aún no toma ningún escritor, entre todos los
+     * talleres.
+     */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    public ReservationAdmissionQueue(ReservationService reservationService, CompdesUserService compdesUserService,
+            @Value("${reservation.admission-queue.enabled:false}") boolean enabled,
+            @Value("${reservation.admission-queue.workers:4}") int workers,
+            @Value("${reservation.admission-queue.batch-size:100}") int batchSize,
+            @Value("${reservation.admission-queue.max-pending:5000}") int maxPending,
+            @Value("${reservation.admission-queue.ticket-ttl-seconds:600}") long ticketTtlSeconds) {
+        this.reservationService = reservationService;
+        this.compdesUserService = compdesUserService;
+        this.enabled = enabled;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxPending = Math.max(maxPending, 1);
+        this.ticketTtl = Duration.ofSeconds(ticketTtlSeconds);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("reservation-queue-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    /**
+     * Recibe una solicitud de reservación del participante autenticado.
+     *
+     * @param reservationDTO taller a reservar
+     * @return el ticket de la solicitud; en cola si la cola está habilitada, o
+     *         ya aceptado si no lo está
+     * @throws NotFoundException           si el usuario o el taller no existen
+     * @throws IllegalArgumentException    si la actividad no es un taller, ya
+     *                                     inició o no tiene cupo
+     * @throws DuplicateResourceException  si el participante ya tiene una
+     *                                     solicitud pendiente para el taller
+     * @throws ServiceUnavailableException si la cola está llena
+     */
+    public ReservationTicketDTO submit(ReservationDTO reservationDTO) throws NotFoundException {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        if (!enabled) {
+            // sin cola los errores se propagan como en el registro directo
+            reservationService.createReservation(reservationDTO);
+            Ticket ticket = new Ticket(reservationDTO.getActivityId(), username, null);
+            ticket.resolve(true, null);
+            tickets.put(ticket.ticketId, ticket);
+            return ticket.toDTO();
+        }
+
+        // los talleres invalidos se rechazan sin ocupar lugar en la cola
+        reservationService.validateWorkshopToQueue(reservationDTO.getActivityId());
+        CompdesUser user = compdesUserService.getUserByUsername(username);
+
+        Ticket ticket = new Ticket(reservationDTO.getActivityId(), username, user.getParticipant());
+        if (!pendingRequests.add(ticket.pendingKey())) {
+            throw new DuplicateResourceException("Ya tienes una solicitud de reservacion pendiente para este taller");
+        }
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            pendingRequests.remove(ticket.pendingKey());
+            throw new ServiceUnavailableException(
+                    "Hay demasiadas solicitudes de reservacion en espera, intenta de nuevo en unos momentos");
+        }
+        tickets.put(ticket.ticketId, ticket);
+
+        // se encola dentro de compute para no competir con el descarte de colas vacias
+        ActivityQueue queue = queues.compute(reservationDTO.getActivityId(), (activityId, current) -> {
+            ActivityQueue target = current != null ? current : new ActivityQueue(activityId);
+            target.pending.add(ticket);
+            return target;
+        });
+        schedule(queue);
+        return ticket.toDTO();
+    }
+
+    /**
+     * Obtiene el estado de un ticket del participante autenticado.
+     *
+     * @param ticketId ID del ticket
+     * @return el estado actual del ticket
+     * @throws NotFoundException si el ticket no existe, ya expiró o pertenece a
+     *                           otro usuario
+     */
+    public ReservationTicketDTO getTicket(String ticketId) throws NotFoundException {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null || !ticket.username.equals(username)) {
+            throw new NotFoundException("Solicitud de reservacion no encontrada");
+        }
+        return ticket.toDTO();
+    }
+
+    /**
+     * Descarta los tickets resueltos hace más de
+     * {@code reservation.admission-queue.ticket-ttl-seconds}.
+     */
+    @Scheduled(fixedDelayString = "${reservation.admission-queue.purge-interval-ms:60000}")
+    public void purgeResolvedTickets() {
+        Instant limit = Instant.now().minus(ticketTtl);
+        tickets.values().removeIf(ticket -> ticket.resolvedAt != null && ticket.resolvedAt.isBefore(limit));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Entrega la cola al pool si ningún escritor la está procesando.
+     *
+     * @param queue cola del taller
+     */
+    private void schedule(ActivityQueue queue) {
+        if (queue.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(queue));
+        }
+    }
+
+    /**
+     * Procesa la cola de un taller por lotes hasta vaciarla.
+     *
+     * @param queue cola del taller
+     */
+    private void drain(ActivityQueue queue) {
+        try {
+            List<Ticket> batch = poll(queue);
+            while (!batch.isEmpty()) {
+                process(queue.activityId, batch);
+                batch = poll(queue);
+            }
+        } finally {
+            queue.draining.set(false);
+        }
+        // la cola vacia se descarta; las solicitudes se encolan con compute, por lo
+        // que ninguna puede agregarse a la cola despues de descartarla
+        queues.computeIfPresent(queue.activityId,
+                (activityId, current) -> current == queue && queue.pending.isEmpty() ? null : current);
+        // una solicitud pudo encolarse entre el ultimo poll y la liberacion
+        if (!queue.pending.isEmpty()) {
+            schedule(queue);
+        }
+    }
+
+    /**
+     * Toma el siguiente lote de la cola y libera sus lugares en el límite de
+     * solicitudes pendientes.
+     *
+     * @param queue cola del taller
+     * @return tickets del lote en orden de llegada
+     */
+    private List<Ticket> poll(ActivityQueue queue) {
+        List<Ticket> batch = queue.poll(batchSize);
+        pendingCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    /**
+     * Registra un lote de solicitudes y resuelve sus tickets.
+     *
+     * @param activityId ID del taller
+     * @param batch      tickets del lote en orden de llegada
+     */
+    private void process(String activityId, List<Ticket> batch) {
+        List<QueuedReservationDTO> requests = new ArrayList<>(batch.size());
+        for (Ticket ticket : batch) {
+            requests.add(new QueuedReservationDTO(ticket.ticketId, ticket.participant));
+        }
+
+        try {
+            List<QueuedReservationResultDTO> results = reservationService.createQueuedReservations(activityId,
+                    requests);
+            for (QueuedReservationResultDTO result : results) {
+                Ticket ticket = tickets.get(result.getReference());
+                if (ticket != null) {
+                    ticket.resolve(result.isAccepted(), result.getError());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("No se pudo procesar un lote de {} reservaciones del taller {}", batch.size(), activityId, e);
+            for (Ticket ticket : batch) {
+                ticket.resolve(false, "No se pudo registrar la reservacion, intenta de nuevo");
+            }
+        } finally {
+            // el participante puede volver a solicitar el taller una vez resuelta la solicitud
+            for (Ticket ticket : batch) {
+                pendingRequests.remove(ticket.pendingKey());
+            }
+        }
+    }
+
+    /**
+     * Cola de solicitudes pendientes de un taller.
+     */
+    private static class ActivityQueue {
+
+        private final String activityId;
+        private final Queue<Ticket> pending = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Indica si hay un escritor procesando esta cola.
+         */
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private ActivityQueue(String activityId) {
+            this.activityId = activityId;
+        }
+
+        private List<Ticket> poll(int max) {
+            List<Ticket> batch = new ArrayList<>(Math.min(max, 64));
+            Ticket ticket;
+            while (batch.size() < max && (ticket = pending.poll()) != null) {
+                batch.add(ticket);
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * Solicitud de reservación y su resultado.
+     */
+    private static class Ticket {
+
+        private final String ticketId = UUID.randomUUID().toString();
+        private final String activityId;
+        private final String username;
+        private final Participant participant;
+
+        private volatile ReservationTicketStatusEnum status = ReservationTicketStatusEnum.QUEUED;
+        private volatile String error;
+        private volatile Instant resolvedAt;
+
+        private Ticket(String activityId, String username, Participant participant) {
+            this.activityId = activityId;
+            this.username = username;
+            this.participant = participant;
+        }
+
+        /**
+         * Clave del par usuario-taller de la solicitud.
+         */
+        private String pendingKey() {
+            return username + ":" + activityId;
+        }
+
+        private void resolve(boolean accepted, String error) {
+            this.error = error;
+            this.status = accepted ? ReservationTicketStatusEnum.ACCEPTED : ReservationTicketStatusEnum.REJECTED;
+            this.resolvedAt = Instant.now();
+        }
+
+        private ReservationTicketDTO toDTO() {
+            return new ReservationTicketDTO(ticketId, activityId, status, error);
+        }
+    }
+}
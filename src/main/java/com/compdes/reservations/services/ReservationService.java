@@ -3,14 +3,19 @@ package com.compdes.reservations.services;
 import com.compdes.activity.enums.ActivityType;
 import com.compdes.activity.models.entities.Activity;
 import com.compdes.activity.repositories.ActivityRepository;
+import com.compdes.activity.services.ScheduleIndexService;
 import com.compdes.auth.users.models.entities.CompdesUser;
 import com.compdes.auth.users.services.CompdesUserService;
 import com.compdes.common.exceptions.DuplicateResourceException;
 import com.compdes.common.exceptions.NotFoundException;
 import com.compdes.common.exceptions.enums.ReservationErrorsEnum;
+import com.compdes.participants.models.dto.internal.ScannedParticipantDTO;
 import com.compdes.participants.models.entities.Participant;
 import com.compdes.participants.services.ParticipantService;
+import com.compdes.reservations.events.publishers.ReservationEventPublisher;
 import com.compdes.reservations.mappers.ReservationMapper;
+import com.compdes.reservations.models.dto.internal.QueuedReservationDTO;
+import com.compdes.reservations.models.dto.internal.QueuedReservationResultDTO;
 import com.compdes.reservations.models.dto.request.AssistanceToReservationDTO;
 import com.compdes.reservations.models.dto.request.ReservationDTO;
 import com.compdes.reservations.models.dto.response.ReservationParticipantsDTO;
@@ -21,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -50,6 +56,8 @@ public class ReservationService {
 
     private final ParticipantService participantService;
     private final CompdesUserService compdesUserService;
+    private final ScheduleIndexService scheduleIndexService;
+    private final ReservationEventPublisher reservationEventPublisher;
 
     /**
      * Registra una reservacion para un taller
@@ -63,19 +71,116 @@ public class ReservationService {
         CompdesUser user = compdesUserService.getUserByUsername(SecurityContextHolder.getContext().getAuthentication().getName());
 
         validateOverlappingReservation(activity, user.getParticipant());
+        reserveSeat(activity);
         Reservation reservation = new Reservation(user.getParticipant(), activity);
-        return reservationRepository.save(reservation);
+        Reservation savedReservation = reservationRepository.save(reservation);
+        scheduleIndexService.reservationsCreated(activity.getId(), List.of(user.getParticipant().getId()));
+        reservationEventPublisher.publishSeatsChanged(activity.getId(), 1);
+        return savedReservation;
+    }
+
+    /**
+     * Ocupa un cupo del taller con una actualizacion condicional del contador,
+     * si la reservacion falla despues, el rollback libera el cupo
+     */
+    private void reserveSeat(Activity activity) {
+        if (activityRepository.incrementReservedCountIfAvailable(activity.getId()) == 0) {
+            throw ReservationErrorsEnum.NO_SPACE_EXCEPTION.getException();
+        }
+    }
+
+    /**
+     * Registra en lote las reservaciones encoladas para un mismo taller.
+     *
+     * Bloquea una sola vez la fila del taller, admite las solicitudes en el
+     * orden recibido mientras queden cupos y guarda todas las reservaciones
+     * aceptadas junto con un unico incremento del contador. Las solicitudes que
+     * no pasan las validaciones se rechazan sin afectar al resto del lote.
+     *
+     * @param activityId ID del taller
+     * @param requests   solicitudes en orden de llegada
+     * @return el resultado de cada solicitud, en el mismo orden
+     */
+    public List<QueuedReservationResultDTO> createQueuedReservations(String activityId,
+            List<QueuedReservationDTO> requests) {
+        Activity activity = activityRepository.findById(activityId).orElse(null);
+        String activityError = activity == null ? "Taller no encontrado" : null;
+        if (activity != null) {
+            try {
+                validateActivityToReserve(activity);
+            } catch (IllegalArgumentException e) {
+                activityError = e.getMessage();
+            }
+        }
+        if (activityError != null) {
+            String error = activityError;
+            return requests.stream()
+                    .map(request -> new QueuedReservationResultDTO(request.getReference(), false, error))
+                    .toList();
+        }
+
+        Integer lockedSeats = activityRepository.lockAvailableSeats(activityId);
+        int availableSeats = lockedSeats == null ? 0 : Math.max(lockedSeats, 0);
+
+        Set<String> participantsInBatch = new HashSet<>();
+        List<Reservation> reservations = new ArrayList<>();
+        List<QueuedReservationResultDTO> results = new ArrayList<>(requests.size());
+        for (QueuedReservationDTO request : requests) {
+            Participant participant = request.getParticipant();
+            String error = null;
+            // una segunda solicitud del mismo participante en el lote se trata
+            // igual que una reservacion ya existente
+            if (!participantsInBatch.add(participant.getId()) || hasOverlappingReservation(activity, participant)) {
+                error = ReservationErrorsEnum.INVALID_SCHEDULE_EXCEPTION.getException().getMessage();
+            } else if (availableSeats == 0) {
+                error = ReservationErrorsEnum.NO_SPACE_EXCEPTION.getException().getMessage();
+            } else {
+                reservations.add(new Reservation(participant, activity));
+                availableSeats--;
+            }
+            results.add(new QueuedReservationResultDTO(request.getReference(), error == null, error));
+        }
+
+        if (!reservations.isEmpty()) {
+            reservationRepository.saveAll(reservations);
+            activityRepository.addReservedCount(activityId, reservations.size());
+            scheduleIndexService.reservationsCreated(activityId,
+                    reservations.stream().map(reservation -> reservation.getParticipant().getId()).toList());
+            reservationEventPublisher.publishSeatsChanged(activityId, reservations.size());
+        }
+        return results;
     }
 
     private void validateOverlappingReservation(Activity activity, Participant participant)
     {
-        if(reservationRepository.countOverlappingReservations(
-                participant.getId(), activity.getInitScheduledDate(), activity.getEndScheduledDate()) > 0
-        ){
+        if(hasOverlappingReservation(activity, participant)){
             throw ReservationErrorsEnum.INVALID_SCHEDULE_EXCEPTION.getException();
         }
     }
 
+    /**
+     * Valida que el taller exista y admita reservaciones antes de encolar una
+     * solicitud, el cupo definitivo se asegura al procesar la cola
+     */
+    public void validateWorkshopToQueue(String activityId) throws NotFoundException {
+        Activity activity = activityRepository.findById(activityId)
+                .orElseThrow(() -> new NotFoundException("Taller no encontrado"));
+        validateActivityToReserve(activity);
+    }
+
+    /**
+     * Verifica si el participante ya tiene un taller en el horario de la
+     * actividad, usando el indice de horarios cuando esta cargado
+     */
+    private boolean hasOverlappingReservation(Activity activity, Participant participant) {
+        if (scheduleIndexService.isReady()) {
+            return scheduleIndexService.hasParticipantOverlap(participant.getId(),
+                    activity.getInitScheduledDate(), activity.getEndScheduledDate());
+        }
+        return reservationRepository.countOverlappingReservations(
+                participant.getId(), activity.getInitScheduledDate(), activity.getEndScheduledDate()) > 0;
+    }
+
     private void validateActivityToReserve(Activity activity) throws IllegalArgumentException {
         if(activity.getType() != ActivityType.WORKSHOP){
             throw ReservationErrorsEnum.NO_WORKSHOP_EXCEPTION.getException();
@@ -83,7 +188,8 @@ public class ReservationService {
         if(LocalDateTime.now().isAfter(activity.getInitScheduledDate())){
             throw new IllegalArgumentException("El taller ya se impartió o se está impartiendo, ya no se puede reservar");
         }
-        if(reservationRepository.countByActivityId(activity.getId()) >= activity.getClassroom().getCapacity()){
+        // comprobacion rapida sin bloqueo, el cupo se asegura en reserveSeat
+        if(activity.getReservedCount() >= activity.getClassroom().getCapacity()){
             throw ReservationErrorsEnum.NO_SPACE_EXCEPTION.getException();
         }
     }
@@ -93,16 +199,13 @@ public class ReservationService {
      *  Registra una asistencia a un taller
      *  a partir de un qr
      * */
-    public Reservation registerAssistanceToReservation(AssistanceToReservationDTO assistanceToReservationDTO)
+    public void registerAssistanceToReservation(AssistanceToReservationDTO assistanceToReservationDTO)
             throws NotFoundException {
-        Participant participant  = participantService.getParticipantByQrCodeId(assistanceToReservationDTO.getQrId());
-        Activity activity = activityRepository.findById(assistanceToReservationDTO.getActivityId())
-                .orElseThrow(() -> new NotFoundException("Taller no encontrado"));
-        Reservation reservation =  reservationRepository.findByParticipantIdAndActivityId(participant.getId(), activity.getId())
-                .orElseThrow(() -> new NotFoundException("Reservacion para el taller no encontrada"));
-
-        if(reservation.getAttendedDateTime() != null){
-            throw new DuplicateResourceException("Ya se registro la asistencia del participante");
+        // el qr se resuelve en memoria y la reservacion se actualiza sin cargarla
+        ScannedParticipantDTO participant = participantService.getScannedParticipantByQrCodeId(assistanceToReservationDTO.getQrId());
+        String activityId = assistanceToReservationDTO.getActivityId();
+        if(!activityRepository.existsById(activityId)){
+            throw new NotFoundException("Taller no encontrado");
         }
         //verificar que las marcas de tiempo para registrar asistencia este bien
         /*LocalDateTime now = LocalDateTime.now();
@@ -113,8 +216,14 @@ public class ReservationService {
             throw ReservationErrorsEnum.CANNOT_ASSIG.getException();
         }*/
 
-        reservation.setAttendedDateTime(LocalDateTime.now());
-        return reservationRepository.save(reservation);
+        int updated = reservationRepository.markAttended(participant.getParticipantId(), activityId,
+                LocalDateTime.now(), Instant.now());
+        if(updated == 0){
+            if(!reservationRepository.existsByParticipantIdAndActivityId(participant.getParticipantId(), activityId)){
+                throw new NotFoundException("Reservacion para el taller no encontrada");
+            }
+            throw new DuplicateResourceException("Ya se registro la asistencia del participante");
+        }
     }
 
     /**
@@ -133,6 +242,9 @@ public class ReservationService {
             throw ReservationErrorsEnum.CANNOT_CANCEL.getException();
         }*/
         reservationRepository.delete(reservation);
+        activityRepository.decrementReservedCount(activity.getId());
+        scheduleIndexService.reservationCancelled(activity.getId(), user.getParticipant().getId());
+        reservationEventPublisher.publishSeatsChanged(activity.getId(), -1);
     }
 
     /**
@@ -163,7 +275,7 @@ public class ReservationService {
         if(activity.getType() != ActivityType.WORKSHOP){
             throw ReservationErrorsEnum.NO_WORKSHOP_EXCEPTION.getException();
         }
-        return reservationRepository.countByActivityId(workshopId);
+        return activity.getReservedCount();
     }
 
     /**
@@ -0,0 +1,115 @@
+package com.compdes.reservations.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.compdes.activity.models.report.ActivitySeatsRow;
+import com.compdes.activity.repositories.ActivityRepository;
+import com.compdes.reservations.models.dto.response.SeatAvailabilityDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Servicio que publica por WebSocket (STOMP) la disponibilidad de cupos de los
+ * talleres.
+ *
+ * Los cambios confirmados se acumulan por taller y se envían juntos cada
+ * {@code reservation.seats-push.interval-ms}: sin importar cuántas
+ * reservaciones reciba un taller en ese intervalo, sus suscriptores reciben un
+ * solo mensaje con la variación total y los valores vigentes, leídos con una
+ * sola consulta para todos los talleres modificados.
+ *
+ * Destinos:
+ * <ul>
+ * <li>{@code /topic/activities/{activityId}/seats}: un
+ * {@link SeatAvailabilityDTO} por taller modificado.</li>
+ * <li>{@code /topic/activities/seats}: la lista de todos los talleres
+ * modificados en el intervalo.</li>
+ * </ul>
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatAvailabilityPushService {
+
+    public static final String ALL_SEATS_DESTINATION = "/topic/activities/seats";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ActivityRepository activityRepository;
+
+    /**
+     * Variación de cupos pendiente de enviar, por ID de taller.
+     */
+    private final Map<String, Integer> pendingDeltas = new ConcurrentHashMap<>();
+
+    /**
+     * Acumula un cambio de cupos ya confirmado.
+     *
+     * @param activityId ID del taller
+     * @param delta      cupos ocupados (positivo) o liberados (negativo)
+     */
+    public void recordChange(String activityId, int delta) {
+        pendingDeltas.merge(activityId, delta, Integer::sum);
+    }
+
+    /**
+     * Envía los cambios acumulados desde el envío anterior.
+     */
+    @Scheduled(fixedDelayString = "${reservation.seats-push.interval-ms:500}")
+    public void flush() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+
+        // se retira cada entrada de forma atomica para no perder cambios que
+        // lleguen mientras se envia
+        Map<String, Integer> deltas = new HashMap<>();
+        for (String activityId : List.copyOf(pendingDeltas.keySet())) {
+            Integer delta = pendingDeltas.remove(activityId);
+            if (delta != null) {
+                deltas.put(activityId, delta);
+            }
+        }
+
+        try {
+            List<SeatAvailabilityDTO> updates = new ArrayList<>(deltas.size());
+            for (ActivitySeatsRow row : activityRepository.findSeatsByIdIn(deltas.keySet())) {
+                int reservedCount = row.getReservedCount();
+                int capacity = row.getCapacity();
+                SeatAvailabilityDTO update = new SeatAvailabilityDTO(row.getId(), deltas.get(row.getId()),
+                        reservedCount, capacity, Math.max(capacity - reservedCount, 0));
+                updates.add(update);
+                messagingTemplate.convertAndSend(seatsDestination(row.getId()), update);
+            }
+            if (!updates.isEmpty()) {
+                messagingTemplate.convertAndSend(ALL_SEATS_DESTINATION, updates);
+            }
+        } catch (RuntimeException e) {
+            // los cambios se devuelven para enviarse en el siguiente intervalo
+            deltas.forEach(this::recordChange);
+            log.error("No se pudo publicar la disponibilidad de {} talleres", deltas.size(), e);
+        }
+    }
+
+    /**
+     * Obtiene el destino STOMP de la disponibilidad de un taller.
+     *
+     * @param activityId ID del taller
+     * @return el destino al que deben suscribirse los clientes
+     */
+    public static String seatsDestination(String activityId) {
+        return "/topic/activities/" + activityId + "/seats";
+    }
+}
@@ -0,0 +1,127 @@
+-- migracion opcional: guarda los identificadores y todas las llaves foraneas
+-- en 16 bytes en lugar de varchar(36) de hasta 144 bytes (utf8mb4)
+--
+-- solo se aplica si se agrega esta ubicacion a flyway:
+--   spring.flyway.locations=classpath:db/migration,classpath:db/binary-ids
+-- y se recomienda junto con jpa.ids.time-ordered=true, para que los UUID
+-- version 7 se inserten al final de cada indice primario
+--
+-- usa el tipo UUID de MariaDB (10.11.2 o superior): ocupa 16 bytes como un
+-- BINARY(16), pero se compara y se devuelve en su forma de texto, por lo que
+-- la API, las consultas JPQL y nativas y los lotes JDBC no cambian. Desde
+-- 10.11.2 solo los UUID version 1 se reordenan al guardarse; los version 7 se
+-- conservan tal cual y siguen ordenados por tiempo
+--
+-- la conversion falla si algun identificador no es un UUID valido; antes de
+-- aplicarla debe revisarse, por ejemplo:
+--   SELECT id FROM participant WHERE id NOT REGEXP '^[0-9a-fA-F-]{36}$';
+--
+-- debe aplicarse antes de cualquier migracion posterior a V11 y, una vez
+-- aplicada, la ubicacion no puede quitarse de flyway; las migraciones nuevas
+-- que agreguen columnas de identificadores deben declararlas como UUID en una
+-- migracion de esta ubicacion
+
+-- las llaves foraneas se eliminan primero porque sus columnas deben tener el
+-- mismo tipo que la columna referenciada; sus indices se conservan
+ALTER TABLE `compdes_user` DROP FOREIGN KEY `FKly7pq372t9xlpeptexy1ot4ec`;
+
+ALTER TABLE `participant`
+  DROP FOREIGN KEY `FK2fon6ye9cfa4xle9osj744p69`,
+  DROP FOREIGN KEY `FK8nmkvfpdautxiibq1p1i3cmi0`,
+  DROP FOREIGN KEY `FKbjinh6ecbukw0s16b3q13iakm`,
+  DROP FOREIGN KEY `FKph8kum13geny2c43i4dt4nxri`,
+  DROP FOREIGN KEY `FKqq0k05v0euxi5br9hcn19488b`;
+
+ALTER TABLE `qr_code` DROP FOREIGN KEY `FKfcjo4466qve89k2jhjve4ykqd`;
+
+ALTER TABLE `classroom`
+  DROP FOREIGN KEY `FKbw57cj8ouehr9j4ek4xe1y3we`,
+  DROP FOREIGN KEY `FKpaxas92p8ciahdj49pl1ggul0`;
+
+ALTER TABLE `activity` DROP FOREIGN KEY `FK4c8hjgtep7baq11385e03dicj`;
+
+ALTER TABLE `attendance`
+  DROP FOREIGN KEY `FKAttendanceActivity`,
+  DROP FOREIGN KEY `FKAttendanceParticipant`;
+
+ALTER TABLE `reservation`
+  DROP FOREIGN KEY `FKf56tgucgqr62fno50bpmhdc99`,
+  DROP FOREIGN KEY `FKParticipantId`;
+
+-- conversion de las columnas, los indices se reconstruyen con el nuevo tipo
+ALTER TABLE `module_uni` MODIFY `id` UUID NOT NULL;
+
+ALTER TABLE `classroom`
+  MODIFY `id` UUID NOT NULL,
+  MODIFY `module_uni_id` UUID NOT NULL,
+  MODIFY `classrooms_id` UUID DEFAULT NULL;
+
+ALTER TABLE `activity`
+  MODIFY `id` UUID NOT NULL,
+  MODIFY `classroom_id` UUID NOT NULL;
+
+ALTER TABLE `registration_status` MODIFY `id` UUID NOT NULL;
+
+ALTER TABLE `payment_proof` MODIFY `id` UUID NOT NULL;
+
+ALTER TABLE `stored_file` MODIFY `id` UUID NOT NULL;
+
+ALTER TABLE `participant`
+  MODIFY `id` UUID NOT NULL,
+  MODIFY `compdes_user_id` UUID DEFAULT NULL,
+  MODIFY `payment_proof_id` UUID DEFAULT NULL,
+  MODIFY `payment_proof_image_id` UUID DEFAULT NULL,
+  MODIFY `qr_code_id` UUID DEFAULT NULL,
+  MODIFY `registration_status_id` UUID DEFAULT NULL;
+
+ALTER TABLE `compdes_user`
+  MODIFY `id` UUID NOT NULL,
+  MODIFY `participant_id` UUID DEFAULT NULL;
+
+ALTER TABLE `qr_code`
+  MODIFY `id` UUID NOT NULL,
+  MODIFY `participant_id` UUID DEFAULT NULL;
+
+ALTER TABLE `attendance`
+  MODIFY `id` UUID NOT NULL,
+  MODIFY `activity_id` UUID NOT NULL,
+  MODIFY `participant_id` UUID NOT NULL;
+
+ALTER TABLE `reservation`
+  MODIFY `id` UUID NOT NULL,
+  MODIFY `activity_id` UUID NOT NULL,
+  MODIFY `participant_id` UUID NOT NULL;
+
+-- user_id no tiene llave foranea, pero guarda el ID de compdes_user
+ALTER TABLE `mail_outbox`
+  MODIFY `id` UUID NOT NULL,
+  MODIFY `user_id` UUID NOT NULL;
+
+-- se restauran las llaves foraneas con sus nombres originales
+ALTER TABLE `compdes_user`
+  ADD CONSTRAINT `FKly7pq372t9xlpeptexy1ot4ec` FOREIGN KEY (`participant_id`) REFERENCES `participant` (`id`);
+
+ALTER TABLE `participant`
+  ADD CONSTRAINT `FK2fon6ye9cfa4xle9osj744p69` FOREIGN KEY (`registration_status_id`) REFERENCES `registration_status` (`id`),
+  ADD CONSTRAINT `FK8nmkvfpdautxiibq1p1i3cmi0` FOREIGN KEY (`compdes_user_id`) REFERENCES `compdes_user` (`id`),
+  ADD CONSTRAINT `FKbjinh6ecbukw0s16b3q13iakm` FOREIGN KEY (`payment_proof_image_id`) REFERENCES `stored_file` (`id`),
+  ADD CONSTRAINT `FKph8kum13geny2c43i4dt4nxri` FOREIGN KEY (`payment_proof_id`) REFERENCES `payment_proof` (`id`),
+  ADD CONSTRAINT `FKqq0k05v0euxi5br9hcn19488b` FOREIGN KEY (`qr_code_id`) REFERENCES `qr_code` (`id`);
+
+ALTER TABLE `qr_code`
+  ADD CONSTRAINT `FKfcjo4466qve89k2jhjve4ykqd` FOREIGN KEY (`participant_id`) REFERENCES `participant` (`id`);
+
+ALTER TABLE `classroom`
+  ADD CONSTRAINT `FKbw57cj8ouehr9j4ek4xe1y3we` FOREIGN KEY (`module_uni_id`) REFERENCES `module_uni` (`id`),
+  ADD CONSTRAINT `FKpaxas92p8ciahdj49pl1ggul0` FOREIGN KEY (`classrooms_id`) REFERENCES `module_uni` (`id`);
+
+ALTER TABLE `activity`
+  ADD CONSTRAINT `FK4c8hjgtep7baq11385e03dicj` FOREIGN KEY (`classroom_id`) REFERENCES `classroom` (`id`);
+
+ALTER TABLE `attendance`
+  ADD CONSTRAINT `FKAttendanceActivity` FOREIGN KEY (`activity_id`) REFERENCES `activity` (`id`),
+  ADD CONSTRAINT `FKAttendanceParticipant` FOREIGN KEY (`participant_id`) REFERENCES `participant` (`id`);
+
+ALTER TABLE `reservation`
+  ADD CONSTRAINT `FKf56tgucgqr62fno50bpmhdc99` FOREIGN KEY (`activity_id`) REFERENCES `activity` (`id`),
+  ADD CONSTRAINT `FKParticipantId` FOREIGN KEY (`participant_id`) REFERENCES `participant` (`id`);
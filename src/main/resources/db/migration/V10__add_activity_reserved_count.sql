@@ -0,0 +1,11 @@
+-- contador desnormalizado de cupos reservados por actividad, se actualiza con
+-- una sentencia condicional al reservar o cancelar
+ALTER TABLE `activity` ADD COLUMN `reserved_count` INT NOT NULL DEFAULT 0;
+
+UPDATE `activity` a
+  JOIN (
+    SELECT `activity_id`, COUNT(*) AS `total`
+    FROM `reservation`
+    GROUP BY `activity_id`
+  ) r ON r.`activity_id` = a.`id`
+SET a.`reserved_count` = r.`total`;
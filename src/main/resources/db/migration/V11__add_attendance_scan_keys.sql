@@ -0,0 +1,8 @@
+-- claves de idempotencia de los escaneos que registraron la entrada y la
+-- salida, para que un escaner que reenvia un lote no duplique asistencias
+ALTER TABLE `attendance`
+  ADD COLUMN `entry_scan_key` VARCHAR(64) DEFAULT NULL,
+  ADD COLUMN `exit_scan_key` VARCHAR(64) DEFAULT NULL;
+
+CREATE UNIQUE INDEX `UK_attendance_entry_scan_key` ON `attendance` (`entry_scan_key`);
+CREATE UNIQUE INDEX `UK_attendance_exit_scan_key` ON `attendance` (`exit_scan_key`);
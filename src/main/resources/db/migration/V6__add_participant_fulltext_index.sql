@@ -0,0 +1,11 @@
+-- indice de texto completo para la busqueda libre de participantes (parametro q)
+-- el orden de las columnas debe coincidir con la funcion participant_fulltext_match
+ALTER TABLE `participant`
+  ADD FULLTEXT INDEX `FT_participant_search` (
+    `first_name`,
+    `last_name`,
+    `email`,
+    `phone`,
+    `organisation`,
+    `identification_document`
+  );
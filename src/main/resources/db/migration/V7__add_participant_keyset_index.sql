@@ -0,0 +1,2 @@
+-- indice para la paginacion por cursor del listado de participantes (created_at, id)
+CREATE INDEX `IDX_participant_created_at_id` ON `participant` (`created_at`, `id`);
@@ -0,0 +1,17 @@
+CREATE TABLE IF NOT EXISTS `mail_outbox` (
+  `id` VARCHAR(36) NOT NULL,
+  `created_at` DATETIME(6) NOT NULL,
+  `deleted_at` DATETIME(6) DEFAULT NULL,
+  `desactivated_at` DATETIME(6) DEFAULT NULL,
+  `updated_at` DATETIME(6) DEFAULT NULL,
+  `recipient_email` VARCHAR(150) NOT NULL,
+  `recipient_full_name` VARCHAR(255) NOT NULL,
+  `user_id` VARCHAR(36) NOT NULL,
+  `status` VARCHAR(20) NOT NULL,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` DATETIME(6) NOT NULL,
+  `sent_at` DATETIME(6) DEFAULT NULL,
+  `last_error` VARCHAR(500) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `IDX_mail_outbox_status_next_attempt` (`status`, `next_attempt_at`)
+);
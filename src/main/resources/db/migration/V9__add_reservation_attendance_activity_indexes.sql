@@ -0,0 +1,39 @@
+-- indices compuestos para las consultas frecuentes de reservaciones,
+-- asistencias y actividades
+
+-- los indices unicos fallan si ya existen reservaciones o asistencias
+-- repetidas de un participante en una misma actividad; en ese caso la
+-- migracion se detiene y los repetidos deben revisarse y fusionarse antes con
+-- db/fix_duplicate_reservations_attendances.sql. MySQL no admite IF NOT
+-- EXISTS en indices y sus DDL no son transaccionales, asi que los indices que
+-- alcanzaron a crearse se eliminan con la seccion 4 de ese script antes del
+-- flyway repair y de volver a migrar
+
+-- countByActivityId (prefijo activity_id) y findByParticipantIdAndActivityId;
+-- ademas impide reservar dos veces la misma actividad
+ALTER TABLE `reservation`
+  ADD UNIQUE INDEX `UK_reservation_activity_participant` (`activity_id`, `participant_id`);
+
+-- countOverlappingReservations: recorre las reservaciones del participante y
+-- obtiene activity_id desde el mismo indice antes de unir con activity
+CREATE INDEX `IDX_reservation_participant_activity` ON `reservation` (`participant_id`, `activity_id`);
+
+-- existsByParticipantIdAndActivityId y findByParticipantIdAndActivityId
+ALTER TABLE `attendance`
+  ADD UNIQUE INDEX `UK_attendance_participant_activity` (`participant_id`, `activity_id`);
+
+-- existsByClassroomIdAndInitScheduledDate... y el NOT IN de
+-- findAvailableClassrooms, que filtran por salon y rango de fechas
+CREATE INDEX `IDX_activity_classroom_schedule` ON `activity` (`classroom_id`, `init_scheduled_date`, `end_scheduled_date`);
+
+-- los indices de una sola columna de las llaves foraneas quedan cubiertos por
+-- los compuestos anteriores, que empiezan por la misma columna; se eliminan
+-- para no mantener dos indices en cada escritura y para que el optimizador
+-- use siempre el compuesto
+ALTER TABLE `reservation`
+  DROP INDEX `FKf56tgucgqr62fno50bpmhdc99`,
+  DROP INDEX `FKParticipantId`;
+
+ALTER TABLE `attendance` DROP INDEX `FKAttendanceParticipant`;
+
+ALTER TABLE `activity` DROP INDEX `FK4c8hjgtep7baq11385e03dicj`;
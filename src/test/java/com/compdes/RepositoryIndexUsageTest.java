@@ -0,0 +1,192 @@
+package com.compdes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.compdes.activity.repositories.ActivityRepository;
+import com.compdes.attendance.repositories.AttendanceRepository;
+import com.compdes.reservations.repositories.ReservationRepository;
+import com.compdes.support.MariaDbIntegrationTest;
+import com.compdes.support.SqlRecorder;
+import com.compdes.support.TestData;
+
+/**
+ * Verifica con EXPLAIN que las consultas frecuentes de reservaciones,
+ * asistencias y actividades usen los índices compuestos de la migración V9.
+ *
+ * Cada prueba ejecuta el método del repositorio, toma el SQL que generó
+ * Hibernate y lo analiza con los mismos valores, de forma que un cambio en la
+ * consulta o en los índices se detecta aquí y no en producción.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.compdes.support.SqlRecorder")
+class RepositoryIndexUsageTest extends MariaDbIntegrationTest {
+
+    private static final int WORKSHOPS = 40;
+    private static final int PARTICIPANTS = 200;
+
+    /**
+     * Desplazamientos de los talleres que reserva cada participante respecto a
+     * su posición.
+     */
+    private static final int[] RESERVED_OFFSETS = { 0, 13, 27 };
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\?");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    private String participantId;
+    private String activityId;
+    private String classroomId;
+    private LocalDateTime activityStart;
+    private LocalDateTime activityEnd;
+
+    @BeforeAll
+    void seed() {
+        String prefix = "explain-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        TestData testData = new TestData(jdbcTemplate);
+        List<String> workshops = testData.scheduledWorkshops(prefix, WORKSHOPS, 30);
+        List<String> participants = testData.pendingParticipants(prefix, PARTICIPANTS);
+
+        // cada participante reserva y asiste a tres talleres distintos
+        List<String> pairParticipants = new ArrayList<>();
+        List<String> pairActivities = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            for (int offset : RESERVED_OFFSETS) {
+                pairParticipants.add(participants.get(i));
+                pairActivities.add(workshops.get((i + offset) % WORKSHOPS));
+            }
+        }
+        testData.reservations(pairParticipants, pairActivities);
+        testData.attendances(pairParticipants, pairActivities);
+        jdbcTemplate.execute("ANALYZE TABLE reservation, attendance, activity");
+
+        participantId = participants.get(0);
+        activityId = workshops.get(0);
+        classroomId = jdbcTemplate.queryForObject("SELECT classroom_id FROM activity WHERE id = ?", String.class,
+                activityId);
+        activityStart = jdbcTemplate.queryForObject("SELECT init_scheduled_date FROM activity WHERE id = ?",
+                LocalDateTime.class, activityId);
+        activityEnd = jdbcTemplate.queryForObject("SELECT end_scheduled_date FROM activity WHERE id = ?",
+                LocalDateTime.class, activityId);
+    }
+
+    @Test
+    void reservationCountByActivityUsesActivityParticipantKey() {
+        assertIndex("UK_reservation_activity_participant", "reservation",
+                () -> reservationRepository.countByActivityId(activityId),
+                activityId);
+    }
+
+    @Test
+    void reservationLookupByParticipantAndActivityUsesUniqueKey() {
+        assertIndex("UK_reservation_activity_participant", "reservation",
+                () -> reservationRepository.findByParticipantIdAndActivityId(participantId, activityId),
+                participantId, activityId);
+    }
+
+    @Test
+    void overlappingReservationsUseParticipantActivityIndex() {
+        // el JPQL compara primero con :end y despues con :start
+        assertIndex("IDX_reservation_participant_activity", "reservation",
+                () -> reservationRepository.countOverlappingReservations(participantId, activityStart, activityEnd),
+                participantId, activityEnd, activityStart);
+    }
+
+    @Test
+    void attendanceExistsUsesParticipantActivityKey() {
+        assertIndex("UK_attendance_participant_activity", "attendance",
+                () -> attendanceRepository.existsByParticipantIdAndActivityId(participantId, activityId),
+                participantId, activityId);
+    }
+
+    @Test
+    void classroomScheduleClashUsesClassroomScheduleIndex() {
+        assertIndex("IDX_activity_classroom_schedule", "activity",
+                () -> activityRepository
+                        .existsByClassroomIdAndInitScheduledDateLessThanEqualAndEndScheduledDateGreaterThanEqual(
+                                classroomId, activityEnd, activityStart),
+                classroomId, activityEnd, activityStart);
+    }
+
+    /**
+     * Ejecuta la consulta del repositorio, analiza con EXPLAIN la primera
+     * sentencia que generó y verifica el índice usado para la tabla indicada.
+     *
+     * @param expectedKey índice esperado en la columna {@code key}
+     * @param table       tabla cuyo acceso se verifica
+     * @param query       llamada al repositorio
+     * @param values      valores de los parámetros en el orden en que aparecen
+     *                    en el SQL; los restantes son límites de paginación y
+     *                    se enlazan con 1
+     */
+    private void assertIndex(String expectedKey, String table, Runnable query, Object... values) {
+        List<String> statements = SqlRecorder.record(query);
+        assertFalse(statements.isEmpty(), "la consulta no genero SQL");
+        String sql = statements.get(0);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, bind(sql, values));
+        String alias = alias(sql, table);
+        Map<String, Object> row = plan.stream()
+                .filter(step -> alias.equals(step.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("EXPLAIN no incluye la tabla " + table + ": " + plan));
+
+        assertEquals(expectedKey, row.get("key"), sql + "\n" + plan);
+    }
+
+    private static Object[] bind(String sql, Object... values) {
+        Matcher matcher = PLACEHOLDER.matcher(sql);
+        int placeholders = 0;
+        while (matcher.find()) {
+            placeholders++;
+        }
+        Object[] args = Arrays.copyOf(values, placeholders);
+        for (int i = values.length; i < placeholders; i++) {
+            args[i] = 1;
+        }
+        return args;
+    }
+
+    /**
+     * Obtiene el alias que Hibernate asignó a la tabla en el SQL generado, que
+     * es el nombre con el que aparece en EXPLAIN.
+     */
+    private static String alias(String sql, String table) {
+        Matcher matcher = Pattern.compile("\\b" + table + "\\s+(\\w+)").matcher(sql);
+        if (!matcher.find()) {
+            throw new AssertionError("La tabla " + table + " no aparece en: " + sql);
+        }
+        return matcher.group(1);
+    }
+}
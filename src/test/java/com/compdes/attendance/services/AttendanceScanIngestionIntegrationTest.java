@@ -0,0 +1,227 @@
+package com.compdes.attendance.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.compdes.attendance.enums.AttendanceScanStatusEnum;
+import com.compdes.attendance.enums.AttendanceScanTypeEnum;
+import com.compdes.attendance.models.dto.request.AttendanceScanDTO;
+import com.compdes.attendance.models.dto.response.AttendanceScanResultDTO;
+import com.compdes.qrCodes.services.QrCodePoolService;
+import com.compdes.registrationStatus.services.RegistrationStatusService;
+import com.compdes.support.MariaDbIntegrationTest;
+import com.compdes.support.TestData;
+
+/**
+ * Pruebas de {@link AttendanceScanIngestionService#ingestScans} contra
+ * MariaDB: el SQL real, las claves de idempotencia únicas de la migración V11
+ * y los lotes concurrentes que registran la misma asistencia.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+class AttendanceScanIngestionIntegrationTest extends MariaDbIntegrationTest {
+
+    private static final int CONCURRENT_ROUNDS = 20;
+
+    private static final String FIND_ATTENDANCES_SQL = "SELECT entry_time, exit_time, entry_scan_key, exit_scan_key "
+            + "FROM attendance WHERE participant_id = ? AND activity_id = ?";
+
+    @Autowired
+    private AttendanceScanIngestionService attendanceScanIngestionService;
+
+    @Autowired
+    private RegistrationStatusService registrationStatusService;
+
+    @Autowired
+    private QrCodePoolService qrCodePoolService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void entryAndExitAreSavedOnceWhenBatchIsResent() {
+        String prefix = prefix();
+        Map.Entry<String, String> participant = approvedParticipantsWithQr(prefix, 1).get(0);
+        String activityId = new TestData(jdbcTemplate).upcomingWorkshop(prefix, 30);
+        LocalDateTime entryTime = now();
+
+        List<AttendanceScanDTO> batch = List.of(
+                scan(prefix + "exit", participant.getValue(), activityId, AttendanceScanTypeEnum.EXIT,
+                        entryTime.plusHours(2)),
+                scan(prefix + "entry", participant.getValue(), activityId, AttendanceScanTypeEnum.ENTRY, entryTime));
+
+        List<AttendanceScanResultDTO> first = attendanceScanIngestionService.ingestScans(batch);
+        List<AttendanceScanResultDTO> resent = attendanceScanIngestionService.ingestScans(batch);
+
+        for (AttendanceScanResultDTO result : first) {
+            assertEquals(AttendanceScanStatusEnum.APPLIED, result.getStatus(), result.getError());
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(AttendanceScanStatusEnum.ALREADY_APPLIED, resent.get(i).getStatus());
+            assertEquals(first.get(i).getAttendanceId(), resent.get(i).getAttendanceId());
+        }
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(FIND_ATTENDANCES_SQL, participant.getKey(),
+                activityId);
+        assertEquals(1, rows.size());
+        assertEquals(prefix + "entry", rows.get(0).get("entry_scan_key"));
+        assertEquals(prefix + "exit", rows.get(0).get("exit_scan_key"));
+    }
+
+    @Test
+    void exitInLaterBatchUpdatesExistingAttendance() {
+        String prefix = prefix();
+        Map.Entry<String, String> participant = approvedParticipantsWithQr(prefix, 1).get(0);
+        String activityId = new TestData(jdbcTemplate).upcomingWorkshop(prefix, 30);
+        LocalDateTime entryTime = now();
+
+        attendanceScanIngestionService.ingestScans(List.of(
+                scan(prefix + "entry", participant.getValue(), activityId, AttendanceScanTypeEnum.ENTRY, entryTime)));
+        List<AttendanceScanResultDTO> results = attendanceScanIngestionService.ingestScans(List.of(
+                scan(prefix + "early", participant.getValue(), activityId, AttendanceScanTypeEnum.EXIT,
+                        entryTime.minusMinutes(5)),
+                scan(prefix + "exit", participant.getValue(), activityId, AttendanceScanTypeEnum.EXIT,
+                        entryTime.plusHours(1))));
+
+        assertEquals(AttendanceScanStatusEnum.REJECTED, results.get(0).getStatus());
+        assertEquals(AttendanceScanStatusEnum.APPLIED, results.get(1).getStatus());
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(FIND_ATTENDANCES_SQL, participant.getKey(), activityId);
+        assertEquals(prefix + "entry", row.get("entry_scan_key"));
+        assertEquals(prefix + "exit", row.get("exit_scan_key"));
+    }
+
+    @Test
+    void unknownQrAndActivityAreRejectedWithoutWriting() {
+        String prefix = prefix();
+        Map.Entry<String, String> participant = approvedParticipantsWithQr(prefix, 1).get(0);
+
+        List<AttendanceScanResultDTO> results = attendanceScanIngestionService.ingestScans(List.of(
+                scan(prefix + "qr", UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                        AttendanceScanTypeEnum.ENTRY, now()),
+                scan(prefix + "activity", participant.getValue(), UUID.randomUUID().toString(),
+                        AttendanceScanTypeEnum.ENTRY, now())));
+
+        for (AttendanceScanResultDTO result : results) {
+            assertEquals(AttendanceScanStatusEnum.REJECTED, result.getStatus());
+            assertNull(result.getAttendanceId());
+        }
+        Integer saved = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM attendance WHERE entry_scan_key LIKE ?", Integer.class, prefix + "%");
+        assertEquals(0, saved);
+    }
+
+    /**
+     * Dos lectores envían al mismo tiempo la entrada del mismo participante,
+     * con claves distintas o con la misma. Sin importar cómo se intercalen los
+     * bloqueos, debe quedar exactamente una asistencia, y el lote que pierde
+     * debe recibir un resultado o un {@link IllegalStateException} (409), nunca
+     * otro error.
+     */
+    @Test
+    void concurrentBatchesForSameAttendanceSaveItOnce() throws Exception {
+        String prefix = prefix();
+        List<Map.Entry<String, String>> participants = approvedParticipantsWithQr(prefix, CONCURRENT_ROUNDS);
+        String activityId = new TestData(jdbcTemplate).upcomingWorkshop(prefix, CONCURRENT_ROUNDS);
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < CONCURRENT_ROUNDS; round++) {
+                String qrCodeId = participants.get(round).getValue();
+                // en rondas pares el segundo lector reenvia la misma clave
+                String secondKey = prefix + round + (round % 2 == 0 ? "-a" : "-b");
+                List<AttendanceScanDTO> firstBatch = List.of(
+                        scan(prefix + round + "-a", qrCodeId, activityId, AttendanceScanTypeEnum.ENTRY, now()));
+                List<AttendanceScanDTO> secondBatch = List.of(
+                        scan(secondKey, qrCodeId, activityId, AttendanceScanTypeEnum.ENTRY, now()));
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (List<AttendanceScanDTO> batch : List.of(firstBatch, secondBatch)) {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            start.await();
+                            attendanceScanIngestionService.ingestScans(batch);
+                        } catch (IllegalStateException e) {
+                            // conflicto esperado, el lote se puede reenviar
+                        } catch (Throwable e) {
+                            unexpected.add(e);
+                        }
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(1, TimeUnit.MINUTES);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(unexpected.isEmpty(), () -> unexpected.size() + " lotes fallaron: " + unexpected.peek());
+        for (Map.Entry<String, String> participant : participants) {
+            Integer saved = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM attendance WHERE participant_id = ? AND activity_id = ?", Integer.class,
+                    participant.getKey(), activityId);
+            // el lote que gana siempre confirma, solo el otro puede abortarse
+            assertEquals(1, saved, participant.getKey());
+        }
+    }
+
+    /**
+     * Crea participantes aprobados con su código QR asignado por el flujo real
+     * de aprobación.
+     *
+     * @return pares de ID de participante e ID de su código QR
+     */
+    private List<Map.Entry<String, String>> approvedParticipantsWithQr(String prefix, int count) {
+        qrCodePoolService.topUpPool(count);
+        List<String> participantIds = new TestData(jdbcTemplate).pendingParticipants(prefix, count);
+        List<Map.Entry<String, String>> participants = new ArrayList<>(count);
+        for (String participantId : participantIds) {
+            registrationStatusService.approveRegistrationByParticipantId(participantId);
+            String qrCodeId = jdbcTemplate.queryForObject("SELECT qr_code_id FROM participant WHERE id = ?",
+                    String.class, participantId);
+            participants.add(Map.entry(participantId, qrCodeId));
+        }
+        return participants;
+    }
+
+    private static AttendanceScanDTO scan(String key, String qrCodeId, String activityId,
+            AttendanceScanTypeEnum type, LocalDateTime scannedAt) {
+        return new AttendanceScanDTO(key, qrCodeId, activityId, type, scannedAt);
+    }
+
+    private static String prefix() {
+        return "scan-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    }
+
+    /**
+     * Hora actual truncada a segundos, igual que la envían los lectores.
+     */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+}
@@ -0,0 +1,303 @@
+package com.compdes.attendance.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.compdes.attendance.enums.AttendanceScanStatusEnum;
+import com.compdes.attendance.enums.AttendanceScanTypeEnum;
+import com.compdes.attendance.models.dto.request.AttendanceScanDTO;
+import com.compdes.attendance.models.dto.response.AttendanceScanResultDTO;
+import com.compdes.participants.models.dto.internal.ScannedParticipantDTO;
+import com.compdes.participants.services.ParticipantService;
+
+/**
+ * Pruebas de {@link AttendanceScanIngestionService#ingestScans}.
+ *
+ * Las consultas JDBC se simulan con filas en memoria: las claves ya guardadas,
+ * las actividades existentes y las asistencias bloqueadas del lote.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceScanIngestionServiceTest {
+
+    private static final String QR = "qr-1";
+    private static final String PARTICIPANT = "participant-1";
+    private static final String ACTIVITY = "activity-1";
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 9, 10, 8, 0);
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    @Mock
+    private ParticipantService participantService;
+
+    private AttendanceScanIngestionService service;
+
+    /**
+     * Filas devueltas por la busqueda de claves ya procesadas.
+     */
+    private final List<ResultSet> appliedRows = new ArrayList<>();
+
+    /**
+     * Filas devueltas por el bloqueo de asistencias existentes.
+     */
+    private final List<ResultSet> lockedRows = new ArrayList<>();
+
+    /**
+     * Error que lanza el bloqueo de asistencias, si se asigna.
+     */
+    private RuntimeException lockFailure;
+
+    @BeforeEach
+    void setUp() {
+        service = new AttendanceScanIngestionService(namedParameterJdbcTemplate, participantService);
+
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            RowCallbackHandler handler = invocation.getArgument(2);
+            if (lockFailure != null && sql.contains("FOR UPDATE")) {
+                throw lockFailure;
+            }
+            for (ResultSet row : sql.contains("FOR UPDATE") ? lockedRows : appliedRows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(namedParameterJdbcTemplate).query(anyString(), anyMap(), any(RowCallbackHandler.class));
+
+        lenient().when(namedParameterJdbcTemplate.queryForList(anyString(), anyMap(), eq(String.class)))
+                .thenReturn(List.of(ACTIVITY));
+        lenient().when(participantService.getScannedParticipantsByQrCodeIds(anyCollection()))
+                .thenReturn(Map.of(QR, new ScannedParticipantDTO(PARTICIPANT, true, "Participante Prueba")));
+        lenient().when(namedParameterJdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+    }
+
+    @Test
+    void keysSavedInPreviousBatchAreReportedAsAlreadyApplied() {
+        appliedRows.add(row(Map.of("id", "attendance-1", "entry_scan_key", "entry-1", "exit_scan_key", "exit-1")));
+
+        List<AttendanceScanResultDTO> results = service.ingestScans(List.of(
+                scan("exit-1", AttendanceScanTypeEnum.EXIT, at(2)),
+                scan("entry-1", AttendanceScanTypeEnum.ENTRY, at(0))));
+
+        assertEquals(2, results.size());
+        for (AttendanceScanResultDTO result : results) {
+            assertEquals(AttendanceScanStatusEnum.ALREADY_APPLIED, result.getStatus());
+            assertEquals("attendance-1", result.getAttendanceId());
+        }
+        assertEquals("exit-1", results.get(0).getIdempotencyKey());
+        assertEquals("entry-1", results.get(1).getIdempotencyKey());
+        verifyNoInteractions(participantService, jdbcOperations);
+    }
+
+    @Test
+    void keyRepeatedInSameBatchIsAppliedOnce() {
+        AttendanceScanDTO entry = scan("entry-1", AttendanceScanTypeEnum.ENTRY, at(0));
+
+        List<AttendanceScanResultDTO> results = service.ingestScans(List.of(entry, entry));
+
+        assertEquals(AttendanceScanStatusEnum.APPLIED, results.get(0).getStatus());
+        assertEquals(results.get(0), results.get(1));
+        Map<String, List<Object[]>> batches = batches();
+        assertEquals(1, batches.get("INSERT").size());
+        assertFalse(batches.containsKey("UPDATE"));
+    }
+
+    @Test
+    void scansAreAppliedByScanTimeAndReportedInReceivedOrder() {
+        List<AttendanceScanResultDTO> results = service.ingestScans(List.of(
+                scan("exit-late", AttendanceScanTypeEnum.EXIT, at(3)),
+                scan("exit-early", AttendanceScanTypeEnum.EXIT, at(2)),
+                scan("entry-1", AttendanceScanTypeEnum.ENTRY, at(1))));
+
+        // la salida mas tardia se procesa al final aunque llegue primero
+        assertEquals(List.of("exit-late", "exit-early", "entry-1"),
+                results.stream().map(AttendanceScanResultDTO::getIdempotencyKey).toList());
+        for (AttendanceScanResultDTO result : results) {
+            assertEquals(AttendanceScanStatusEnum.APPLIED, result.getStatus());
+            assertEquals(results.get(2).getAttendanceId(), result.getAttendanceId());
+        }
+
+        List<Object[]> inserts = batches().get("INSERT");
+        assertEquals(1, inserts.size());
+        Object[] insert = inserts.get(0);
+        assertNotNull(insert[1]);
+        assertEquals(ACTIVITY, insert[3]);
+        assertEquals(PARTICIPANT, insert[4]);
+        assertEquals(Timestamp.valueOf(at(1)), insert[5]);
+        assertEquals(Timestamp.valueOf(at(3)), insert[6]);
+        assertEquals("entry-1", insert[7]);
+        assertEquals("exit-late", insert[8]);
+    }
+
+    @Test
+    void entryIsAppliedBeforeExitScannedAtSameInstant() {
+        List<AttendanceScanResultDTO> results = service.ingestScans(List.of(
+                scan("exit-1", AttendanceScanTypeEnum.EXIT, at(1)),
+                scan("entry-1", AttendanceScanTypeEnum.ENTRY, at(1))));
+
+        assertEquals(AttendanceScanStatusEnum.APPLIED, results.get(0).getStatus());
+        assertEquals(AttendanceScanStatusEnum.APPLIED, results.get(1).getStatus());
+        assertEquals("exit-1", batches().get("INSERT").get(0)[8]);
+    }
+
+    @Test
+    void exitBeforeExistingEntryIsRejected() {
+        lockedRows.add(row(attendanceRow("attendance-1", at(2), null)));
+
+        List<AttendanceScanResultDTO> results = service.ingestScans(List.of(
+                scan("exit-early", AttendanceScanTypeEnum.EXIT, at(1)),
+                scan("exit-1", AttendanceScanTypeEnum.EXIT, at(4))));
+
+        assertEquals(AttendanceScanStatusEnum.REJECTED, results.get(0).getStatus());
+        assertNull(results.get(0).getAttendanceId());
+        assertNotNull(results.get(0).getError());
+        assertEquals(AttendanceScanStatusEnum.APPLIED, results.get(1).getStatus());
+        assertEquals("attendance-1", results.get(1).getAttendanceId());
+
+        List<Object[]> updates = batches().get("UPDATE");
+        assertEquals(1, updates.size());
+        Object[] update = updates.get(0);
+        assertEquals(Timestamp.valueOf(at(4)), update[0]);
+        assertEquals("exit-1", update[1]);
+        assertNotNull(update[2]);
+        assertEquals("attendance-1", update[3]);
+    }
+
+    @Test
+    void exitBeforeEntryInSameBatchIsRejected() {
+        List<AttendanceScanResultDTO> results = service.ingestScans(List.of(
+                scan("entry-1", AttendanceScanTypeEnum.ENTRY, at(2)),
+                scan("exit-early", AttendanceScanTypeEnum.EXIT, at(1))));
+
+        assertEquals(AttendanceScanStatusEnum.APPLIED, results.get(0).getStatus());
+        assertEquals(AttendanceScanStatusEnum.REJECTED, results.get(1).getStatus());
+
+        Object[] insert = batches().get("INSERT").get(0);
+        assertNull(insert[6]);
+        assertNull(insert[8]);
+    }
+
+    @Test
+    void entryForExistingAttendanceIsRejected() {
+        lockedRows.add(row(attendanceRow("attendance-1", at(0), at(1))));
+
+        List<AttendanceScanResultDTO> results = service.ingestScans(List.of(
+                scan("entry-2", AttendanceScanTypeEnum.ENTRY, at(2))));
+
+        assertEquals(AttendanceScanStatusEnum.REJECTED, results.get(0).getStatus());
+        verify(jdbcOperations, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void concurrentInsertOfSameAttendanceFailsWholeBatch() {
+        doThrow(new DuplicateKeyException("uk_attendance_participant_activity")).when(jdbcOperations)
+                .batchUpdate(anyString(), anyList());
+
+        assertThrows(IllegalStateException.class, () -> service.ingestScans(List.of(
+                scan("entry-1", AttendanceScanTypeEnum.ENTRY, at(0)))));
+    }
+
+    @Test
+    void deadlockWhileLockingAttendancesFailsWholeBatch() {
+        lockFailure = new PessimisticLockingFailureException("Deadlock found when trying to get lock");
+
+        assertThrows(IllegalStateException.class, () -> service.ingestScans(List.of(
+                scan("entry-1", AttendanceScanTypeEnum.ENTRY, at(0)))));
+        verifyNoInteractions(jdbcOperations);
+    }
+
+    @Test
+    void lockTimeoutWhileSavingFailsWholeBatch() {
+        doThrow(new CannotAcquireLockException("Lock wait timeout exceeded")).when(jdbcOperations)
+                .batchUpdate(anyString(), anyList());
+
+        assertThrows(IllegalStateException.class, () -> service.ingestScans(List.of(
+                scan("entry-1", AttendanceScanTypeEnum.ENTRY, at(0)))));
+    }
+
+    /**
+     * Obtiene las filas enviadas en cada lote JDBC, indexadas por el tipo de
+     * sentencia ({@code INSERT} o {@code UPDATE}).
+     */
+    private Map<String, List<Object[]>> batches() {
+        Map<String, List<Object[]>> batches = new HashMap<>();
+        for (Invocation invocation : mockingDetails(jdbcOperations).getInvocations()) {
+            String sql = invocation.getArgument(0);
+            batches.put(sql.strip().split("\\s+")[0], invocation.getArgument(1));
+        }
+        return batches;
+    }
+
+    private static Map<String, Object> attendanceRow(String id, LocalDateTime entryTime, LocalDateTime exitTime) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("participant_id", PARTICIPANT);
+        values.put("activity_id", ACTIVITY);
+        values.put("entry_time", entryTime);
+        values.put("exit_time", exitTime);
+        return values;
+    }
+
+    /**
+     * Simula una fila cuyas columnas se leen por nombre con {@code getString}
+     * o {@code getObject}.
+     */
+    private static ResultSet row(Map<String, Object> values) {
+        return mock(ResultSet.class, invocation -> invocation.getArguments().length > 0
+                ? values.get(invocation.getArgument(0))
+                : null);
+    }
+
+    private static AttendanceScanDTO scan(String key, AttendanceScanTypeEnum type, LocalDateTime scannedAt) {
+        return new AttendanceScanDTO(key, QR, ACTIVITY, type, scannedAt);
+    }
+
+    private static LocalDateTime at(int hour) {
+        return BASE.plusHours(hour);
+    }
+}
@@ -0,0 +1,161 @@
+package com.compdes.auth.jwt.filter;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.compdes.auth.jwt.models.JwtConfig;
+import com.compdes.auth.jwt.services.JwtGeneratorService;
+import com.compdes.auth.jwt.utils.JwtClaimsCache;
+import com.compdes.auth.jwt.utils.JwtTokenInspector;
+import com.compdes.auth.jwt.utils.PublicEndpointMatcher;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+
+/**
+ * Mide las solicitudes autenticadas por segundo que atiende
+ * {@link JwtAuthenticationFilter}.
+ *
+ * {@code baseline} reproduce la validación anterior, que reconstruía la llave
+ * y verificaba la firma del token una vez por cada claim leído (usuario, tipo
+ * y expiración). {@code filter} ejecuta el filtro actual, que verifica la
+ * firma una sola vez y reutiliza los claims de {@link JwtClaimsCache} entre
+ * solicitudes con el mismo token; {@code filterWithoutCache} lo ejecuta con la
+ * caché deshabilitada para separar ambos efectos.
+ *
+ * Se ejecuta con {@code mvn -Pbenchmark test-compile exec:exec
+ * -Dbenchmark=JwtAuthenticationFilterBenchmark}.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String PATH = "/api/v1/participants/all";
+
+    /**
+     * Tokens distintos que se alternan entre solicitudes, como varios usuarios
+     * con sesión abierta.
+     */
+    @Param({ "1", "100" })
+    private int tokens;
+
+    private JwtConfig jwtConfig;
+    private String[] headers;
+    private int next;
+
+    private JwtAuthenticationFilter filter;
+    private JwtAuthenticationFilter filterWithoutCache;
+
+    @Setup
+    public void setUp() {
+        byte[] secretBytes = Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded();
+
+        jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "secretKey", Base64.getEncoder().encodeToString(secretBytes));
+        ReflectionTestUtils.invokeMethod(jwtConfig, "initSigningKey");
+
+        headers = new String[tokens];
+        Date expiration = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        for (int i = 0; i < tokens; i++) {
+            headers[i] = "Bearer " + Jwts.builder()
+                    .setSubject("usuario" + i)
+                    .claim(JwtGeneratorService.CLAIM_NAME_USER_TYPE, "ADMIN")
+                    .setIssuedAt(new Date())
+                    .setExpiration(expiration)
+                    .signWith(jwtConfig.getSigningKey(), SignatureAlgorithm.HS256)
+                    .compact();
+        }
+
+        filter = new JwtAuthenticationFilter(
+                new JwtTokenInspector(jwtConfig, new JwtClaimsCache(60, 10_000)),
+                new PublicEndpointMatcher());
+        filterWithoutCache = new JwtAuthenticationFilter(
+                new JwtTokenInspector(jwtConfig, new JwtClaimsCache(0, 10_000)),
+                new PublicEndpointMatcher());
+
+        // el filtro registra cada autenticacion exitosa
+        ((Logger) LoggerFactory.getLogger(JwtAuthenticationFilter.class)).setLevel(Level.WARN);
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        String token = nextHeader().substring(7);
+        String username = parseClaims(token).getSubject();
+        String userType = parseClaims(token).get(JwtGeneratorService.CLAIM_NAME_USER_TYPE, String.class);
+        boolean valid = !parseClaims(token).getExpiration().before(new Date());
+        blackhole.consume(username);
+        blackhole.consume(userType);
+        blackhole.consume(valid);
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        return doFilter(filter);
+    }
+
+    @Benchmark
+    public Object filterWithoutCache() throws ServletException, IOException {
+        return doFilter(filterWithoutCache);
+    }
+
+    private Object doFilter(JwtAuthenticationFilter target) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader("Authorization", nextHeader());
+        target.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    /**
+     * Validación anterior de cada claim: decodificar el secreto, construir la
+     * llave y el parser, y verificar la firma.
+     */
+    private Claims parseClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(jwtConfig.getSecretBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private String nextHeader() {
+        String header = headers[next];
+        next = (next + 1) % headers.length;
+        return header;
+    }
+}
@@ -0,0 +1,92 @@
+package com.compdes.auth.jwt.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Pruebas de {@link JwtClaimsCache}.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+class JwtClaimsCacheTest {
+
+    private static final int MAX_ENTRIES = 3;
+
+    private final JwtClaimsCache cache = new JwtClaimsCache(60, MAX_ENTRIES);
+
+    @Test
+    void fullCacheDropsOldestEntryOnly() {
+        cache.put("a", claimsExpiringIn(60_000));
+        cache.put("b", claimsExpiringIn(60_000));
+        cache.put("c", claimsExpiringIn(60_000));
+
+        cache.put("d", claimsExpiringIn(60_000));
+
+        assertEquals(MAX_ENTRIES, cache.size());
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertNotNull(cache.get("d"));
+    }
+
+    @Test
+    void fullCacheDropsExpiredEntriesBeforeOldest() throws InterruptedException {
+        cache.put("a", claimsExpiringIn(60_000));
+        cache.put("b", claimsExpiringIn(20));
+        cache.put("c", claimsExpiringIn(60_000));
+        Thread.sleep(50);
+
+        cache.put("d", claimsExpiringIn(60_000));
+
+        assertNotNull(cache.get("a"), "la mas antigua se conserva si hay vencidas");
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertNotNull(cache.get("d"));
+    }
+
+    @Test
+    void storingTokenAgainMakesItNewest() {
+        cache.put("a", claimsExpiringIn(60_000));
+        cache.put("b", claimsExpiringIn(60_000));
+        cache.put("c", claimsExpiringIn(60_000));
+        cache.put("a", claimsExpiringIn(60_000));
+
+        cache.put("d", claimsExpiringIn(60_000));
+
+        assertEquals(MAX_ENTRIES, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    void claimsAreNotReusedAfterTokenExpiration() throws InterruptedException {
+        cache.put("a", claimsExpiringIn(20));
+        Thread.sleep(50);
+
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void zeroTtlDisablesCache() {
+        JwtClaimsCache disabled = new JwtClaimsCache(0, MAX_ENTRIES);
+
+        disabled.put("a", claimsExpiringIn(60_000));
+
+        assertNull(disabled.get("a"));
+        assertEquals(0, disabled.size());
+    }
+
+    private static Claims claimsExpiringIn(long millis) {
+        return Jwts.claims().setExpiration(new Date(System.currentTimeMillis() + millis));
+    }
+}
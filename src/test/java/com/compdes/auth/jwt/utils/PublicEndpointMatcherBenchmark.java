@@ -0,0 +1,80 @@
+package com.compdes.auth.jwt.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.AntPathMatcher;
+
+import com.compdes.common.enums.PublicEndpointsEnum;
+
+/**
+ * Mide el costo de decidir si una solicitud es pública.
+ *
+ * {@code baseline} reproduce la comprobación anterior del filtro JWT, que
+ * creaba un {@link AntPathMatcher} en cada solicitud y comparaba la ruta
+ * contra todas las entradas de {@link PublicEndpointsEnum}.
+ * {@code precompiled} usa {@link PublicEndpointMatcher}, con los patrones
+ * compilados una sola vez y agrupados por método HTTP.
+ *
+ * Se mide con una ruta pública, una protegida (que recorre toda la tabla sin
+ * coincidir) y una pública con comodín.
+ *
+ * Se ejecuta con {@code mvn -Pbenchmark test-compile exec:exec
+ * -Dbenchmark=PublicEndpointMatcherBenchmark}.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicEndpointMatcherBenchmark {
+
+    @Param({
+            "POST /api/v1/login",
+            "GET /api/v1/participants/all",
+            "GET /api/v1/reservations/isAssigned/participante/taller" })
+    private String request;
+
+    private String method;
+    private String path;
+    private PublicEndpointMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        String[] parts = request.split(" ");
+        method = parts[0];
+        path = parts[1];
+        matcher = new PublicEndpointMatcher();
+    }
+
+    @Benchmark
+    public boolean baseline() {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        for (PublicEndpointsEnum endpoint : PublicEndpointsEnum.values()) {
+            if (antPathMatcher.match(endpoint.getPath(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean precompiled() {
+        return matcher.matches(method, path);
+    }
+}
@@ -0,0 +1,150 @@
+package com.compdes.auth.jwt.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.compdes.common.enums.PublicEndpointsEnum;
+
+/**
+ * Pruebas de {@link PublicEndpointMatcher} contra las rutas declaradas en
+ * {@link PublicEndpointsEnum}.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+class PublicEndpointMatcherTest {
+
+    private static final HttpMethod[] ALL_METHODS = { HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT,
+            HttpMethod.PATCH, HttpMethod.DELETE, HttpMethod.OPTIONS, HttpMethod.HEAD };
+
+    private final PublicEndpointMatcher matcher = new PublicEndpointMatcher();
+
+    @ParameterizedTest
+    @EnumSource(PublicEndpointsEnum.class)
+    void everyEntryMatchesItsOwnMethodAndPath(PublicEndpointsEnum endpoint) {
+        String path = concretePath(endpoint.getPath());
+        for (HttpMethod method : methodsOf(endpoint)) {
+            assertTrue(matcher.matches(method.name(), path), endpoint + " deberia ser publico para " + method);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PublicEndpointsEnum.class)
+    void everyEntryWithMethodRejectsOtherMethods(PublicEndpointsEnum endpoint) {
+        if (endpoint.getMethod() == null) {
+            return;
+        }
+        String path = concretePath(endpoint.getPath());
+        for (HttpMethod method : ALL_METHODS) {
+            if (method.equals(endpoint.getMethod()) || isPublic(method, endpoint.getPath())) {
+                continue;
+            }
+            assertFalse(matcher.matches(method.name(), path), endpoint + " no deberia ser publico para " + method);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS" })
+    void nullMethodEntriesAcceptAnyMethod(String method) {
+        assertTrue(matcher.matches(method, "/swagger-ui/index.html"));
+        assertTrue(matcher.matches(method, "/v3/api-docs"));
+        assertTrue(matcher.matches(method, "/v3/api-docs/swagger-config"));
+    }
+
+    @Test
+    void doubleWildcardMatchesAnyDepth() {
+        assertTrue(matcher.matches("GET", "/api/v1/reservations/isAssigned"));
+        assertTrue(matcher.matches("GET", "/api/v1/reservations/isAssigned/abc"));
+        assertTrue(matcher.matches("GET", "/api/v1/reservations/isAssigned/abc/def"));
+        assertTrue(matcher.matches("GET", "/swagger-ui/a/b/c.js"));
+    }
+
+    @Test
+    void singleWildcardMatchesExactlyOneSegment() {
+        assertTrue(matcher.matches("GET", "/api/v1/participants/public-inscription/by-document/1234567890101"));
+        assertFalse(matcher.matches("GET", "/api/v1/participants/public-inscription/by-document/123/extra"));
+        assertFalse(matcher.matches("GET", "/api/v1/participants/public-inscription/by-document"));
+
+        assertTrue(matcher.matches("PATCH", "/api/v1/users/finalize/abc"));
+        assertFalse(matcher.matches("PATCH", "/api/v1/users/finalize/abc/def"));
+    }
+
+    @Test
+    void exactPathsDoNotMatchSubPathsOrPrefixes() {
+        assertFalse(matcher.matches("POST", "/api/v1/login/extra"));
+        assertFalse(matcher.matches("POST", "/api/v1/log"));
+        assertFalse(matcher.matches("GET", "/ws/info"));
+        assertFalse(matcher.matches("GET", "/api/v1/activities"));
+    }
+
+    @Test
+    void protectedPathsAreNotPublic() {
+        assertFalse(matcher.matches("GET", "/api/v1/participants"));
+        assertFalse(matcher.matches("POST", "/api/v1/reservations/register"));
+        assertFalse(matcher.matches("POST", "/api/v1/attendances/scans/batch"));
+        assertFalse(matcher.matches("GET", "/"));
+    }
+
+    @Test
+    void unknownMethodIsNotPublicOutsideNullMethodEntries() {
+        assertFalse(matcher.matches("TRACE", "/api/v1/login"));
+        assertTrue(matcher.matches("TRACE", "/swagger-ui/index.html"));
+    }
+
+    @Test
+    void requestPathIsEvaluatedWithoutContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/compdes/api/v1/login");
+        request.setContextPath("/compdes");
+        assertTrue(matcher.matches(request));
+
+        MockHttpServletRequest withoutContext = new MockHttpServletRequest("POST", "/api/v1/login");
+        assertTrue(matcher.matches(withoutContext));
+
+        MockHttpServletRequest wrongMethod = new MockHttpServletRequest("GET", "/compdes/api/v1/login");
+        wrongMethod.setContextPath("/compdes");
+        assertFalse(matcher.matches(wrongMethod));
+    }
+
+    /**
+     * Métodos con los que la entrada debe ser pública; las entradas sin método
+     * aceptan todos.
+     */
+    private static HttpMethod[] methodsOf(PublicEndpointsEnum endpoint) {
+        return endpoint.getMethod() == null ? ALL_METHODS : new HttpMethod[] { endpoint.getMethod() };
+    }
+
+    /**
+     * Indica si otra entrada del enum declara la misma ruta para el método dado.
+     */
+    private static boolean isPublic(HttpMethod method, String path) {
+        return Stream.of(PublicEndpointsEnum.values())
+                .anyMatch(other -> other.getPath().equals(path)
+                        && (other.getMethod() == null || other.getMethod().equals(method)));
+    }
+
+    /**
+     * Convierte un patrón en una ruta concreta que debe cumplirlo, sustituyendo
+     * los comodines por segmentos de ejemplo.
+     */
+    private static String concretePath(String pattern) {
+        return Arrays.stream(pattern.split("/", -1))
+                .map(segment -> switch (segment) {
+                    case "**" -> "a/b";
+                    case "*" -> "segmento";
+                    default -> segment;
+                })
+                .reduce((left, right) -> left + "/" + right)
+                .orElse(pattern);
+    }
+}
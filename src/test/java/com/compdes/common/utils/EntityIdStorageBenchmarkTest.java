@@ -0,0 +1,148 @@
+package com.compdes.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.compdes.support.Benchmarks;
+import com.compdes.support.MariaDbIntegrationTest;
+
+/**
+ * Compara la tasa de inserción, el costo de un join y el tamaño en disco de
+ * una tabla padre y una hija con las tres estrategias de identificadores:
+ * UUID aleatorios en {@code varchar(36)} (la original), UUID versión 7 en
+ * {@code varchar(36)} ({@code jpa.ids.time-ordered}) y UUID versión 7 en 16
+ * bytes (la migración opcional de {@code db/binary-ids}).
+ *
+ * Las tablas se crean solo para la prueba, con el mismo juego de caracteres
+ * que las de la aplicación, para que el esquema compartido no cambie. Los
+ * tiempos solo se registran en el log.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Tag(Benchmarks.TAG)
+class EntityIdStorageBenchmarkTest extends MariaDbIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityIdStorageBenchmarkTest.class);
+
+    private static final int PARENTS = 50_000;
+    private static final int CHILDREN_PER_PARENT = 3;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int WARMUPS = 2;
+    private static final int RUNS = 5;
+
+    private static final String TABLE_SIZE_SQL = "SELECT data_length + index_length FROM information_schema.tables "
+            + "WHERE table_schema = DATABASE() AND table_name = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void binaryTimeOrderedIdsAreSmallerAndKeepInsertionOrder() {
+        Result random = measure("random_varchar", "VARCHAR(36)", () -> UUID.randomUUID().toString());
+        Result ordered = measure("v7_varchar", "VARCHAR(36)", EntityIds::newTimeOrderedId);
+        Result binary = measure("v7_uuid", "UUID", EntityIds::newTimeOrderedId);
+
+        for (Result result : List.of(random, ordered, binary)) {
+            log.info("Identificadores {}: {} filas/s al insertar, join de {} filas en {} ms, {} KB en disco",
+                    result.name(), result.rowsPerSecond(), result.joined(), result.joinTime().toMillis(),
+                    result.bytes() / 1024);
+            assertEquals(PARENTS * CHILDREN_PER_PARENT, result.joined(), result.name());
+        }
+
+        assertTrue(binary.bytes() < ordered.bytes(), "16 bytes deben ocupar menos que varchar(36)");
+        assertTrue(binary.firstIdKeepsOrder(), "los UUID version 7 deben conservar su orden al guardarse");
+        assertTrue(ordered.firstIdKeepsOrder());
+    }
+
+    /**
+     * Crea las tablas de una estrategia, inserta los padres y sus hijos y mide
+     * un join entre ambas. Las tablas se eliminan al terminar.
+     */
+    private Result measure(String name, String idType, Supplier<String> ids) {
+        String parent = "bench_ids_" + name + "_parent";
+        String child = "bench_ids_" + name + "_child";
+        dropTables(parent, child);
+        jdbcTemplate.execute("CREATE TABLE " + parent + " (id " + idType + " NOT NULL, "
+                + "created_at DATETIME(6) NOT NULL, name VARCHAR(50) NOT NULL, PRIMARY KEY (id)) "
+                + "ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_general_ci");
+        jdbcTemplate.execute("CREATE TABLE " + child + " (id " + idType + " NOT NULL, "
+                + "created_at DATETIME(6) NOT NULL, parent_id " + idType + " NOT NULL, PRIMARY KEY (id), "
+                + "CONSTRAINT FK_" + child + " FOREIGN KEY (parent_id) REFERENCES " + parent + " (id)) "
+                + "ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_general_ci");
+        try {
+            Timestamp now = JdbcTimestamps.nowUtc();
+            List<String> parentIds = new ArrayList<>(PARENTS);
+            List<Object[]> parents = new ArrayList<>(PARENTS);
+            for (int i = 0; i < PARENTS; i++) {
+                String id = ids.get();
+                parentIds.add(id);
+                parents.add(new Object[] { id, now, "Padre " + i });
+            }
+            List<Object[]> children = new ArrayList<>(PARENTS * CHILDREN_PER_PARENT);
+            for (int i = 0; i < PARENTS * CHILDREN_PER_PARENT; i++) {
+                children.add(new Object[] { ids.get(), now, parentIds.get(i % PARENTS) });
+            }
+
+            Duration insertTime = Benchmarks.time(() -> {
+                insertInBatches("INSERT INTO " + parent + " (id, created_at, name) VALUES (?, ?, ?)", parents);
+                insertInBatches("INSERT INTO " + child + " (id, created_at, parent_id) VALUES (?, ?, ?)",
+                        children);
+            });
+            jdbcTemplate.execute("ANALYZE TABLE " + parent + ", " + child);
+
+            String joinSql = "SELECT COUNT(*) FROM " + child + " c JOIN " + parent + " p ON p.id = c.parent_id";
+            long[] joined = new long[1];
+            Duration joinTime = Benchmarks.median(WARMUPS, RUNS,
+                    () -> joined[0] = jdbcTemplate.queryForObject(joinSql, Long.class));
+
+            long bytes = tableSize(parent) + tableSize(child);
+            String firstId = jdbcTemplate.queryForObject("SELECT id FROM " + parent + " ORDER BY id LIMIT 1",
+                    String.class);
+            boolean firstIdKeepsOrder = parentIds.get(0).equals(firstId);
+
+            return new Result(name, parents.size() + children.size(), insertTime, joined[0], joinTime, bytes,
+                    firstIdKeepsOrder);
+        } finally {
+            dropTables(parent, child);
+        }
+    }
+
+    private void insertInBatches(String sql, List<Object[]> rows) {
+        for (int start = 0; start < rows.size(); start += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(start, Math.min(start + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private long tableSize(String table) {
+        return jdbcTemplate.queryForObject(TABLE_SIZE_SQL, Long.class, table);
+    }
+
+    private void dropTables(String parent, String child) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + child);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + parent);
+    }
+
+    private record Result(String name, int rows, Duration insertTime, long joined, Duration joinTime, long bytes,
+            boolean firstIdKeepsOrder) {
+
+        long rowsPerSecond() {
+            return rows * 1_000_000_000L / Math.max(insertTime.toNanos(), 1);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.compdes.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de {@link IntervalIndex}.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+class IntervalIndexTest {
+
+    private static final String ROOM = "salon-1";
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 9, 10, 8, 0);
+
+    private final IntervalIndex<String> index = new IntervalIndex<>();
+
+    @Test
+    void touchingEndpointsDoNotOverlap() {
+        index.put(ROOM, "a", at(9), at(10));
+
+        assertFalse(index.overlaps(ROOM, at(10), at(11), null), "inicia justo cuando termina el existente");
+        assertFalse(index.overlaps(ROOM, at(8), at(9), null), "termina justo cuando inicia el existente");
+        assertTrue(index.overlaps(ROOM, at(8), at(9).plusMinutes(1), null));
+        assertTrue(index.overlaps(ROOM, at(10).minusMinutes(1), at(11), null));
+    }
+
+    @Test
+    void overlapsDetectsContainedAndContainingRanges() {
+        index.put(ROOM, "a", at(9), at(12));
+
+        assertTrue(index.overlaps(ROOM, at(10), at(11), null), "rango dentro del existente");
+        assertTrue(index.overlaps(ROOM, at(8), at(13), null), "rango que contiene al existente");
+        assertTrue(index.overlaps(ROOM, at(9), at(12), null), "mismo rango");
+        assertFalse(index.overlaps(ROOM, at(13), at(14), null));
+    }
+
+    @Test
+    void coversIsInclusiveOnBothEnds() {
+        index.put(ROOM, "a", at(9), at(12));
+
+        assertTrue(index.covers(ROOM, at(9), at(12), null), "cobertura exacta");
+        assertTrue(index.covers(ROOM, at(9), at(10), null), "comparte el inicio");
+        assertTrue(index.covers(ROOM, at(11), at(12), null), "comparte el fin");
+        assertTrue(index.covers(ROOM, at(10), at(11), null));
+        assertFalse(index.covers(ROOM, at(9).minusMinutes(1), at(12), null), "inicia antes");
+        assertFalse(index.covers(ROOM, at(9), at(12).plusMinutes(1), null), "termina despues");
+    }
+
+    @Test
+    void coversRequiresSingleIntervalCoveringWholeRange() {
+        index.put(ROOM, "a", at(9), at(10));
+        index.put(ROOM, "b", at(10), at(11));
+
+        assertFalse(index.covers(ROOM, at(9), at(11), null), "dos intervalos contiguos no cubren el rango");
+    }
+
+    @Test
+    void findsShortIntervalsAfterLongestIsRemoved() {
+        index.put(ROOM, "largo", at(0), at(12));
+        index.put(ROOM, "corto", at(10), at(11));
+        index.remove(ROOM, "largo");
+
+        // el eliminado ya no cuenta aunque la ventana siga siendo amplia
+        assertFalse(index.overlaps(ROOM, at(1), at(2), null));
+        assertFalse(index.covers(ROOM, at(1), at(2), null));
+        assertTrue(index.overlaps(ROOM, at(10).plusMinutes(30), at(12), null));
+        assertTrue(index.covers(ROOM, at(10), at(11), null));
+
+        // un intervalo nuevo que inicia lejos antes del rango se sigue encontrando
+        index.put(ROOM, "otro-largo", at(1), at(11));
+        assertTrue(index.overlaps(ROOM, at(10).plusMinutes(30), at(12), "corto"));
+        assertTrue(index.covers(ROOM, at(9), at(10), "corto"));
+    }
+
+    @Test
+    void excludeIdIgnoresOnlyThatInterval() {
+        index.put(ROOM, "a", at(9), at(10));
+
+        assertFalse(index.overlaps(ROOM, at(9), at(10), "a"));
+        assertFalse(index.covers(ROOM, at(9), at(10), "a"));
+        assertTrue(index.overlaps(ROOM, at(9), at(10), "otro"));
+
+        index.put(ROOM, "b", at(9), at(10));
+        assertTrue(index.overlaps(ROOM, at(9), at(10), "a"), "b tiene el mismo inicio y no se excluye");
+        assertTrue(index.covers(ROOM, at(9), at(10), "a"));
+    }
+
+    @Test
+    void rePutWithMovedStartReplacesPreviousInterval() {
+        index.put(ROOM, "a", at(9), at(10));
+        index.put(ROOM, "a", at(14), at(15));
+
+        assertFalse(index.overlaps(ROOM, at(9), at(10), null), "la posicion anterior ya no existe");
+        assertFalse(index.covers(ROOM, at(9), at(10), null));
+        assertTrue(index.overlaps(ROOM, at(14), at(15), null));
+        assertTrue(index.covers(ROOM, at(14), at(15), null));
+
+        index.remove(ROOM, "a");
+        assertFalse(index.overlaps(ROOM, at(14), at(15), null));
+    }
+
+    @Test
+    void keysAreIndependent() {
+        index.put(ROOM, "a", at(9), at(10));
+
+        assertFalse(index.overlaps("salon-2", at(9), at(10), null));
+        assertFalse(index.covers("salon-2", at(9), at(10), null));
+
+        index.remove("salon-2", "a");
+        assertTrue(index.overlaps(ROOM, at(9), at(10), null));
+
+        index.clear();
+        assertFalse(index.overlaps(ROOM, at(9), at(10), null));
+    }
+
+    private static LocalDateTime at(int hour) {
+        return BASE.plusHours(hour);
+    }
+}
@@ -0,0 +1,302 @@
+package com.compdes.notifications.mails.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.compdes.notifications.mails.enums.MailOutboxStatusEnum;
+import com.compdes.notifications.mails.models.entities.MailOutbox;
+import com.compdes.notifications.mails.repositories.MailOutboxRepository;
+import com.compdes.support.MariaDbIntegrationTest;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.Message;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Pruebas de la bandeja de salida de correos contra un servidor SMTP falso
+ * (GreenMail) escuchando en el puerto configurado para las pruebas.
+ *
+ * Cubren el encolado dentro de la transacción de negocio, el reintento con
+ * espera exponencial cuando el SMTP falla y la recuperación de correos cuya
+ * reserva venció.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@TestPropertySource(properties = {
+        "mail.outbox.max-attempts=3",
+        "mail.outbox.base-backoff-seconds=30",
+        "mail.outbox.max-backoff-seconds=3600",
+        "mail.outbox.lease-seconds=300",
+        "mail.outbox.max-per-second=0"
+})
+class MailOutboxDispatcherTest extends MariaDbIntegrationTest {
+
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(20);
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private GreenMail greenMail;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+        // los correos que dejaron otras pruebas no deben entrar en los lotes de esta
+        awaitNoSendingMails();
+        jdbcTemplate.update("UPDATE mail_outbox SET status = 'SENT' WHERE status <> 'SENT'");
+    }
+
+    @AfterEach
+    void tearDown() {
+        greenMail.stop();
+    }
+
+    @Test
+    void enqueueRequiresTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> mailOutboxService.enqueueRegistrationApproved(uniqueEmail(), "Sin Transaccion", userId()));
+    }
+
+    @Test
+    void enqueuedMailFollowsBusinessTransaction() {
+        String rolledBackEmail = uniqueEmail();
+        transactionTemplate.executeWithoutResult(status -> {
+            mailOutboxService.enqueueRegistrationApproved(rolledBackEmail, "Revertido", userId());
+            status.setRollbackOnly();
+        });
+        assertEquals(0, countByRecipient(rolledBackEmail));
+
+        String committedEmail = uniqueEmail();
+        MailOutbox enqueued = transactionTemplate.execute(
+                status -> mailOutboxService.enqueueRegistrationApproved(committedEmail, "Confirmado", userId()));
+
+        MailOutbox stored = mailOutboxRepository.findById(enqueued.getId()).orElseThrow();
+        assertEquals(MailOutboxStatusEnum.PENDING, stored.getStatus());
+        assertEquals(0, stored.getAttempts());
+        assertFalse(stored.getNextAttemptAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void deliversPendingMailAndMarksItSent() throws Exception {
+        String email = uniqueEmail();
+        String id = enqueue(email);
+
+        mailOutboxDispatcher.drain();
+        MailOutbox sent = awaitStatus(id, MailOutboxStatusEnum.SENT);
+
+        assertEquals(1, sent.getAttempts());
+        assertNotNull(sent.getSentAt());
+        assertEquals(1, receivedBy(email).size());
+    }
+
+    @Test
+    void retriesWithExponentialBackoffUntilAttemptsRunOut() throws Exception {
+        String email = uniqueEmail();
+        String id = enqueue(email);
+        greenMail.stop();
+
+        // primer fallo: se reprograma con la espera base
+        Instant before = Instant.now();
+        mailOutboxDispatcher.drain();
+        MailOutbox firstFailure = awaitAttemptFinished(id, 1);
+        assertEquals(MailOutboxStatusEnum.PENDING, firstFailure.getStatus());
+        assertNotNull(firstFailure.getLastError());
+        assertBackoff(before, firstFailure.getNextAttemptAt(), Duration.ofSeconds(30));
+
+        // antes de que venza la espera el correo no se vuelve a tomar
+        mailOutboxDispatcher.drain();
+        assertEquals(1, mailOutboxRepository.findById(id).orElseThrow().getAttempts());
+
+        // segundo fallo: la espera se duplica
+        makeDue(id);
+        before = Instant.now();
+        mailOutboxDispatcher.drain();
+        MailOutbox secondFailure = awaitAttemptFinished(id, 2);
+        assertEquals(MailOutboxStatusEnum.PENDING, secondFailure.getStatus());
+        assertBackoff(before, secondFailure.getNextAttemptAt(), Duration.ofSeconds(60));
+
+        // tercer fallo: se agotan los intentos
+        makeDue(id);
+        mailOutboxDispatcher.drain();
+        MailOutbox exhausted = awaitAttemptFinished(id, 3);
+        assertEquals(MailOutboxStatusEnum.FAILED, exhausted.getStatus());
+
+        // un correo fallido ya no se reintenta
+        greenMail.start();
+        makeDue(id);
+        mailOutboxDispatcher.drain();
+        assertEquals(MailOutboxStatusEnum.FAILED, mailOutboxRepository.findById(id).orElseThrow().getStatus());
+        assertTrue(receivedBy(email).isEmpty());
+    }
+
+    @Test
+    void deliversOnRetryAfterSmtpRecovers() throws Exception {
+        String email = uniqueEmail();
+        String id = enqueue(email);
+
+        greenMail.stop();
+        mailOutboxDispatcher.drain();
+        assertEquals(MailOutboxStatusEnum.PENDING, awaitAttemptFinished(id, 1).getStatus());
+
+        greenMail.start();
+        makeDue(id);
+        mailOutboxDispatcher.drain();
+        MailOutbox sent = awaitStatus(id, MailOutboxStatusEnum.SENT);
+
+        assertEquals(2, sent.getAttempts());
+        assertNull(sent.getLastError());
+        assertEquals(1, receivedBy(email).size());
+    }
+
+    @Test
+    void recoversMailWhoseLeaseExpired() throws Exception {
+        String email = uniqueEmail();
+        String id = enqueue(email);
+
+        // una instancia toma el correo y se detiene sin confirmar el resultado
+        List<MailOutbox> claimed = mailOutboxService.claimDueBatch(50);
+        assertTrue(claimed.stream().anyMatch(mail -> mail.getId().equals(id)));
+        MailOutbox leased = mailOutboxRepository.findById(id).orElseThrow();
+        assertEquals(MailOutboxStatusEnum.SENDING, leased.getStatus());
+        assertTrue(leased.getNextAttemptAt().isAfter(Instant.now().plus(Duration.ofSeconds(250))));
+
+        // mientras la reserva esta vigente nadie mas lo toma
+        mailOutboxDispatcher.drain();
+        assertEquals(1, mailOutboxRepository.findById(id).orElseThrow().getAttempts());
+        assertTrue(receivedBy(email).isEmpty());
+
+        // al vencer la reserva el correo se recupera y se envia
+        makeDue(id);
+        mailOutboxDispatcher.drain();
+        MailOutbox sent = awaitStatus(id, MailOutboxStatusEnum.SENT);
+
+        assertEquals(2, sent.getAttempts());
+        assertEquals(1, receivedBy(email).size());
+    }
+
+    private String enqueue(String email) {
+        return transactionTemplate
+                .execute(status -> mailOutboxService.enqueueRegistrationApproved(email, "Participante Prueba",
+                        userId()))
+                .getId();
+    }
+
+    /**
+     * Mueve el siguiente intento al pasado, como si la espera o la reserva
+     * hubieran vencido.
+     */
+    private void makeDue(String id) {
+        Timestamp past = Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC).minusDays(1));
+        jdbcTemplate.update("UPDATE mail_outbox SET next_attempt_at = ? WHERE id = ?", past, id);
+    }
+
+    private void assertBackoff(Instant before, Instant nextAttemptAt, Duration expected) {
+        Instant after = Instant.now();
+        assertFalse(nextAttemptAt.isBefore(before.plus(expected).minusSeconds(1)),
+                "la espera es menor a " + expected + ": " + nextAttemptAt);
+        assertFalse(nextAttemptAt.isAfter(after.plus(expected).plusSeconds(1)),
+                "la espera es mayor a " + expected + ": " + nextAttemptAt);
+    }
+
+    /**
+     * Espera a que el intento indicado termine, es decir, que el correo deje de
+     * estar en envío con esa cantidad de intentos.
+     */
+    private MailOutbox awaitAttemptFinished(String id, int attempts) throws InterruptedException {
+        Instant deadline = Instant.now().plus(AWAIT_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            MailOutbox mailOutbox = mailOutboxRepository.findById(id).orElseThrow();
+            if (mailOutbox.getAttempts() == attempts && mailOutbox.getStatus() != MailOutboxStatusEnum.SENDING) {
+                return mailOutbox;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("el intento " + attempts + " del correo " + id + " no termino a tiempo");
+    }
+
+    private MailOutbox awaitStatus(String id, MailOutboxStatusEnum status) throws InterruptedException {
+        Instant deadline = Instant.now().plus(AWAIT_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            MailOutbox mailOutbox = mailOutboxRepository.findById(id).orElseThrow();
+            if (mailOutbox.getStatus() == status) {
+                return mailOutbox;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("el correo " + id + " no llego al estado " + status);
+    }
+
+    private void awaitNoSendingMails() throws InterruptedException {
+        Instant deadline = Instant.now().plus(AWAIT_TIMEOUT);
+        while (mailOutboxService.countByStatus(MailOutboxStatusEnum.SENDING) > 0
+                && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+        }
+    }
+
+    private List<MimeMessage> receivedBy(String email) {
+        return Arrays.stream(greenMail.getReceivedMessages())
+                .filter(message -> hasRecipient(message, email))
+                .toList();
+    }
+
+    private boolean hasRecipient(MimeMessage message, String email) {
+        try {
+            return Arrays.stream(message.getRecipients(Message.RecipientType.TO))
+                    .anyMatch(address -> address.toString().equals(email));
+        } catch (jakarta.mail.MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int countByRecipient(String email) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mail_outbox WHERE recipient_email = ?",
+                Integer.class, email);
+    }
+
+    private static String uniqueEmail() {
+        return "outbox-" + UUID.randomUUID() + "@test.compdes";
+    }
+
+    private static String userId() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,106 @@
+package com.compdes.notifications.mails.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+/**
+ * Verifica que {@link CompiledMailTemplate} genere exactamente el mismo HTML
+ * que Thymeleaf para la plantilla de registro aprobado, incluido el escape de
+ * los valores.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+class CompiledMailTemplateTest {
+
+    private static final String TEMPLATE = "MailRegistrationApproved";
+    private static final String URL = "url";
+    private static final String PARTICIPANT_FULL_NAME = "participantFullName";
+
+    private static SpringTemplateEngine templateEngine;
+    private static CompiledMailTemplate compiledTemplate;
+
+    @BeforeAll
+    static void compileTemplate() {
+        // misma resolucion de plantillas que la autoconfiguracion de Spring Boot
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        compiledTemplate = CompiledMailTemplate.compile(templateEngine, TEMPLATE, List.of(URL, PARTICIPANT_FULL_NAME));
+        assertNotNull(compiledTemplate, "la plantilla de registro aprobado deberia poder precompilarse");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+            "http://localhost:4200/create-participant-user/3f2b1c9e | Ana López",
+            "https://compdes.example/create-participant-user/1 | José Peña Ñúñez",
+            "http://localhost:4200/create-participant-user/x?a=1&b=2 | Tom & Jerry",
+            "`http://evil.example/\"><script>alert(1)</script>` | `<script>alert('x')</script>`",
+            "`http://localhost/a'b\"c` | `O'Brien \"El Gato\" <b>`",
+            "`javascript:alert(\"x\")` | `&amp; ya escapado &lt;`"
+    })
+    void rendersSameHtmlAsThymeleaf(String url, String participantFullName) {
+        String expected = processWithThymeleaf(url, participantFullName);
+        String actual = compiledTemplate.render(Map.of(URL, url, PARTICIPANT_FULL_NAME, participantFullName));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void escapesMarkupInParticipantNameAndUrl() {
+        String html = compiledTemplate.render(Map.of(
+                URL, "http://x/\"onmouseover=\"alert(1)",
+                PARTICIPANT_FULL_NAME, "<img src=x onerror=alert(1)>"));
+
+        assertFalse(html.contains("<img src=x"));
+        assertTrue(html.contains("&lt;img src=x onerror=alert(1)&gt;"));
+        assertFalse(html.contains("\"onmouseover=\""));
+        assertTrue(html.contains("&quot;onmouseover=&quot;"));
+    }
+
+    @Test
+    void rendersMissingValuesAsEmptyLikeThymeleaf() {
+        String expected = processWithThymeleaf("", null);
+
+        Map<String, String> values = new HashMap<>();
+        values.put(URL, "");
+        assertEquals(expected, compiledTemplate.render(values));
+        assertEquals(expected, compiledTemplate.render(Map.of(URL, "", PARTICIPANT_FULL_NAME, "")));
+    }
+
+    @Test
+    void returnsNullWhenVariableDoesNotReachOutput() {
+        assertNull(CompiledMailTemplate.compile(templateEngine, TEMPLATE,
+                List.of(URL, PARTICIPANT_FULL_NAME, "variableInexistente")));
+    }
+
+    private String processWithThymeleaf(String url, String participantFullName) {
+        Context context = new Context();
+        context.setVariable(URL, url);
+        context.setVariable(PARTICIPANT_FULL_NAME, participantFullName);
+        return templateEngine.process(TEMPLATE, context);
+    }
+}
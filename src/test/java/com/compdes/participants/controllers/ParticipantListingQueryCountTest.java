@@ -0,0 +1,83 @@
+package com.compdes.participants.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.compdes.support.MariaDbIntegrationTest;
+import com.compdes.support.TestData;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cuenta las sentencias SQL del listado paginado de participantes.
+ *
+ * Una página se debe resolver con la consulta de los participantes, que trae
+ * sus asociaciones uno a uno en el mismo select, y la consulta del total, sin
+ * importar cuántas filas tenga ni que el mapeo a DTO recorra cada asociación.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ParticipantListingQueryCountTest extends MariaDbIntegrationTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    /**
+     * Mas participantes que el tamaño de página, para que la consulta del total
+     * no se omita.
+     */
+    private static final int PARTICIPANTS = 60;
+
+    /**
+     * Consulta de la página y consulta del total.
+     */
+    private static final long STATEMENTS_PER_PAGE = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void pageOfParticipantsRunsFixedNumberOfStatements() throws Exception {
+        String prefix = "listing-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        // participantes con usuario, para que la asociacion no quede vacia
+        new TestData(jdbcTemplate).approvedParticipantUsers(prefix, PARTICIPANTS);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/participants/all")
+                .with(user("admin").roles("ADMIN"))
+                .param("email", prefix)
+                .param("page", "0")
+                .param("size", String.valueOf(PAGE_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE));
+
+        assertEquals(STATEMENTS_PER_PAGE, statistics.getPrepareStatementCount(), "sentencias por pagina");
+        assertEquals(0, statistics.getCollectionFetchCount(), "colecciones cargadas por separado");
+        assertEquals(0, statistics.getEntityFetchCount(), "entidades cargadas por separado");
+    }
+}
@@ -0,0 +1,165 @@
+package com.compdes.participants.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.compdes.auth.users.services.CompdesUserService;
+import com.compdes.common.config.AppProperties;
+import com.compdes.common.config.JpaBatchingConfig;
+import com.compdes.common.utils.DateFormaterUtil;
+import com.compdes.participants.factories.PaymentProofStrategyFactory;
+import com.compdes.participants.mappers.ParticipantMapperImpl;
+import com.compdes.participants.models.dto.internal.CreateParticipantInternalDTO;
+import com.compdes.participants.models.entities.Participant;
+import com.compdes.participants.strategies.paymentproof.FormPaymentProofStrategy;
+import com.compdes.participants.strategies.paymentproof.ImagePaymentProofStrategy;
+import com.compdes.paymentProofs.mappers.PaymentProofMapperImpl;
+import com.compdes.paymentProofs.models.dto.request.CreatePaymentProofDTO;
+import com.compdes.paymentProofs.services.PaymentProofService;
+import com.compdes.qrCodes.services.QrCodeService;
+import com.compdes.registrationStatus.events.publishers.RegistrationEventPublisher;
+import com.compdes.registrationStatus.factories.RegistrationStatusFactory;
+import com.compdes.registrationStatus.mappers.RegistrationStatusMapperImpl;
+import com.compdes.registrationStatus.services.RegistrationStatusService;
+import com.compdes.storedFiles.services.StoredFileManager;
+import com.compdes.storedFiles.services.StoredFileService;
+import com.compdes.storedFiles.utils.MultipartFileConverter;
+import com.compdes.support.MariaDbTestContainer;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cuenta las sentencias SQL que genera el registro público de un participante.
+ *
+ * Un registro debe ejecutar solo las validaciones de unicidad y una inserción
+ * por fila creada (estado de registro, comprobante y participante), sin
+ * actualizaciones posteriores para enlazar las llaves foráneas ni guardados
+ * repetidos del participante.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "file.upload-dir=${java.io.tmpdir}/compdes-it/uploads"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ ParticipantService.class, ParticipantValidationService.class, RegistrationStatusService.class,
+        RegistrationStatusFactory.class, PaymentProofStrategyFactory.class, FormPaymentProofStrategy.class,
+        ImagePaymentProofStrategy.class, PaymentProofService.class, StoredFileService.class, StoredFileManager.class,
+        MultipartFileConverter.class, ParticipantMapperImpl.class, RegistrationStatusMapperImpl.class,
+        PaymentProofMapperImpl.class, JpaBatchingConfig.class })
+class ParticipantRegistrationStatementCountTest {
+
+    /**
+     * Consultas de validación: correo, documento y número de talonario.
+     */
+    private static final long VALIDATION_QUERIES = 3;
+
+    /**
+     * Filas creadas: estado de registro, comprobante (enlace o imagen) y
+     * participante.
+     */
+    private static final long INSERTS = 3;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        MariaDbTestContainer.registerDatasource(registry);
+    }
+
+    // colaboradores que el registro publico no usa
+    @MockitoBean
+    private CompdesUserService compdesUserService;
+    @MockitoBean
+    private QrCodeService qrCodeService;
+    @MockitoBean
+    private QrParticipantIndexService qrParticipantIndexService;
+    @MockitoBean
+    private RegistrationEventPublisher registrationEventPublisher;
+    @MockitoBean
+    private AppProperties appProperties;
+    @MockitoBean
+    private DateFormaterUtil dateFormaterUtil;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void registrationWithPaymentLinkRunsValidationsAndOneInsertPerRow() {
+        String suffix = uniqueSuffix();
+        CreateParticipantInternalDTO dto = registration(suffix,
+                new CreatePaymentProofDTO("https://app.recurrente.com/checkout-session/ch_" + suffix), null);
+
+        Participant participant = participantService.createParticipant(dto);
+        // el registro se confirma al terminar la transaccion, aqui se fuerza el flush
+        testEntityManager.flush();
+
+        assertNotNull(participant.getPaymentProof());
+        assertStatements();
+    }
+
+    @Test
+    void registrationWithPaymentImageRunsValidationsAndOneInsertPerRow() {
+        String suffix = uniqueSuffix();
+        MockMultipartFile image = new MockMultipartFile("paymentProofImage", "comprobante.png", "image/png",
+                new byte[] { 1, 2, 3 });
+        CreateParticipantInternalDTO dto = registration(suffix, null, image);
+
+        Participant participant = participantService.createParticipant(dto);
+        testEntityManager.flush();
+
+        assertNotNull(participant.getPaymentProofImage());
+        assertStatements();
+    }
+
+    private void assertStatements() {
+        assertEquals(VALIDATION_QUERIES, statistics.getQueryExecutionCount(), "consultas de validacion");
+        assertEquals(INSERTS, statistics.getEntityInsertCount(), "filas insertadas");
+        assertEquals(0, statistics.getEntityUpdateCount(), "actualizaciones posteriores a la insercion");
+        assertEquals(0, statistics.getEntityLoadCount(), "entidades cargadas");
+        assertEquals(VALIDATION_QUERIES + INSERTS, statistics.getPrepareStatementCount(), "sentencias totales");
+    }
+
+    private CreateParticipantInternalDTO registration(String suffix, CreatePaymentProofDTO paymentProof,
+            MockMultipartFile paymentProofImage) {
+        return new CreateParticipantInternalDTO("Participante", "Prueba", "registro-" + suffix + "@test.compdes",
+                "55555555", "COMPDES", suffix, false, paymentProof, paymentProofImage);
+    }
+
+    private static String uniqueSuffix() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 20);
+    }
+}
@@ -0,0 +1,85 @@
+package com.compdes.participants.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.compdes.participants.models.dto.internal.ScannedParticipantDTO;
+import com.compdes.participants.models.report.ParticipantQrRow;
+import com.compdes.participants.repositories.ParticipantRepository;
+
+/**
+ * Pruebas de {@link QrParticipantIndexService}. Sin transacción activa, las
+ * actualizaciones del índice se aplican de inmediato.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@ExtendWith(MockitoExtension.class)
+class QrParticipantIndexServiceTest {
+
+    private static final String QR = "qr-1";
+    private static final String PARTICIPANT = "participant-1";
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Test
+    void renamedParticipantIsResolvedWithNewName() {
+        ParticipantQrRow row = row(QR, PARTICIPANT, false, "Ana", "Lopez");
+        when(participantRepository.findAllQrRows()).thenReturn(List.of(row));
+        QrParticipantIndexService index = loadedIndex();
+
+        index.participantRenamed(QR, "Ana Maria Lopez");
+
+        ScannedParticipantDTO participant = index.find(QR).orElseThrow();
+        assertEquals("Ana Maria Lopez", participant.getDisplayName());
+        assertEquals(PARTICIPANT, participant.getParticipantId());
+        assertFalse(participant.isApproved(), "el cambio de nombre no aprueba al participante");
+        verify(participantRepository, never()).findQrRowsByQrCodeIdIn(anyCollection());
+    }
+
+    @Test
+    void renamingUnindexedParticipantDoesNotAddIt() {
+        when(participantRepository.findAllQrRows()).thenReturn(List.of());
+        QrParticipantIndexService index = loadedIndex();
+
+        index.participantRenamed(QR, "Ana Maria Lopez");
+
+        ParticipantQrRow row = row(QR, PARTICIPANT, true, "Ana Maria", "Lopez");
+        when(participantRepository.findQrRowsByQrCodeIdIn(List.of(QR))).thenReturn(List.of(row));
+        ScannedParticipantDTO participant = index.find(QR).orElseThrow();
+        assertEquals("Ana Maria Lopez", participant.getDisplayName());
+        assertTrue(participant.isApproved());
+    }
+
+    private QrParticipantIndexService loadedIndex() {
+        QrParticipantIndexService index = new QrParticipantIndexService(participantRepository, true);
+        index.afterSingletonsInstantiated();
+        return index;
+    }
+
+    private static ParticipantQrRow row(String qrCodeId, String participantId, boolean approved, String firstName,
+            String lastName) {
+        ParticipantQrRow row = mock(ParticipantQrRow.class);
+        when(row.getQrCodeId()).thenReturn(qrCodeId);
+        when(row.getId()).thenReturn(participantId);
+        when(row.getIsApproved()).thenReturn(approved);
+        when(row.getFirstName()).thenReturn(firstName);
+        when(row.getLastName()).thenReturn(lastName);
+        return row;
+    }
+}
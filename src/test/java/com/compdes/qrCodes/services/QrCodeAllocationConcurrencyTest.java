@@ -0,0 +1,90 @@
+package com.compdes.qrCodes.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.compdes.registrationStatus.services.RegistrationStatusService;
+import com.compdes.support.MariaDbIntegrationTest;
+import com.compdes.support.TestData;
+
+/**
+ * Verifica que la asignación de códigos QR no entregue el mismo código a dos
+ * participantes cuando se aprueban muchos registros a la vez.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+class QrCodeAllocationConcurrencyTest extends MariaDbIntegrationTest {
+
+    private static final int APPROVALS = 1000;
+    private static final int THREADS = 32;
+    private static final String PREFIX = "qr-alloc-";
+
+    @Autowired
+    private RegistrationStatusService registrationStatusService;
+
+    @Autowired
+    private QrCodePoolService qrCodePoolService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentApprovalsReceiveDistinctQrCodes() throws Exception {
+        qrCodePoolService.topUpPool(APPROVALS);
+        List<String> participantIds = new TestData(jdbcTemplate).pendingParticipants(PREFIX, APPROVALS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        try {
+            for (String participantId : participantIds) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        registrationStatusService.approveRegistrationByParticipantId(participantId);
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+            }
+            // todos los hilos compiten desde el mismo instante
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES), "las aprobaciones no terminaron a tiempo");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(failures.isEmpty(), () -> failures.size() + " aprobaciones fallaron: " + failures.peek());
+
+        Integer approved = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM participant p JOIN registration_status rs ON rs.id = p.registration_status_id "
+                        + "WHERE p.email LIKE ? AND rs.is_approved = 1",
+                Integer.class, PREFIX + "%");
+        Integer distinctQrCodes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT p.qr_code_id) FROM participant p WHERE p.email LIKE ?",
+                Integer.class, PREFIX + "%");
+        Integer linkedBack = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM participant p JOIN qr_code q ON q.id = p.qr_code_id AND q.participant_id = p.id "
+                        + "WHERE p.email LIKE ?",
+                Integer.class, PREFIX + "%");
+
+        assertEquals(APPROVALS, approved);
+        assertEquals(APPROVALS, distinctQrCodes);
+        assertEquals(APPROVALS, linkedBack);
+    }
+}
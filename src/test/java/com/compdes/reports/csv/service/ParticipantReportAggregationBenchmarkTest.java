@@ -0,0 +1,129 @@
+package com.compdes.reports.csv.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.compdes.participants.models.dto.request.ParticipantFilterDTO;
+import com.compdes.participants.models.entities.Participant;
+import com.compdes.participants.models.report.InstitutionParticipantCount;
+import com.compdes.participants.services.ParticipantService;
+import com.compdes.support.Benchmarks;
+import com.compdes.support.MariaDbIntegrationTest;
+import com.compdes.support.TestData;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compara, con 100 000 participantes aprobados, los reportes CSV de total y de
+ * participantes por institución contra la forma anterior de calcularlos, que
+ * cargaba todas las entidades y contaba o agrupaba en Java.
+ *
+ * Además de los tiempos, que solo se registran en el log, verifica que ambas
+ * formas den los mismos totales y que los reportes no carguen entidades.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@Tag(Benchmarks.TAG)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ParticipantReportAggregationBenchmarkTest extends MariaDbIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticipantReportAggregationBenchmarkTest.class);
+
+    private static final int PARTICIPANTS = 100_000;
+    private static final int WARMUPS = 2;
+    private static final int RUNS = 5;
+
+    private static final List<String> ORGANISATIONS = IntStream.range(0, 25)
+            .mapToObj(i -> "Universidad " + i)
+            .toList();
+
+    private static final ParticipantFilterDTO APPROVED = new ParticipantFilterDTO(null, null, null, null, null, null,
+            null, null, null, null, null, true, null, null);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private TotalParticipantsCSVReportService totalParticipantsCSVReportService;
+
+    @Autowired
+    private ParticipantsByInstitutionCSVReportService participantsByInstitutionCSVReportService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void reportsAggregateInDatabaseWithoutLoadingEntities() {
+        String prefix = "bench-report-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        new TestData(jdbcTemplate).approvedParticipants(prefix, PARTICIPANTS, ORGANISATIONS);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // forma anterior: una sola carga de las entidades sirve para ambos reportes
+        statistics.clear();
+        long start = System.nanoTime();
+        List<Participant> participants = participantService.getAllParticipants(APPROVED);
+        Map<String, Long> entityCounts = participants.stream()
+                .collect(Collectors.groupingBy(Participant::getOrganisation, Collectors.counting()));
+        Duration entityTime = Duration.ofNanos(System.nanoTime() - start);
+        long entityLoads = statistics.getEntityLoadCount();
+        long entityStatements = statistics.getPrepareStatementCount();
+        long approvedParticipants = participants.size();
+
+        // reportes actuales
+        statistics.clear();
+        Duration aggregateTime = Benchmarks.median(WARMUPS, RUNS, () -> {
+            totalParticipantsCSVReportService.exportTotalParticipantsCSVReport();
+            participantsByInstitutionCSVReportService.exportParticipantsByInstitutionCSVReport();
+        });
+        long aggregateLoads = statistics.getEntityLoadCount();
+        long aggregateStatements = statistics.getPrepareStatementCount() / (WARMUPS + RUNS);
+
+        List<InstitutionParticipantCount> aggregateCounts = participantService
+                .countApprovedParticipantsByInstitution();
+        long aggregateTotal = aggregateCounts.stream().mapToLong(InstitutionParticipantCount::getTotalParticipants)
+                .sum();
+
+        log.info("Reportes con {} participantes aprobados: entidades {} ms ({} sentencias, {} entidades cargadas), "
+                + "agregacion {} ms ({} sentencias por ejecucion)", approvedParticipants, entityTime.toMillis(),
+                entityStatements, entityLoads, aggregateTime.toMillis(), aggregateStatements);
+
+        assertTrue(approvedParticipants >= PARTICIPANTS);
+        assertEquals(approvedParticipants, participantService.countApprovedParticipants());
+        assertEquals(approvedParticipants, aggregateTotal);
+        for (String organisation : ORGANISATIONS) {
+            assertEquals(entityCounts.get(organisation), countFor(aggregateCounts, organisation), organisation);
+        }
+        assertEquals(0, aggregateLoads, "los reportes no deben cargar entidades");
+        assertTrue(entityLoads >= PARTICIPANTS);
+    }
+
+    private static Long countFor(List<InstitutionParticipantCount> counts, String organisation) {
+        return counts.stream()
+                .filter(count -> count.getInstitution().trim().equalsIgnoreCase(organisation))
+                .map(InstitutionParticipantCount::getTotalParticipants)
+                .findFirst()
+                .orElse(null);
+    }
+}
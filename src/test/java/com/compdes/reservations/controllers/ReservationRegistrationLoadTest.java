@@ -0,0 +1,104 @@
+package com.compdes.reservations.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.compdes.support.MariaDbIntegrationTest;
+import com.compdes.support.TestData;
+
+/**
+ * Prueba de carga del registro de reservaciones: muchos participantes
+ * reservan al mismo tiempo el mismo taller y nunca se admiten más
+ * reservaciones que la capacidad del salón.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@AutoConfigureMockMvc
+class ReservationRegistrationLoadTest extends MariaDbIntegrationTest {
+
+    private static final int CAPACITY = 30;
+    private static final int PARTICIPANTS = 300;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentRegistrationsNeverOverbookWorkshop() throws Exception {
+        TestData testData = new TestData(jdbcTemplate);
+        String activityId = testData.upcomingWorkshop("Carga de reservaciones", CAPACITY);
+        List<String> usernames = testData.approvedParticipantUsers("load-resv-", PARTICIPANTS);
+        String body = "{\"activityId\":\"" + activityId + "\"}";
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<Integer, AtomicInteger> responsesByStatus = new ConcurrentHashMap<>();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        try {
+            for (String username : usernames) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        int status = mockMvc.perform(post("/api/v1/reservations/register")
+                                .with(user(username).roles("PARTICIPANT"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                                .andReturn().getResponse().getStatus();
+                        responsesByStatus.computeIfAbsent(status, key -> new AtomicInteger()).incrementAndGet();
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+            }
+            // todas las solicitudes compiten desde el mismo instante
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES), "las reservaciones no terminaron a tiempo");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(failures.isEmpty(), () -> failures.size() + " solicitudes fallaron: " + failures.peek());
+
+        // solo se admiten tantas reservaciones como cupos, el resto se rechaza por falta de espacio
+        assertEquals(CAPACITY, count(responsesByStatus, 201), () -> "respuestas: " + responsesByStatus);
+        assertEquals(PARTICIPANTS - CAPACITY, count(responsesByStatus, 400), () -> "respuestas: " + responsesByStatus);
+
+        Integer reservations = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation WHERE activity_id = ?", Integer.class, activityId);
+        Integer reservedCount = jdbcTemplate.queryForObject(
+                "SELECT reserved_count FROM activity WHERE id = ?", Integer.class, activityId);
+        assertEquals(CAPACITY, reservations);
+        assertEquals(CAPACITY, reservedCount);
+    }
+
+    private static int count(Map<Integer, AtomicInteger> responsesByStatus, int status) {
+        AtomicInteger count = responsesByStatus.get(status);
+        return count == null ? 0 : count.get();
+    }
+}
@@ -0,0 +1,61 @@
+package com.compdes.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Mediciones simples para las pruebas de rendimiento que dependen de la base de
+ * datos, donde cada operación tarda milisegundos y un arnés como JMH no aporta
+ * precisión adicional.
+ *
+ * Las pruebas de rendimiento se marcan con la etiqueta {@code benchmark} y solo
+ * se ejecutan con el perfil de Maven del mismo nombre
+ * ({@code mvn -Pbenchmark test}).
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public final class Benchmarks {
+
+    /**
+     * Etiqueta de JUnit de las pruebas de rendimiento.
+     */
+    public static final String TAG = "benchmark";
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Ejecuta una operación varias veces y devuelve la mediana de las
+     * ejecuciones medidas.
+     *
+     * @param warmups ejecuciones iniciales que no se miden
+     * @param runs    ejecuciones medidas
+     * @param action  operación a medir
+     * @return la mediana del tiempo de las ejecuciones medidas
+     */
+    public static Duration median(int warmups, int runs, Runnable action) {
+        for (int i = 0; i < warmups; i++) {
+            action.run();
+        }
+        long[] elapsed = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            elapsed[i] = time(action).toNanos();
+        }
+        Arrays.sort(elapsed);
+        return Duration.ofNanos(elapsed[runs / 2]);
+    }
+
+    /**
+     * Mide una sola ejecución de una operación.
+     *
+     * @param action operación a medir
+     * @return el tiempo que tardó la operación
+     */
+    public static Duration time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
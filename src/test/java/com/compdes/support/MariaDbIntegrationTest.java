@@ -0,0 +1,32 @@
+package com.compdes.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base de las pruebas de integración que necesitan la base de datos real.
+ *
+ * Conecta la aplicación a la instancia de {@link MariaDbTestContainer}; Flyway
+ * aplica las migraciones al iniciar el contexto. Las pruebas se omiten si no
+ * hay Docker disponible.
+ *
+ * Las pruebas comparten la base de datos, por lo que cada una debe crear sus
+ * propios datos (ver {@link TestData}) y filtrar sus verificaciones por ellos.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@SpringBootTest
+@ActiveProfiles("it")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MariaDbIntegrationTest {
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        MariaDbTestContainer.registerDatasource(registry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.compdes.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.MariaDBContainer;
+
+/**
+ * Instancia de MariaDB compartida por todas las pruebas que usan la base de
+ * datos real, tanto de contexto completo como de capa JPA.
+ *
+ * Usa la misma versión que producción y el mismo driver de MySQL con el que se
+ * conecta la aplicación, con los lotes JDBC reescritos como en producción (ver
+ * {@code JpaBatchingConfig}). El contenedor se inicia en el primer uso y se
+ * reutiliza entre clases de prueba.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public final class MariaDbTestContainer {
+
+    private static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:10.11")
+            .withDatabaseName("compdes");
+
+    private MariaDbTestContainer() {
+    }
+
+    /**
+     * Inicia el contenedor si aún no está corriendo y registra la conexión como
+     * datasource de la prueba.
+     *
+     * @param registry registro de propiedades dinámicas de la prueba
+     */
+    public static void registerDatasource(DynamicPropertyRegistry registry) {
+        if (!MARIADB.isRunning()) {
+            MARIADB.start();
+        }
+        registry.add("spring.datasource.url", () -> "jdbc:mysql://" + MARIADB.getHost() + ":"
+                + MARIADB.getMappedPort(3306) + "/" + MARIADB.getDatabaseName()
+                + "?rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+    }
+}
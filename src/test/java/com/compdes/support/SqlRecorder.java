@@ -0,0 +1,49 @@
+package com.compdes.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registra el SQL que Hibernate genera en el hilo actual, para que las pruebas
+ * puedan analizar las sentencias reales de los repositorios.
+ *
+ * Se activa en una prueba con la propiedad
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}
+ * apuntando a esta clase; fuera de {@link #record} no guarda nada.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class SqlRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Ejecuta una operación y devuelve las sentencias que generó, en orden.
+     *
+     * @param action operación a ejecutar
+     * @return el SQL de cada sentencia preparada durante la operación
+     */
+    public static List<String> record(Runnable action) {
+        List<String> statements = new ArrayList<>();
+        STATEMENTS.set(statements);
+        try {
+            action.run();
+        } finally {
+            STATEMENTS.remove();
+        }
+        return statements;
+    }
+}
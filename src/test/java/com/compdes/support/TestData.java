@@ -0,0 +1,191 @@
+package com.compdes.support;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.compdes.common.utils.JdbcTimestamps;
+
+/**
+ * Inserta directamente por JDBC los datos que necesitan las pruebas de
+ * integración.
+ *
+ * Los datos se crean en lote y sin pasar por los servicios, para que la
+ * preparación no interfiera con lo que mide cada prueba. Cada llamada usa un
+ * prefijo distinto en los campos únicos, por lo que varias pruebas pueden
+ * compartir la misma base de datos.
+ *
+ * @author Luis Monterroso
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public final class TestData {
+
+    private static final String INSERT_REGISTRATION_STATUS_SQL = "INSERT INTO registration_status (id, created_at, is_approved) VALUES (?, ?, ?)";
+    private static final String INSERT_PARTICIPANT_SQL = "INSERT INTO participant (id, created_at, email, first_name, identification_document, is_author, is_guest, last_name, organisation, phone, registration_status_id) VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?, ?, ?)";
+    private static final String INSERT_USER_SQL = "INSERT INTO compdes_user (id, created_at, role, username, participant_id) VALUES (?, ?, 'PARTICIPANT', ?, ?)";
+    private static final String LINK_USER_SQL = "UPDATE participant SET compdes_user_id = ? WHERE id = ?";
+    private static final String INSERT_MODULE_SQL = "INSERT INTO module_uni (id, created_at, name) VALUES (?, ?, ?)";
+    private static final String INSERT_CLASSROOM_SQL = "INSERT INTO classroom (id, created_at, name, module_uni_id, capacity) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_WORKSHOP_SQL = "INSERT INTO activity (id, created_at, description, init_scheduled_date, end_scheduled_date, name, type, classroom_id, capacity) VALUES (?, ?, ?, ?, ?, ?, 1, ?, ?)";
+    private static final String INSERT_RESERVATION_SQL = "INSERT INTO reservation (id, created_at, activity_id, participant_id) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_ATTENDANCE_SQL = "INSERT INTO attendance (id, created_at, activity_id, participant_id, entry_time) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestData(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Crea participantes con su registro pendiente de aprobación.
+     *
+     * @param prefix prefijo único de la prueba para correo y documento
+     * @param count  cantidad de participantes
+     * @return IDs de los participantes creados
+     */
+    public List<String> pendingParticipants(String prefix, int count) {
+        return insertParticipants(prefix, count, false, List.of("COMPDES"));
+    }
+
+    /**
+     * Crea participantes con su registro aprobado y sin usuario, repartidos en
+     * orden entre las instituciones indicadas.
+     *
+     * @param prefix        prefijo único de la prueba para correo y documento
+     * @param count         cantidad de participantes
+     * @param organisations instituciones a asignar
+     * @return IDs de los participantes creados
+     */
+    public List<String> approvedParticipants(String prefix, int count, List<String> organisations) {
+        return insertParticipants(prefix, count, true, organisations);
+    }
+
+    /**
+     * Crea participantes aprobados, cada uno con su usuario. El nombre de usuario
+     * de cada participante es el prefijo seguido de su posición.
+     *
+     * @param prefix prefijo único de la prueba para correo, documento y usuario
+     * @param count  cantidad de participantes
+     * @return nombres de usuario creados
+     */
+    public List<String> approvedParticipantUsers(String prefix, int count) {
+        Timestamp now = JdbcTimestamps.nowUtc();
+        List<String> participantIds = pendingParticipants(prefix, count);
+        jdbcTemplate.update("UPDATE registration_status rs JOIN participant p ON p.registration_status_id = rs.id "
+                + "SET rs.is_approved = 1 WHERE p.email LIKE ?", prefix + "%");
+
+        List<Object[]> users = new ArrayList<>(count);
+        List<Object[]> links = new ArrayList<>(count);
+        List<String> usernames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String userId = UUID.randomUUID().toString();
+            users.add(new Object[] { userId, now, prefix + i, participantIds.get(i) });
+            links.add(new Object[] { userId, participantIds.get(i) });
+            usernames.add(prefix + i);
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, users);
+        jdbcTemplate.batchUpdate(LINK_USER_SQL, links);
+        return usernames;
+    }
+
+    private List<String> insertParticipants(String prefix, int count, boolean approved, List<String> organisations) {
+        Timestamp now = JdbcTimestamps.nowUtc();
+        List<Object[]> statuses = new ArrayList<>(count);
+        List<Object[]> participants = new ArrayList<>(count);
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String participantId = UUID.randomUUID().toString();
+            String statusId = UUID.randomUUID().toString();
+            statuses.add(new Object[] { statusId, now, approved });
+            participants.add(new Object[] { participantId, now, prefix + i + "@test.compdes", "Participante",
+                    prefix + i, "Prueba " + i, organisations.get(i % organisations.size()), "00000000", statusId });
+            ids.add(participantId);
+        }
+        jdbcTemplate.batchUpdate(INSERT_REGISTRATION_STATUS_SQL, statuses);
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT_SQL, participants);
+        return ids;
+    }
+
+    /**
+     * Crea un taller programado para el día siguiente en un salón propio.
+     *
+     * @param name     nombre del taller
+     * @param capacity capacidad del salón y del taller
+     * @return ID del taller creado
+     */
+    public String upcomingWorkshop(String name, int capacity) {
+        return scheduledWorkshops(name, 1, capacity).get(0);
+    }
+
+    /**
+     * Crea talleres consecutivos de dos horas en un mismo salón, el primero
+     * programado para el día siguiente.
+     *
+     * @param name     nombre base de los talleres
+     * @param count    cantidad de talleres
+     * @param capacity capacidad del salón y de cada taller
+     * @return IDs de los talleres creados, en orden de horario
+     */
+    public List<String> scheduledWorkshops(String name, int count, int capacity) {
+        Timestamp now = JdbcTimestamps.nowUtc();
+        String moduleId = UUID.randomUUID().toString();
+        String classroomId = UUID.randomUUID().toString();
+        long firstStart = now.getTime() + 24L * 60 * 60 * 1000;
+        long duration = 2L * 60 * 60 * 1000;
+
+        jdbcTemplate.update(INSERT_MODULE_SQL, moduleId, now, "Modulo " + name);
+        jdbcTemplate.update(INSERT_CLASSROOM_SQL, classroomId, now, "Salon " + name, moduleId, capacity);
+
+        List<Object[]> workshops = new ArrayList<>(count);
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String activityId = UUID.randomUUID().toString();
+            Timestamp start = new Timestamp(firstStart + i * duration);
+            Timestamp end = new Timestamp(start.getTime() + duration);
+            workshops.add(new Object[] { activityId, now, "Taller de prueba", start, end,
+                    count == 1 ? name : name + " " + i, classroomId, capacity });
+            ids.add(activityId);
+        }
+        jdbcTemplate.batchUpdate(INSERT_WORKSHOP_SQL, workshops);
+        return ids;
+    }
+
+    /**
+     * Crea una reservación por cada par de participante y taller, sin ocupar
+     * cupos del contador de la actividad.
+     *
+     * @param participantIds IDs de los participantes
+     * @param activityIds    IDs de los talleres, en la misma posición que su
+     *                       participante
+     */
+    public void reservations(List<String> participantIds, List<String> activityIds) {
+        Timestamp now = JdbcTimestamps.nowUtc();
+        List<Object[]> rows = new ArrayList<>(participantIds.size());
+        for (int i = 0; i < participantIds.size(); i++) {
+            rows.add(new Object[] { UUID.randomUUID().toString(), now, activityIds.get(i), participantIds.get(i) });
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, rows);
+    }
+
+    /**
+     * Registra la entrada de cada participante a la actividad en la misma
+     * posición, sin salida.
+     *
+     * @param participantIds IDs de los participantes
+     * @param activityIds    IDs de las actividades, en la misma posición que su
+     *                       participante
+     */
+    public void attendances(List<String> participantIds, List<String> activityIds) {
+        Timestamp now = JdbcTimestamps.nowUtc();
+        List<Object[]> rows = new ArrayList<>(participantIds.size());
+        for (int i = 0; i < participantIds.size(); i++) {
+            rows.add(new Object[] { UUID.randomUUID().toString(), now, activityIds.get(i), participantIds.get(i),
+                    now });
+        }
+        jdbcTemplate.batchUpdate(INSERT_ATTENDANCE_SQL, rows);
+    }
+}